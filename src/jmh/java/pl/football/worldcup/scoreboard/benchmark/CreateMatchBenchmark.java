@@ -0,0 +1,76 @@
+package pl.football.worldcup.scoreboard.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.football.worldcup.scoreboard.FootballMatchFactory;
+import pl.football.worldcup.scoreboard.MatchFactory;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+
+/**
+ * Compares {@code createMatch} with the previous per-call {@code String.matches} validation over 48 recurring teams.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreateMatchBenchmark {
+
+    private static final int TEAMS = 48;
+
+    private MatchFactory matchFactory;
+    private String[] teamNames;
+    private LocalDateTime startTime;
+    private int matches;
+
+    @Setup
+    public void setUp() {
+        matchFactory = new FootballMatchFactory();
+        teamNames = new String[TEAMS];
+        for (int i = 0; i < TEAMS; i++) {
+            teamNames[i] = "Team" + i;
+        }
+        startTime = LocalDateTime.of(2024, 9, 1, 1, 1, 1, 0);
+    }
+
+    @Benchmark
+    public FootballMatch stringMatchesValidation() {
+        int match = nextMatch();
+        String homeTeam = teamNames[match % TEAMS];
+        String awayTeam = teamNames[(match + 1) % TEAMS];
+        if (!homeTeam.matches("^\\w{3,}$") || !awayTeam.matches("^\\w{3,}$")) {
+            throw new IllegalStateException();
+        }
+        return FootballMatch.builder()
+                .id(0L)
+                .homeTeam(homeTeam)
+                .awayTeam(awayTeam)
+                .startTime(startTime)
+                .matchScore(new MatchScore(0, 0))
+                .build();
+    }
+
+    @Benchmark
+    public FootballMatch teamRegistry() {
+        int match = nextMatch();
+        return matchFactory.createMatch(teamNames[match % TEAMS], teamNames[(match + 1) % TEAMS], startTime);
+    }
+
+    private int nextMatch() {
+        matches = (matches + 1) & Integer.MAX_VALUE;
+        return matches;
+    }
+}
@@ -0,0 +1,79 @@
+package pl.football.worldcup.scoreboard.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.football.worldcup.scoreboard.FootballWorldCupScoreBoard;
+import pl.football.worldcup.scoreboard.ScoreBoard;
+import pl.football.worldcup.scoreboard.eventloop.EventLoopOptions;
+import pl.football.worldcup.scoreboard.eventloop.EventLoopScoreBoard;
+import pl.football.worldcup.scoreboard.eventloop.WaitStrategy;
+import pl.football.worldcup.scoreboard.storage.ConcurrentInMemoryStorage;
+import pl.football.worldcup.scoreboard.storage.InMemoryStorage;
+
+/**
+ * Lock-based concurrent board against the single-writer event loop. Sweep producers with {@code -t}, e.g.
+ * {@code for t in 1 2 4 8 16 32; do java -jar target/benchmarks.jar EventLoop -t $t -rf json -rff event-loop-t$t.json; done}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventLoopBenchmark {
+
+    private static final int MATCHES = 1_000;
+
+    @Param({"concurrent", "eventLoop-BUSY_SPIN", "eventLoop-YIELDING", "eventLoop-BLOCKING"})
+    private String board;
+
+    private ScoreBoard scoreBoard;
+    private long[] ids;
+
+    @Setup
+    public void setUp() {
+        if (board.equals("concurrent")) {
+            scoreBoard = new FootballWorldCupScoreBoard(new ConcurrentInMemoryStorage());
+        } else {
+            WaitStrategy waitStrategy = WaitStrategy.valueOf(board.substring(board.indexOf('-') + 1));
+            scoreBoard = new EventLoopScoreBoard(new FootballWorldCupScoreBoard(new InMemoryStorage()), EventLoopOptions.of(waitStrategy));
+        }
+        ids = new long[MATCHES];
+        LocalDateTime startTime = LocalDateTime.of(2024, 9, 1, 1, 1, 1, 0);
+        for (int i = 0; i < MATCHES; i++) {
+            ids[i] = scoreBoard.createMatch("Home" + i, "Away" + i, startTime.plusSeconds(i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (scoreBoard instanceof EventLoopScoreBoard eventLoopScoreBoard) {
+            eventLoopScoreBoard.close();
+        }
+    }
+
+    @Benchmark
+    public boolean updateMatch(Producer producer) {
+        return scoreBoard.updateMatch(ids[producer.random.nextInt(MATCHES)], producer.random.nextInt(8), producer.random.nextInt(8));
+    }
+
+    @State(Scope.Thread)
+    public static class Producer {
+
+        private final SplittableRandom random = new SplittableRandom();
+    }
+}
@@ -0,0 +1,97 @@
+package pl.football.worldcup.scoreboard.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.football.worldcup.scoreboard.FootballMatchFactory;
+import pl.football.worldcup.scoreboard.FootballWorldCupScoreBoard;
+import pl.football.worldcup.scoreboard.MatchFactory;
+import pl.football.worldcup.scoreboard.ScoreBoard;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchResult;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.storage.ConcurrentInMemoryStorage;
+import pl.football.worldcup.scoreboard.storage.MatchStorage;
+
+/**
+ * Half of the updates are invalid: a quarter target unknown ids and a quarter carry a negative score.
+ * {@link #exceptionSignaling()} is the previous update path, {@link #resultSignaling()} the result-typed one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InvalidUpdateBenchmark {
+
+    private static final int MATCHES = 1_000;
+
+    private MatchFactory matchFactory;
+    private MatchStorage matchStorage;
+    private ScoreBoard scoreBoard;
+    private long[] ids;
+    private int updates;
+
+    @Setup
+    public void setUp() {
+        matchFactory = new FootballMatchFactory();
+        matchStorage = new ConcurrentInMemoryStorage();
+        scoreBoard = new FootballWorldCupScoreBoard(matchFactory, matchStorage);
+        ids = new long[MATCHES];
+        LocalDateTime startTime = LocalDateTime.of(2024, 9, 1, 1, 1, 1, 0);
+        for (int i = 0; i < MATCHES; i++) {
+            ids[i] = scoreBoard.createMatch("Home" + i, "Away" + i, startTime.plusSeconds(i));
+        }
+    }
+
+    @Benchmark
+    public boolean exceptionSignaling() {
+        int update = nextUpdate();
+        try {
+            FootballMatch match = matchStorage.getMatch(id(update));
+            return matchStorage.compareAndSetMatch(match, matchFactory.updateMatchScore(match, score(update))).isPresent();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean resultSignaling() {
+        int update = nextUpdate();
+        if (!(matchStorage.findMatch(id(update)) instanceof MatchResult.Success current)
+                || !(matchFactory.tryUpdateMatchScore(current.match(), score(update)) instanceof MatchResult.Success changed)) {
+            return false;
+        }
+        return matchStorage.tryCompareAndSetMatch(current.match(), changed.match()) instanceof MatchResult.Success;
+    }
+
+    @Benchmark
+    public boolean scoreBoardUpdate() {
+        int update = nextUpdate();
+        return scoreBoard.updateMatch(id(update), score(update));
+    }
+
+    private Long id(int update) {
+        return (update & 3) == 0 ? -ids[update % MATCHES] : ids[update % MATCHES];
+    }
+
+    private MatchScore score(int update) {
+        return (update & 3) == 1 ? new MatchScore(-1, 0) : new MatchScore(update & 7, update & 3);
+    }
+
+    private int nextUpdate() {
+        updates = (updates + 1) & Integer.MAX_VALUE;
+        return updates;
+    }
+}
@@ -0,0 +1,138 @@
+package pl.football.worldcup.scoreboard.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.football.worldcup.scoreboard.FootballMatchFactory;
+import pl.football.worldcup.scoreboard.MatchFactory;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.storage.ConcurrentInMemoryStorage;
+import pl.football.worldcup.scoreboard.storage.journal.FsyncPolicy;
+import pl.football.worldcup.scoreboard.storage.journal.JournalOptions;
+import pl.football.worldcup.scoreboard.storage.journal.JournaledMatchStorage;
+
+@Fork(1)
+public class JournalBenchmark {
+
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2024, 9, 1, 1, 1, 1, 0);
+    private static final int MATCHES = 1_000;
+
+    @State(Scope.Benchmark)
+    public static class WriteState {
+
+        @Param({"EVERY_WRITE", "GROUP_COMMIT", "PERIODIC", "NEVER"})
+        private FsyncPolicy fsyncPolicy;
+
+        private Path directory;
+        private JournaledMatchStorage matchStorage;
+        private long[] ids;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("journal-write");
+            matchStorage = new JournaledMatchStorage(new ConcurrentInMemoryStorage(), JournalOptions.of(directory, fsyncPolicy));
+            MatchFactory matchFactory = new FootballMatchFactory();
+            ids = new long[MATCHES];
+            for (int i = 0; i < MATCHES; i++) {
+                ids[i] = matchStorage.saveMatch(matchFactory.createMatch("Home" + i, "Away" + i, START_TIME)).id();
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            matchStorage.close();
+            deleteDirectory(directory);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Goals {
+
+        private int goals;
+
+        int next() {
+            goals = (goals + 1) & Integer.MAX_VALUE;
+            return goals;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class RecoveryState {
+
+        @Param({"1000000"})
+        private int events;
+
+        private Path directory;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("journal-recovery");
+            MatchFactory matchFactory = new FootballMatchFactory();
+            int matches = events / 4;
+            try (JournaledMatchStorage matchStorage = new JournaledMatchStorage(new ConcurrentInMemoryStorage(),
+                    JournalOptions.of(directory, FsyncPolicy.NEVER).withSnapshotEvery(Long.MAX_VALUE))) {
+                for (int i = 0; i < matches; i++) {
+                    FootballMatch match = matchStorage.saveMatch(matchFactory.createMatch("Home" + i % 48, "Away" + i % 47, START_TIME.plusSeconds(i)));
+                    for (int goal = 1; goal < 4; goal++) {
+                        matchStorage.updateScore(match.id(), goal, 0);
+                    }
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            deleteDirectory(directory);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 2, time = 2)
+    @Measurement(iterations = 3, time = 2)
+    @Threads(4)
+    public boolean journaledScoreUpdate(WriteState state, Goals goals) {
+        int goal = goals.next();
+        return state.matchStorage.updateScore(state.ids[goal % MATCHES], goal & 7, goal & 3);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public int recover(RecoveryState state) {
+        try (JournaledMatchStorage matchStorage = new JournaledMatchStorage(new ConcurrentInMemoryStorage(),
+                JournalOptions.of(state.directory, FsyncPolicy.NEVER).withSnapshotEvery(Long.MAX_VALUE))) {
+            return matchStorage.getAllMatches().size();
+        }
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
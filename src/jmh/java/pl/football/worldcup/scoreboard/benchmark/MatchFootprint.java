@@ -0,0 +1,45 @@
+package pl.football.worldcup.scoreboard.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import org.openjdk.jol.info.GraphLayout;
+import pl.football.worldcup.scoreboard.FootballMatchFactory;
+import pl.football.worldcup.scoreboard.MatchFactory;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.storage.ConcurrentInMemoryStorage;
+import pl.football.worldcup.scoreboard.storage.InMemoryStorage;
+import pl.football.worldcup.scoreboard.storage.MatchStorage;
+import pl.football.worldcup.scoreboard.storage.SlotMatchStorage;
+
+/**
+ * Prints the retained heap per live match for each storage, measured with JOL.
+ * Team names are shared between matches, so the numbers show the structural cost of a match.
+ * <pre>
+ * java -cp target/benchmarks.jar pl.football.worldcup.scoreboard.benchmark.MatchFootprint [matches]
+ * </pre>
+ */
+public class MatchFootprint {
+
+    private static final String[] TEAMS = {"Mexico", "Canada", "Spain", "Brazil", "Germany", "France", "Uruguay", "Italy"};
+
+    public static void main(String[] args) {
+        int matches = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        report("InMemoryStorage", InMemoryStorage::new, matches);
+        report("ConcurrentInMemoryStorage", ConcurrentInMemoryStorage::new, matches);
+        report("SlotMatchStorage", SlotMatchStorage::new, matches);
+    }
+
+    private static void report(String name, Supplier<MatchStorage> storageSupplier, int matches) {
+        MatchFactory matchFactory = new FootballMatchFactory();
+        MatchStorage matchStorage = storageSupplier.get();
+        LocalDateTime startTime = LocalDateTime.of(2024, 9, 1, 1, 1, 1, 0);
+        for (int i = 0; i < matches; i++) {
+            FootballMatch match = matchStorage.saveMatch(matchFactory.createMatch(TEAMS[i % TEAMS.length], TEAMS[(i + 1) % TEAMS.length],
+                    startTime.plusSeconds(i)));
+            matchStorage.updateScore(match.id(), i % 7, i % 5);
+        }
+        long totalSize = GraphLayout.parseInstance(matchStorage).totalSize();
+        System.out.printf("%-26s %,12d bytes %8.1f bytes/match%n", name, totalSize, (double) totalSize / matches);
+    }
+}
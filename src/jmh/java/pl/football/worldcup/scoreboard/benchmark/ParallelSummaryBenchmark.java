@@ -0,0 +1,81 @@
+package pl.football.worldcup.scoreboard.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.summary.SummaryIndex;
+import pl.football.worldcup.scoreboard.summary.SummarySorter;
+
+/**
+ * Sequential against fork-join summary sorting over board sizes around {@link SummarySorter#PARALLEL_THRESHOLD};
+ * the size where {@code parallelSort} overtakes {@code sequentialSort} is the crossover. {@code bulkIndex} is the
+ * summary index build a board does when it opens over a populated storage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelSummaryBenchmark {
+
+    @Param({"1024", "8192", "65536", "262144", "1048576"})
+    private int liveMatches;
+
+    private List<FootballMatch> matches;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime startTime = LocalDateTime.of(2024, 9, 1, 1, 1, 1, 0);
+        matches = new ArrayList<>(liveMatches);
+        for (int i = 0; i < liveMatches; i++) {
+            matches.add(FootballMatch.builder()
+                    .id(i + 1L)
+                    .homeTeam("Home" + i)
+                    .awayTeam("Away" + i)
+                    .startTime(startTime.plusSeconds(random.nextInt(liveMatches)))
+                    .matchScore(new MatchScore(random.nextInt(7), random.nextInt(5)))
+                    .build());
+        }
+        Collections.shuffle(matches, random);
+    }
+
+    @Benchmark
+    public List<FootballMatch> sequentialSort() {
+        return SummarySorter.sortSequential(matches);
+    }
+
+    @Benchmark
+    public List<FootballMatch> parallelSort() {
+        return SummarySorter.sortParallel(matches, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public List<FootballMatch> autoSort() {
+        return SummarySorter.sort(matches);
+    }
+
+    @Benchmark
+    public List<FootballMatch> bulkIndex() {
+        return new SummaryIndex(matches).toList();
+    }
+}
@@ -0,0 +1,120 @@
+package pl.football.worldcup.scoreboard.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.football.worldcup.scoreboard.FootballWorldCupScoreBoard;
+import pl.football.worldcup.scoreboard.ScoreBoard;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.storage.ConcurrentInMemoryStorage;
+import pl.football.worldcup.scoreboard.storage.InMemoryStorage;
+import pl.football.worldcup.scoreboard.storage.MatchStorage;
+
+/**
+ * Whole {@link ScoreBoard} API over a board with {@code boardSize} live matches. {@link #mixed(Worker)} reads the
+ * summary in {@code readPercent} of the calls and updates a score otherwise. {@code InMemoryStorage} is not
+ * thread-safe, so run it with one thread only; {@link ScoreBoardBenchmarkRunner} sweeps thread counts accordingly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoreBoardApiBenchmark {
+
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2024, 9, 1, 1, 1, 1, 0);
+
+    @Param({"100", "10000", "100000"})
+    private int boardSize;
+
+    @Param({"0", "50", "90"})
+    private int readPercent;
+
+    @Param({"InMemoryStorage", "ConcurrentInMemoryStorage"})
+    private String storage;
+
+    private ScoreBoard scoreBoard;
+    private long[] ids;
+    private final AtomicLong finishedMatches = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        scoreBoard = new FootballWorldCupScoreBoard(newStorage());
+        ids = new long[boardSize];
+        for (int i = 0; i < boardSize; i++) {
+            ids[i] = scoreBoard.createMatch("Home" + i % 48, "Away" + i % 47, START_TIME.plusSeconds(i));
+            scoreBoard.updateMatch(ids[i], i % 7, i % 5);
+        }
+    }
+
+    @Benchmark
+    public Long createMatch(Worker worker) {
+        return scoreBoard.createMatch(worker.homeTeam(), worker.awayTeam(), START_TIME);
+    }
+
+    @Benchmark
+    public boolean updateMatch(Worker worker) {
+        return scoreBoard.updateMatch(ids[worker.random.nextInt(boardSize)], new MatchScore(worker.random.nextInt(8), worker.random.nextInt(8)));
+    }
+
+    /**
+     * Creates and finishes a match, so the board size stays put.
+     */
+    @Benchmark
+    public long createAndFinishMatch(Worker worker) {
+        Long id = scoreBoard.createMatch(worker.homeTeam(), worker.awayTeam(), START_TIME);
+        scoreBoard.finishMatch(id);
+        return finishedMatches.incrementAndGet();
+    }
+
+    @Benchmark
+    public List<FootballMatch> getSummaryMatchesByTotalScore() {
+        return scoreBoard.getSummaryMatchesByTotalScore();
+    }
+
+    @Benchmark
+    public Object mixed(Worker worker) {
+        if (worker.random.nextInt(100) < readPercent) {
+            return scoreBoard.getSummaryMatchesByTotalScore();
+        }
+        return scoreBoard.updateMatch(ids[worker.random.nextInt(boardSize)], worker.random.nextInt(8), worker.random.nextInt(8));
+    }
+
+    private MatchStorage newStorage() {
+        return switch (storage) {
+            case "InMemoryStorage" -> new InMemoryStorage();
+            case "ConcurrentInMemoryStorage" -> new ConcurrentInMemoryStorage();
+            default -> throw new IllegalArgumentException("Unknown storage " + storage);
+        };
+    }
+
+    @State(Scope.Thread)
+    public static class Worker {
+
+        private final SplittableRandom random = new SplittableRandom();
+
+        private String homeTeam() {
+            return "Home" + random.nextInt(48);
+        }
+
+        private String awayTeam() {
+            return "Away" + random.nextInt(47);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package pl.football.worldcup.scoreboard.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs {@link ScoreBoardApiBenchmark} for 1, 4 and 16 threads and writes one JSON result file per thread count,
+ * {@code scoreboard-api-t<threads>.json}, to the directory given as the first argument ({@code target/jmh} by default).
+ * Thread counts above one use the thread-safe storage only.
+ */
+public class ScoreBoardBenchmarkRunner {
+
+    private static final int[] THREADS = {1, 4, 16};
+
+    public static void main(String[] args) throws Exception {
+        Path directory = Path.of(args.length > 0 ? args[0] : "target/jmh");
+        Files.createDirectories(directory);
+        for (int threads : THREADS) {
+            run(directory, threads);
+        }
+    }
+
+    private static void run(Path directory, int threads) throws RunnerException {
+        OptionsBuilder options = new OptionsBuilder();
+        options.include(ScoreBoardApiBenchmark.class.getSimpleName())
+                .threads(threads)
+                .resultFormat(ResultFormatType.JSON)
+                .result(directory.resolve("scoreboard-api-t" + threads + ".json").toString());
+        if (threads > 1) {
+            options.param("storage", "ConcurrentInMemoryStorage");
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,84 @@
+package pl.football.worldcup.scoreboard.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.football.worldcup.scoreboard.FootballWorldCupScoreBoard;
+import pl.football.worldcup.scoreboard.ScoreBoard;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.storage.InMemoryStorage;
+import pl.football.worldcup.scoreboard.storage.MatchStorage;
+import pl.football.worldcup.scoreboard.storage.SlotMatchStorage;
+
+/**
+ * Run with {@code -prof gc} to compare allocated bytes per score update. The boxed and the primitive board updates
+ * are measured on the same {@link SlotMatchStorage} too, so the difference between them is the update path alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoreUpdateBenchmark {
+
+    private static final int MATCHES = 1_000;
+
+    private ScoreBoard boxedScoreBoard;
+    private MatchStorage slotStorage;
+    private ScoreBoard slotScoreBoard;
+    private long[] ids;
+    private int goals;
+
+    @Setup
+    public void setUp() {
+        boxedScoreBoard = new FootballWorldCupScoreBoard(new InMemoryStorage());
+        slotStorage = new SlotMatchStorage();
+        slotScoreBoard = new FootballWorldCupScoreBoard(slotStorage);
+        ids = new long[MATCHES];
+        LocalDateTime startTime = LocalDateTime.of(2024, 9, 1, 1, 1, 1, 0);
+        for (int i = 0; i < MATCHES; i++) {
+            ids[i] = boxedScoreBoard.createMatch("Home" + i, "Away" + i, startTime.plusSeconds(i));
+            slotScoreBoard.createMatch("Home" + i, "Away" + i, startTime.plusSeconds(i));
+        }
+    }
+
+    @Benchmark
+    public boolean boxedScoreBoardUpdate() {
+        int goal = nextGoal();
+        return boxedScoreBoard.updateMatch(ids[goal % MATCHES], new MatchScore(goal & 7, goal & 3));
+    }
+
+    @Benchmark
+    public boolean slotBoxedScoreBoardUpdate() {
+        int goal = nextGoal();
+        return slotScoreBoard.updateMatch(ids[goal % MATCHES], new MatchScore(goal & 7, goal & 3));
+    }
+
+    @Benchmark
+    public boolean slotScoreBoardUpdate() {
+        int goal = nextGoal();
+        return slotScoreBoard.updateMatch(ids[goal % MATCHES], goal & 7, goal & 3);
+    }
+
+    @Benchmark
+    public boolean slotStorageUpdate() {
+        int goal = nextGoal();
+        return slotStorage.updateScore(ids[goal % MATCHES], goal & 7, goal & 3);
+    }
+
+    private int nextGoal() {
+        goals = (goals + 1) & Integer.MAX_VALUE;
+        return goals;
+    }
+}
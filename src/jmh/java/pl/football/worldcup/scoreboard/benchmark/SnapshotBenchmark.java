@@ -0,0 +1,124 @@
+package pl.football.worldcup.scoreboard.benchmark;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.storage.ConcurrentInMemoryStorage;
+import pl.football.worldcup.scoreboard.storage.MatchStorage;
+import pl.football.worldcup.scoreboard.storage.snapshot.StorageSnapshot;
+
+/**
+ * Export, import and full round trip of a board snapshot through a file channel. Every fifth match is finished and
+ * teams repeat, as on a real board, so the team dictionary is exercised. {@code rebuild} bulk saves the same matches
+ * from a list into a new storage, the floor for {@code restore}. Every iteration is a single call that allocates
+ * a whole board, so the heap is fixed and the garbage of the previous iteration is collected before it, instead of
+ * in the measured call; collecting the board a call allocates is left out either way.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class SnapshotBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int boardSize;
+
+    private MatchStorage storage;
+    private List<FootballMatch> matches;
+    private Path exported;
+    private Path scratch;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        LocalDateTime startTime = LocalDateTime.of(2024, 9, 1, 1, 1, 1, 0);
+        storage = new ConcurrentInMemoryStorage();
+        for (int i = 0; i < boardSize; i++) {
+            LocalDateTime matchStart = startTime.plusSeconds(random.nextInt(boardSize));
+            storage.saveMatch(FootballMatch.builder()
+                    .id(i + 1L)
+                    .homeTeam("Home" + random.nextInt(2000))
+                    .awayTeam("Away" + random.nextInt(2000))
+                    .startTime(matchStart)
+                    .endTime(i % 5 == 0 ? matchStart.plusMinutes(95) : null)
+                    .matchScore(new MatchScore(random.nextInt(7), random.nextInt(5)))
+                    .build());
+        }
+        matches = storage.getAllMatches();
+        exported = Files.createTempFile("snapshot-benchmark", ".bin");
+        scratch = Files.createTempFile("snapshot-benchmark", ".bin");
+        write(storage, exported);
+    }
+
+    @Setup(Level.Iteration)
+    public void collectPreviousIteration() {
+        System.gc();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(exported);
+        Files.deleteIfExists(scratch);
+    }
+
+    @Benchmark
+    public long export() throws IOException {
+        return write(storage, scratch);
+    }
+
+    @Benchmark
+    public MatchStorage restore() throws IOException {
+        return read(exported);
+    }
+
+    @Benchmark
+    public MatchStorage rebuild() {
+        MatchStorage rebuilt = new ConcurrentInMemoryStorage();
+        rebuilt.saveMatches(matches);
+        return rebuilt;
+    }
+
+    @Benchmark
+    public MatchStorage roundTrip() throws IOException {
+        write(storage, scratch);
+        return read(scratch);
+    }
+
+    private static long write(MatchStorage storage, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return StorageSnapshot.write(storage, channel);
+        }
+    }
+
+    private static MatchStorage read(Path path) throws IOException {
+        MatchStorage restored = new ConcurrentInMemoryStorage();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            StorageSnapshot.read(channel, restored);
+        }
+        return restored;
+    }
+}
@@ -0,0 +1,95 @@
+package pl.football.worldcup.scoreboard.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.football.worldcup.scoreboard.FootballWorldCupScoreBoard;
+import pl.football.worldcup.scoreboard.ScoreBoard;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.storage.InMemoryStorage;
+import pl.football.worldcup.scoreboard.storage.MatchStorage;
+import pl.football.worldcup.scoreboard.summary.SummaryIndex;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SummaryBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int liveMatches;
+
+    private MatchStorage matchStorage;
+    private ScoreBoard scoreBoard;
+    private SummaryIndex summaryIndex;
+    private FootballMatch[] indexedMatches;
+    private int nextGoal;
+
+    @Setup
+    public void setUp() {
+        matchStorage = new InMemoryStorage();
+        scoreBoard = new FootballWorldCupScoreBoard(matchStorage);
+        LocalDateTime startTime = LocalDateTime.of(2024, 9, 1, 1, 1, 1, 0);
+        for (int i = 0; i < liveMatches; i++) {
+            Long id = scoreBoard.createMatch("Home" + i, "Away" + i, startTime.plusSeconds(i));
+            scoreBoard.updateMatch(id, new MatchScore(i % 7, i % 5));
+        }
+        indexedMatches = matchStorage.getAllMatchesInProgress().toArray(new FootballMatch[0]);
+        summaryIndex = new SummaryIndex(List.of(indexedMatches));
+    }
+
+    @Benchmark
+    public List<FootballMatch> sortPerCall() {
+        List<FootballMatch> allInProgressMatches = matchStorage.getAllMatchesInProgress();
+        allInProgressMatches.sort(SummaryIndex.SUMMARY_ORDER);
+        return allInProgressMatches;
+    }
+
+    @Benchmark
+    public List<FootballMatch> summaryIndex() {
+        return scoreBoard.getSummaryMatchesByTotalScore();
+    }
+
+    @Benchmark
+    public List<FootballMatch> topFive() {
+        return scoreBoard.getTopMatches(5);
+    }
+
+    /**
+     * One goal: the match moves from its total score to the next one, then back after a few goals.
+     */
+    @Benchmark
+    public FootballMatch indexGoal() {
+        int index = nextGoal++ % indexedMatches.length;
+        FootballMatch match = indexedMatches[index];
+        MatchScore matchScore = match.matchScore();
+        FootballMatch scored = match.toBuilder()
+                .matchScore(new MatchScore((matchScore.homeScore() + 1) % 8, matchScore.awayScore()))
+                .version(match.version() + 1)
+                .build();
+        summaryIndex.put(scored);
+        indexedMatches[index] = scored;
+        return scored;
+    }
+
+    @Benchmark
+    public List<FootballMatch> indexGoalThenSummary() {
+        indexGoal();
+        return summaryIndex.toList();
+    }
+}
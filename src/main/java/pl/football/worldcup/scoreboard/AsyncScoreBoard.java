@@ -0,0 +1,159 @@
+package pl.football.worldcup.scoreboard;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import pl.football.worldcup.scoreboard.event.MatchEvent;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.model.ScoreUpdate;
+import pl.football.worldcup.scoreboard.model.ScoreUpdateResult;
+import pl.football.worldcup.scoreboard.summary.SummaryDelta;
+import pl.football.worldcup.scoreboard.util.VirtualThreads;
+
+/**
+ * {@link CompletableFuture} facade of the whole {@link ScoreBoard} API. Every call runs on the executor
+ * (virtual threads by default), so a slow durable or remote storage or a large summary does not pin the caller's thread.
+ * Commands for the same match id are applied in submission order, a batch after the earlier commands of all its
+ * matches; commands for different matches run in parallel. Match events are already delivered asynchronously,
+ * so {@link #getMatchEvents()} hands out the publisher of the board.
+ */
+public class AsyncScoreBoard implements AutoCloseable {
+
+    private final ScoreBoard scoreBoard;
+    private final Executor executor;
+    private final boolean ownsExecutor;
+    private final ConcurrentMap<Long, CompletableFuture<?>> matchTails = new ConcurrentHashMap<>();
+    private final Object batchLock = new Object();
+
+    public AsyncScoreBoard(ScoreBoard scoreBoard) {
+        this(scoreBoard, VirtualThreads.newExecutor("async-score-board"), true);
+    }
+
+    public AsyncScoreBoard(ScoreBoard scoreBoard, Executor executor) {
+        this(scoreBoard, executor, false);
+    }
+
+    private AsyncScoreBoard(ScoreBoard scoreBoard, Executor executor, boolean ownsExecutor) {
+        this.scoreBoard = scoreBoard;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    public CompletableFuture<Long> createMatch(String homeTeam, String awayTeam) {
+        return CompletableFuture.supplyAsync(() -> scoreBoard.createMatch(homeTeam, awayTeam), executor);
+    }
+
+    public CompletableFuture<Long> createMatch(String homeTeam, String awayTeam, LocalDateTime startTime) {
+        return CompletableFuture.supplyAsync(() -> scoreBoard.createMatch(homeTeam, awayTeam, startTime), executor);
+    }
+
+    public CompletableFuture<Boolean> updateMatch(Long id, MatchScore matchScore) {
+        return inOrder(id, () -> scoreBoard.updateMatch(id, matchScore));
+    }
+
+    public CompletableFuture<Boolean> updateMatch(long id, int homeScore, int awayScore) {
+        return inOrder(id, () -> scoreBoard.updateMatch(id, homeScore, awayScore));
+    }
+
+    public CompletableFuture<List<ScoreUpdateResult>> updateMatches(Collection<ScoreUpdate> scoreUpdates) {
+        List<ScoreUpdate> updates = List.copyOf(scoreUpdates);
+        Set<Long> ids = updates.stream()
+                .map(ScoreUpdate::id)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return inOrder(ids, () -> scoreBoard.updateMatches(updates));
+    }
+
+    public CompletableFuture<Void> finishMatch(Long id) {
+        return inOrder(id, () -> {
+            scoreBoard.finishMatch(id);
+            return null;
+        });
+    }
+
+    public CompletableFuture<List<FootballMatch>> getSummaryMatchesByTotalScore() {
+        return CompletableFuture.supplyAsync(scoreBoard::getSummaryMatchesByTotalScore, executor);
+    }
+
+    public CompletableFuture<List<FootballMatch>> getTopMatches(int limit) {
+        return CompletableFuture.supplyAsync(() -> scoreBoard.getTopMatches(limit), executor);
+    }
+
+    public CompletableFuture<List<FootballMatch>> getSummary(int offset, int limit) {
+        return CompletableFuture.supplyAsync(() -> scoreBoard.getSummary(offset, limit), executor);
+    }
+
+    public CompletableFuture<SummaryDelta> getSummaryChangesSince(long version) {
+        return CompletableFuture.supplyAsync(() -> scoreBoard.getSummaryChangesSince(version), executor);
+    }
+
+    public Flow.Publisher<MatchEvent> getMatchEvents() {
+        return scoreBoard.getMatchEvents();
+    }
+
+    /**
+     * Shuts down the default executor. An executor given to the constructor is left to its owner.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor && executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Chains the command after the last command submitted for the same match, whatever its outcome.
+     * The chain entry is dropped once the match has no pending commands. Callers get a copy, so cancelling it
+     * does not let the next command overtake this one.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> inOrder(Long id, Supplier<T> command) {
+        if (id == null) {
+            return CompletableFuture.supplyAsync(command, executor);
+        }
+        CompletableFuture<T> next = (CompletableFuture<T>) matchTails.compute(id, (matchId, tail) -> tail == null
+                ? CompletableFuture.supplyAsync(command, executor)
+                : tail.handle((result, failure) -> null).thenApplyAsync(ignored -> command.get(), executor));
+        next.whenComplete((result, failure) -> matchTails.remove(id, next));
+        return next.copy();
+    }
+
+    /**
+     * Chains the command after the last commands of all given matches. Multi-match commands register under one lock,
+     * so two batches always queue up in the same order on the matches they share and never wait for each other.
+     */
+    private <T> CompletableFuture<T> inOrder(Set<Long> ids, Supplier<T> command) {
+        if (ids.size() <= 1) {
+            return inOrder(ids.isEmpty() ? null : ids.iterator().next(), command);
+        }
+        CompletableFuture<Void> start = new CompletableFuture<>();
+        CompletableFuture<T> next = start.thenApplyAsync(ignored -> command.get(), executor);
+        List<CompletableFuture<?>> predecessors = new ArrayList<>(ids.size());
+        synchronized (batchLock) {
+            for (Long id : ids) {
+                CompletableFuture<?> tail = matchTails.put(id, next);
+                if (tail != null) {
+                    predecessors.add(tail.handle((result, failure) -> null));
+                }
+            }
+        }
+        CompletableFuture.allOf(predecessors.toArray(CompletableFuture[]::new))
+                .whenComplete((result, failure) -> start.complete(null));
+        next.whenComplete((result, failure) -> ids.forEach(id -> matchTails.remove(id, next)));
+        return next.copy();
+    }
+}
@@ -5,19 +5,34 @@ import java.time.LocalDateTime;
 
 import pl.football.worldcup.scoreboard.exception.FootballMatchException;
 import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchResult;
 import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.model.UpdateStatus;
+import pl.football.worldcup.scoreboard.team.TeamRegistry;
 import pl.football.worldcup.scoreboard.util.MatchValidator;
 
 public class FootballMatchFactory implements MatchFactory {
 
+    private final TeamRegistry teamRegistry;
+
+    public FootballMatchFactory() {
+        this(new TeamRegistry());
+    }
+
+    public FootballMatchFactory(TeamRegistry teamRegistry) {
+        this.teamRegistry = teamRegistry;
+    }
+
     @Override
     public FootballMatch createMatch(String homeTeam, String awayTeam, LocalDateTime startTime) {
-        validateTeamNames(homeTeam, awayTeam);
+        String home = teamRegistry.resolve(homeTeam);
+        String away = teamRegistry.resolve(awayTeam);
+        validateTeamNames(homeTeam, home, awayTeam, away);
 
         return FootballMatch.builder()
                 .id(0L)
-                .homeTeam(homeTeam)
-                .awayTeam(awayTeam)
+                .homeTeam(home)
+                .awayTeam(away)
                 .startTime(startTime)
                 .matchScore(initMatchScore())
                 .build();
@@ -36,6 +51,19 @@ public class FootballMatchFactory implements MatchFactory {
                 .build();
     }
 
+    @Override
+    public MatchResult tryUpdateMatchScore(FootballMatch match, MatchScore matchScore) {
+        if (match == null) {
+            return MatchResult.rejected(UpdateStatus.NOT_FOUND);
+        }
+        if (!MatchValidator.isCorrectMatchScores(matchScore)) {
+            return MatchResult.rejected(UpdateStatus.INVALID_SCORE);
+        }
+        return MatchResult.success(match.toBuilder()
+                .matchScore(matchScore)
+                .build());
+    }
+
     @Override
     public FootballMatch finishMatch(FootballMatch match, LocalDateTime endTime) {
         if (match == null) {
@@ -56,9 +84,25 @@ public class FootballMatchFactory implements MatchFactory {
         }
     }
 
-    private void validateTeamNames(String homeTeam, String awayTeam) {
-        boolean incorrectHomeTeam = MatchValidator.isIncorrectName(homeTeam);
-        boolean incorrectAwayTeam = MatchValidator.isIncorrectName(awayTeam);
+    @Override
+    public MatchResult tryFinishMatch(FootballMatch match, LocalDateTime endTime) {
+        if (match == null) {
+            return MatchResult.rejected(UpdateStatus.NOT_FOUND);
+        }
+        if (match.endTime() != null) {
+            return MatchResult.rejected(UpdateStatus.ALREADY_FINISHED);
+        }
+        if (!MatchValidator.isEndAfterStartTime(match.startTime(), endTime)) {
+            return MatchResult.rejected(UpdateStatus.INVALID_END_TIME);
+        }
+        return MatchResult.success(match.toBuilder()
+                .endTime(endTime)
+                .build());
+    }
+
+    private void validateTeamNames(String homeTeam, String home, String awayTeam, String away) {
+        boolean incorrectHomeTeam = home == null;
+        boolean incorrectAwayTeam = away == null;
         if (incorrectHomeTeam && incorrectAwayTeam) {
             throw new FootballMatchException(MessageFormat.format("Given team names ({0}:{1}) are incorrect", homeTeam, awayTeam));
         } else {
@@ -1,25 +1,75 @@
 package pl.football.worldcup.scoreboard;
 
+import java.text.MessageFormat;
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
+import pl.football.worldcup.scoreboard.event.MatchEvent;
+import pl.football.worldcup.scoreboard.event.MatchEventPublisher;
+import pl.football.worldcup.scoreboard.exception.MatchStorageException;
+import pl.football.worldcup.scoreboard.metrics.ContentionCounter;
+import pl.football.worldcup.scoreboard.metrics.ContentionSnapshot;
+import pl.football.worldcup.scoreboard.metrics.HistogramScoreBoardMetrics;
+import pl.football.worldcup.scoreboard.metrics.MetricsSnapshot;
+import pl.football.worldcup.scoreboard.metrics.Operation;
+import pl.football.worldcup.scoreboard.metrics.ScoreBoardMetrics;
 import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchResult;
 import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.model.ScoreUpdate;
+import pl.football.worldcup.scoreboard.model.ScoreUpdateResult;
+import pl.football.worldcup.scoreboard.model.UpdateStatus;
 import pl.football.worldcup.scoreboard.storage.MatchStorage;
+import pl.football.worldcup.scoreboard.summary.SummaryChangeLog;
+import pl.football.worldcup.scoreboard.summary.SummaryDelta;
+import pl.football.worldcup.scoreboard.summary.SummaryIndex;
+import pl.football.worldcup.scoreboard.util.MatchValidator;
 
 public class FootballWorldCupScoreBoard implements ScoreBoard {
 
+    private static final int MAX_UPDATE_ATTEMPTS = 16;
+
     private final MatchFactory matchFactory;
     private final MatchStorage matchStorage;
+    private final SummaryIndex summaryIndex;
+    private final SummaryChangeLog summaryChangeLog = new SummaryChangeLog();
+    private final MatchEventPublisher eventPublisher;
+    private final ContentionCounter contentionCounter = new ContentionCounter();
+    private final ScoreBoardMetrics metrics;
+    private final LongAdder createdMatches = new LongAdder();
+    private final LongAdder finishedMatches = new LongAdder();
 
     public FootballWorldCupScoreBoard(MatchStorage storage) {
         this(new FootballMatchFactory(), storage);
     }
 
     public FootballWorldCupScoreBoard(MatchFactory matchFactory, MatchStorage storage) {
+        this(matchFactory, storage, new MatchEventPublisher());
+    }
+
+    public FootballWorldCupScoreBoard(MatchFactory matchFactory, MatchStorage storage, MatchEventPublisher eventPublisher) {
+        this(matchFactory, storage, eventPublisher, new HistogramScoreBoardMetrics());
+    }
+
+    public FootballWorldCupScoreBoard(MatchFactory matchFactory, MatchStorage storage, MatchEventPublisher eventPublisher,
+                                      ScoreBoardMetrics metrics) {
         this.matchFactory = matchFactory;
         this.matchStorage = storage;
+        this.summaryIndex = new SummaryIndex(storage.getAllMatchesInProgress());
+        this.eventPublisher = eventPublisher;
+        this.metrics = metrics;
+        int finished = storage.getAllFinishedMatches().size();
+        createdMatches.add(summaryIndex.size() + finished);
+        finishedMatches.add(finished);
     }
 
     @Override
@@ -29,39 +79,231 @@ public class FootballWorldCupScoreBoard implements ScoreBoard {
 
     @Override
     public Long createMatch(String homeTeam, String awayTeam, LocalDateTime startTime) {
-        FootballMatch match = matchFactory.createMatch(homeTeam, awayTeam, startTime);
-        match = matchStorage.saveMatch(match);
+        long start = System.nanoTime();
+        try {
+            FootballMatch match = matchFactory.createMatch(homeTeam, awayTeam, startTime);
+            match = matchStorage.saveMatch(match);
+            publishSummaryChange(match, true);
+            createdMatches.increment();
+            eventPublisher.publish(new MatchEvent.MatchCreated(match));
 
-        return match.id();
+            return match.id();
+        } catch (RuntimeException e) {
+            metrics.recordFailure(Operation.CREATE_MATCH);
+            throw e;
+        } finally {
+            metrics.recordLatency(Operation.CREATE_MATCH, System.nanoTime() - start);
+        }
     }
 
     @Override
     public boolean updateMatch(Long id, MatchScore matchScore) {
+        long start = System.nanoTime();
         try {
-            FootballMatch match = matchStorage.getMatch(id);
-            match = matchFactory.updateMatchScore(match, matchScore);
-            matchStorage.updateMatch(match);
-            return Boolean.TRUE;
-        } catch (Exception e) {
+            if (tryCompareAndSet(id, current -> matchFactory.tryUpdateMatchScore(current, matchScore)) instanceof MatchResult.Success success) {
+                eventPublisher.publish(new MatchEvent.ScoreChanged(success.match()));
+                return Boolean.TRUE;
+            }
+            metrics.recordFailure(Operation.UPDATE_MATCH);
             return Boolean.FALSE;
+        } catch (MatchStorageException e) {
+            metrics.recordFailure(Operation.UPDATE_MATCH);
+            return Boolean.FALSE;
+        } finally {
+            metrics.recordLatency(Operation.UPDATE_MATCH, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean updateMatch(long id, int homeScore, int awayScore) {
+        long start = System.nanoTime();
+        try {
+            if (!MatchValidator.isCorrectMatchScores(homeScore, awayScore)
+                    || !(matchStorage.tryUpdateScore(id, homeScore, awayScore) instanceof MatchResult.Success success)) {
+                metrics.recordFailure(Operation.UPDATE_MATCH);
+                return Boolean.FALSE;
+            }
+            FootballMatch match = success.match();
+            publishSummaryChange(match, false);
+            eventPublisher.publish(new MatchEvent.ScoreChanged(match));
+            return Boolean.TRUE;
+        } finally {
+            metrics.recordLatency(Operation.UPDATE_MATCH, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public List<ScoreUpdateResult> updateMatches(Collection<ScoreUpdate> scoreUpdates) {
+        long start = System.nanoTime();
+        try {
+            return applyScoreUpdates(scoreUpdates);
+        } finally {
+            metrics.recordLatency(Operation.UPDATE_MATCHES, System.nanoTime() - start);
         }
     }
 
     @Override
     public void finishMatch(Long id) {
-        FootballMatch match = matchStorage.getMatch(id);
-        match = matchFactory.finishMatch(match, LocalDateTime.now());
-        matchStorage.updateMatch(match);
+        long start = System.nanoTime();
+        try {
+            LocalDateTime endTime = LocalDateTime.now();
+            FootballMatch match = compareAndSet(id, current -> matchFactory.finishMatch(current, endTime));
+            finishedMatches.increment();
+            eventPublisher.publish(new MatchEvent.MatchFinished(match));
+        } catch (RuntimeException e) {
+            metrics.recordFailure(Operation.FINISH_MATCH);
+            throw e;
+        } finally {
+            metrics.recordLatency(Operation.FINISH_MATCH, System.nanoTime() - start);
+        }
     }
 
     @Override
     public List<FootballMatch> getSummaryMatchesByTotalScore() {
-        List<FootballMatch> allInProgressMatches = matchStorage.getAllMatchesInProgress();
-        allInProgressMatches
-                .sort(Comparator.comparingInt(FootballMatch::getTotalScore)
-                        .thenComparing(FootballMatch::startTime)
-                        .reversed());
+        long start = System.nanoTime();
+        try {
+            return summaryIndex.toList();
+        } finally {
+            metrics.recordLatency(Operation.SUMMARY, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public List<FootballMatch> getTopMatches(int limit) {
+        return getSummary(0, limit);
+    }
+
+    @Override
+    public List<FootballMatch> getSummary(int offset, int limit) {
+        long start = System.nanoTime();
+        try {
+            return summaryIndex.page(offset, limit);
+        } finally {
+            metrics.recordLatency(Operation.SUMMARY_PAGE, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public SummaryDelta getSummaryChangesSince(long version) {
+        long start = System.nanoTime();
+        try {
+            return summaryChangeLog.delta(version, summaryIndex::toList);
+        } finally {
+            metrics.recordLatency(Operation.SUMMARY_DELTA, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Flow.Publisher<MatchEvent> getMatchEvents() {
+        return eventPublisher;
+    }
+
+    public ContentionSnapshot getContentionSnapshot() {
+        return contentionCounter.snapshot();
+    }
+
+    public MetricsSnapshot getMetricsSnapshot() {
+        long finished = finishedMatches.sum();
+        return new MetricsSnapshot(metrics.latencySnapshots(), metrics.failureCounts(), createdMatches.sum() - finished,
+                finished, summaryIndex.size(), contentionCounter.snapshot());
+    }
+
+    private FootballMatch compareAndSet(Long id, UnaryOperator<FootballMatch> change) {
+        for (int attempt = 0; attempt < MAX_UPDATE_ATTEMPTS; attempt++) {
+            FootballMatch match = matchStorage.getMatch(id);
+            Optional<FootballMatch> storedMatch = matchStorage.compareAndSetMatch(match, change.apply(match));
+            if (storedMatch.isPresent()) {
+                publishSummaryChange(storedMatch.get(), false);
+                return storedMatch.get();
+            }
+            contentionCounter.recordConflict();
+        }
+        contentionCounter.recordExhaustedRetries();
+        throw new MatchStorageException(MessageFormat.format("Match with id={0} has been modified concurrently", id));
+    }
 
-        return allInProgressMatches;
+    private List<ScoreUpdateResult> applyScoreUpdates(Collection<ScoreUpdate> scoreUpdates) {
+        Map<Long, FootballMatch> matches = matchStorage.getMatches(scoreUpdates.stream()
+                .map(ScoreUpdate::id)
+                .toList());
+        List<ScoreUpdateResult> results = new ArrayList<>(scoreUpdates.size());
+        List<FootballMatch> storedMatches = new ArrayList<>(scoreUpdates.size());
+        for (ScoreUpdate scoreUpdate : scoreUpdates) {
+            UpdateStatus status = applyScoreUpdate(scoreUpdate, matches, storedMatches);
+            if (status != UpdateStatus.UPDATED) {
+                metrics.recordFailure(Operation.UPDATE_MATCHES);
+            }
+            results.add(new ScoreUpdateResult(scoreUpdate.id(), status));
+        }
+        Lock changeLock = summaryChangeLog.changeLock();
+        changeLock.lock();
+        try {
+            summaryIndex.putAll(storedMatches);
+            storedMatches.forEach(match -> summaryChangeLog.append(match.id(), false));
+        } finally {
+            changeLock.unlock();
+        }
+        storedMatches.forEach(match -> eventPublisher.publish(new MatchEvent.ScoreChanged(match)));
+
+        return results;
+    }
+
+    /**
+     * Routine rejections (unknown id, invalid score, lost races) come back as results, so no exception is built.
+     */
+    private MatchResult tryCompareAndSet(Long id, Function<FootballMatch, MatchResult> change) {
+        for (int attempt = 0; attempt < MAX_UPDATE_ATTEMPTS; attempt++) {
+            if (!(matchStorage.findMatch(id) instanceof MatchResult.Success current)) {
+                return MatchResult.rejected(UpdateStatus.NOT_FOUND);
+            }
+            MatchResult changeResult = change.apply(current.match());
+            if (!(changeResult instanceof MatchResult.Success changed)) {
+                return changeResult;
+            }
+            MatchResult stored = matchStorage.tryCompareAndSetMatch(current.match(), changed.match());
+            if (stored instanceof MatchResult.Success storedMatch) {
+                publishSummaryChange(storedMatch.match(), false);
+                return stored;
+            }
+            if (stored.status() != UpdateStatus.CONFLICT) {
+                return stored;
+            }
+            contentionCounter.recordConflict();
+        }
+        contentionCounter.recordExhaustedRetries();
+        return MatchResult.rejected(UpdateStatus.CONFLICT);
+    }
+
+    private void publishSummaryChange(FootballMatch match, boolean created) {
+        Lock changeLock = summaryChangeLog.changeLock();
+        changeLock.lock();
+        try {
+            summaryIndex.put(match);
+            summaryChangeLog.append(match.id(), created);
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    private UpdateStatus applyScoreUpdate(ScoreUpdate scoreUpdate, Map<Long, FootballMatch> matches, List<FootballMatch> storedMatches) {
+        if (!MatchValidator.isCorrectMatchScores(scoreUpdate.matchScore())) {
+            return UpdateStatus.INVALID_SCORE;
+        }
+        FootballMatch match = matches.get(scoreUpdate.id());
+        for (int attempt = 0; match != null && attempt < MAX_UPDATE_ATTEMPTS; attempt++) {
+            Optional<FootballMatch> storedMatch = matchStorage.compareAndSetMatch(match, matchFactory.updateMatchScore(match, scoreUpdate.matchScore()));
+            if (storedMatch.isPresent()) {
+                matches.put(scoreUpdate.id(), storedMatch.get());
+                storedMatches.add(storedMatch.get());
+                return UpdateStatus.UPDATED;
+            }
+            contentionCounter.recordConflict();
+            match = matchStorage.getMatches(List.of(scoreUpdate.id())).get(scoreUpdate.id());
+        }
+        if (match == null) {
+            return UpdateStatus.NOT_FOUND;
+        }
+        contentionCounter.recordExhaustedRetries();
+        return UpdateStatus.CONFLICT;
     }
 }
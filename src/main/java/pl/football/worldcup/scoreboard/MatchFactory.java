@@ -2,8 +2,11 @@ package pl.football.worldcup.scoreboard;
 
 import java.time.LocalDateTime;
 
+import pl.football.worldcup.scoreboard.exception.FootballMatchException;
 import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchResult;
 import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.model.UpdateStatus;
 
 public interface MatchFactory {
 
@@ -12,4 +15,29 @@ public interface MatchFactory {
     FootballMatch updateMatchScore(FootballMatch match, MatchScore matchScore);
 
     FootballMatch finishMatch(FootballMatch match, LocalDateTime endTime);
+
+    /**
+     * Exception-free variant of {@link #updateMatchScore(FootballMatch, MatchScore)} for hot paths.
+     */
+    default MatchResult tryUpdateMatchScore(FootballMatch match, MatchScore matchScore) {
+        try {
+            return MatchResult.success(updateMatchScore(match, matchScore));
+        } catch (FootballMatchException e) {
+            return MatchResult.rejected(match == null ? UpdateStatus.NOT_FOUND : UpdateStatus.INVALID_SCORE);
+        }
+    }
+
+    /**
+     * Exception-free variant of {@link #finishMatch(FootballMatch, LocalDateTime)} for hot paths.
+     */
+    default MatchResult tryFinishMatch(FootballMatch match, LocalDateTime endTime) {
+        try {
+            return MatchResult.success(finishMatch(match, endTime));
+        } catch (FootballMatchException e) {
+            if (match == null) {
+                return MatchResult.rejected(UpdateStatus.NOT_FOUND);
+            }
+            return MatchResult.rejected(match.endTime() != null ? UpdateStatus.ALREADY_FINISHED : UpdateStatus.INVALID_END_TIME);
+        }
+    }
 }
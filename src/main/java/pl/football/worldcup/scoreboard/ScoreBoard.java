@@ -1,10 +1,16 @@
 package pl.football.worldcup.scoreboard;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Flow;
 
+import pl.football.worldcup.scoreboard.event.MatchEvent;
 import pl.football.worldcup.scoreboard.model.FootballMatch;
 import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.model.ScoreUpdate;
+import pl.football.worldcup.scoreboard.model.ScoreUpdateResult;
+import pl.football.worldcup.scoreboard.summary.SummaryDelta;
 
 public interface ScoreBoard {
 
@@ -14,7 +20,23 @@ public interface ScoreBoard {
 
     boolean updateMatch(Long id, MatchScore matchScore);
 
+    /**
+     * Sets the score from primitives: the storage changes it and hands back the stored match in one call. Only the
+     * storage step can be allocation-free; the board still needs a snapshot for the summary and the published event.
+     */
+    boolean updateMatch(long id, int homeScore, int awayScore);
+
+    List<ScoreUpdateResult> updateMatches(Collection<ScoreUpdate> scoreUpdates);
+
     void finishMatch(Long id);
 
     List<FootballMatch> getSummaryMatchesByTotalScore();
+
+    List<FootballMatch> getTopMatches(int limit);
+
+    List<FootballMatch> getSummary(int offset, int limit);
+
+    SummaryDelta getSummaryChangesSince(long version);
+
+    Flow.Publisher<MatchEvent> getMatchEvents();
 }
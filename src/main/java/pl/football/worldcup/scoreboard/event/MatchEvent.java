@@ -0,0 +1,35 @@
+package pl.football.worldcup.scoreboard.event;
+
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+
+/**
+ * Change published by a score board. {@link #match()} is the stored match right after the change.
+ * <p>
+ * Events are published after the storage write and outside of any lock, so two concurrent changes of one match may be
+ * delivered in the opposite order of their versions. Every change of a match carries a higher {@link #version()}, so
+ * consumers that keep the latest state must drop any event whose version is not newer than the last one they saw for
+ * the same match id.
+ */
+public sealed interface MatchEvent permits MatchEvent.MatchCreated, MatchEvent.ScoreChanged, MatchEvent.MatchFinished {
+
+    FootballMatch match();
+
+    /**
+     * Version of the stored match after this change; orders the events of one match.
+     */
+    default long version() {
+        return match().version();
+    }
+
+    record MatchCreated(FootballMatch match) implements MatchEvent {
+
+    }
+
+    record ScoreChanged(FootballMatch match) implements MatchEvent {
+
+    }
+
+    record MatchFinished(FootballMatch match) implements MatchEvent {
+
+    }
+}
@@ -0,0 +1,53 @@
+package pl.football.worldcup.scoreboard.event;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delivers {@link MatchEvent}s to subscribers asynchronously with per-subscriber buffers and
+ * {@link Flow.Subscription#request(long) demand} based backpressure. Publishing never blocks the writer:
+ * when a subscriber's buffer is full the event is dropped for that subscriber and counted.
+ */
+@Slf4j
+public class MatchEventPublisher implements Flow.Publisher<MatchEvent>, AutoCloseable {
+
+    private final SubmissionPublisher<MatchEvent> publisher;
+    private final LongAdder droppedEvents = new LongAdder();
+
+    public MatchEventPublisher() {
+        this(ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    public MatchEventPublisher(Executor executor, int maxBufferCapacity) {
+        this.publisher = new SubmissionPublisher<>(executor, maxBufferCapacity);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super MatchEvent> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    public void publish(MatchEvent event) {
+        if (publisher.hasSubscribers()) {
+            publisher.offer(event, (subscriber, droppedEvent) -> {
+                log.debug("Dropping event {} for slow subscriber {}", droppedEvent, subscriber);
+                droppedEvents.increment();
+                return false;
+            });
+        }
+    }
+
+    public long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    @Override
+    public void close() {
+        publisher.close();
+    }
+}
@@ -0,0 +1,31 @@
+package pl.football.worldcup.scoreboard.eventloop;
+
+/**
+ * @param capacity     capacity of the command buffer, rounded up to a power of two; producers wait while it is full
+ * @param waitStrategy what the writer thread does while there are no commands
+ * @param maxBatchSize maximum number of commands the writer takes from the buffer in one pass
+ */
+public record EventLoopOptions(int capacity, WaitStrategy waitStrategy, int maxBatchSize) {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+    /**
+     * Uses {@link WaitStrategy#BLOCKING}, so an idle writer parks instead of occupying a core.
+     */
+    public static EventLoopOptions defaults() {
+        return of(WaitStrategy.BLOCKING);
+    }
+
+    public static EventLoopOptions of(WaitStrategy waitStrategy) {
+        return new EventLoopOptions(DEFAULT_CAPACITY, waitStrategy, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    public EventLoopOptions withCapacity(int capacity) {
+        return new EventLoopOptions(capacity, waitStrategy, maxBatchSize);
+    }
+
+    public EventLoopOptions withMaxBatchSize(int maxBatchSize) {
+        return new EventLoopOptions(capacity, waitStrategy, maxBatchSize);
+    }
+}
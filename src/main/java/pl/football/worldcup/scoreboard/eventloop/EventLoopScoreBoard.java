@@ -0,0 +1,220 @@
+package pl.football.worldcup.scoreboard.eventloop;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+import pl.football.worldcup.scoreboard.FootballWorldCupScoreBoard;
+import pl.football.worldcup.scoreboard.ScoreBoard;
+import pl.football.worldcup.scoreboard.event.MatchEvent;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.model.ScoreUpdate;
+import pl.football.worldcup.scoreboard.model.ScoreUpdateResult;
+import pl.football.worldcup.scoreboard.storage.MatchStorage;
+import pl.football.worldcup.scoreboard.summary.SummaryDelta;
+
+/**
+ * Single-writer {@link ScoreBoard}: create, update and finish commands go through a bounded lock-free
+ * {@link MpscRingBuffer} to one writer thread, the only thread touching the delegate's storage and ordering
+ * structures, so even a non thread-safe storage can back it. The calling thread waits for its command.
+ * Summary reads do not go through the buffer; they are served from the immutable snapshots the delegate publishes.
+ */
+@Slf4j
+public class EventLoopScoreBoard implements ScoreBoard, AutoCloseable {
+
+    private static final int PRODUCER_SPIN_ROUNDS = 100;
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final ScoreBoard delegate;
+    private final EventLoopOptions options;
+    private final MpscRingBuffer<Command<?>> commands;
+    private final Thread writer;
+
+    private volatile boolean running = true;
+    private volatile boolean writerIdle;
+
+    public EventLoopScoreBoard(MatchStorage storage) {
+        this(new FootballWorldCupScoreBoard(storage), EventLoopOptions.defaults());
+    }
+
+    public EventLoopScoreBoard(ScoreBoard delegate, EventLoopOptions options) {
+        this.delegate = delegate;
+        this.options = options;
+        this.commands = new MpscRingBuffer<>(options.capacity());
+        this.writer = new Thread(this::runWriter, "score-board-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public Long createMatch(String homeTeam, String awayTeam) {
+        LocalDateTime startTime = LocalDateTime.now();
+        return execute(() -> delegate.createMatch(homeTeam, awayTeam, startTime));
+    }
+
+    @Override
+    public Long createMatch(String homeTeam, String awayTeam, LocalDateTime startTime) {
+        return execute(() -> delegate.createMatch(homeTeam, awayTeam, startTime));
+    }
+
+    @Override
+    public boolean updateMatch(Long id, MatchScore matchScore) {
+        return execute(() -> delegate.updateMatch(id, matchScore));
+    }
+
+    @Override
+    public boolean updateMatch(long id, int homeScore, int awayScore) {
+        return execute(() -> delegate.updateMatch(id, homeScore, awayScore));
+    }
+
+    @Override
+    public List<ScoreUpdateResult> updateMatches(Collection<ScoreUpdate> scoreUpdates) {
+        return execute(() -> delegate.updateMatches(scoreUpdates));
+    }
+
+    @Override
+    public void finishMatch(Long id) {
+        execute(() -> {
+            delegate.finishMatch(id);
+            return null;
+        });
+    }
+
+    @Override
+    public List<FootballMatch> getSummaryMatchesByTotalScore() {
+        return delegate.getSummaryMatchesByTotalScore();
+    }
+
+    @Override
+    public List<FootballMatch> getTopMatches(int limit) {
+        return delegate.getTopMatches(limit);
+    }
+
+    @Override
+    public List<FootballMatch> getSummary(int offset, int limit) {
+        return delegate.getSummary(offset, limit);
+    }
+
+    @Override
+    public SummaryDelta getSummaryChangesSince(long version) {
+        return delegate.getSummaryChangesSince(version);
+    }
+
+    @Override
+    public Flow.Publisher<MatchEvent> getMatchEvents() {
+        return delegate.getMatchEvents();
+    }
+
+    /**
+     * Stops accepting commands, lets the writer apply the ones already buffered and waits for it to stop.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <T> T execute(Supplier<T> action) {
+        checkRunning();
+        Command<T> command = new Command<>(action, Thread.currentThread());
+        int rounds = 0;
+        while (!commands.offer(command)) {
+            checkRunning();
+            if (rounds++ < PRODUCER_SPIN_ROUNDS) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+        if (writerIdle) {
+            LockSupport.unpark(writer);
+        }
+        return command.await(writer);
+    }
+
+    private void checkRunning() {
+        if (!running) {
+            throw new IllegalStateException("Score board has been closed");
+        }
+    }
+
+    private void runWriter() {
+        Consumer<Command<?>> apply = Command::run;
+        int idleRounds = 0;
+        while (running || !commands.isEmpty()) {
+            if (commands.drain(apply, options.maxBatchSize()) > 0) {
+                idleRounds = 0;
+                continue;
+            }
+            writerIdle = true;
+            if (commands.isEmpty() && running) {
+                options.waitStrategy().idle(idleRounds++);
+            }
+            writerIdle = false;
+        }
+        log.debug("Score board writer stopped");
+    }
+
+    /**
+     * Command waiting for the writer. The caller spins briefly and then parks until the writer has run the action;
+     * a command that reached the buffer after the writer stopped fails instead of waiting forever. Whatever the action
+     * throws, errors included, is handed to the caller, so the writer keeps serving other commands.
+     */
+    private static final class Command<T> {
+
+        private final Supplier<T> action;
+        private final Thread caller;
+        private T result;
+        private Throwable failure;
+        private volatile boolean done;
+
+        private Command(Supplier<T> action, Thread caller) {
+            this.action = action;
+            this.caller = caller;
+        }
+
+        private void run() {
+            try {
+                result = action.get();
+            } catch (Throwable e) {
+                failure = e;
+            }
+            done = true;
+            LockSupport.unpark(caller);
+        }
+
+        private T await(Thread writer) {
+            for (int rounds = 0; !done; rounds++) {
+                if (rounds < PRODUCER_SPIN_ROUNDS) {
+                    Thread.onSpinWait();
+                } else if (writer.isAlive()) {
+                    LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                } else if (!done) {
+                    throw new IllegalStateException("Score board has been closed");
+                }
+            }
+            if (failure instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (failure instanceof Error error) {
+                throw error;
+            }
+            if (failure != null) {
+                throw new IllegalStateException("Score board command failed", failure);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package pl.football.worldcup.scoreboard.eventloop;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free multi-producer single-consumer queue. Every slot carries a sequence number: producers claim a
+ * position with one CAS on the tail and publish the element by advancing the slot sequence, the single consumer
+ * takes elements in position order and hands the slot back to the producers one lap ahead.
+ */
+final class MpscRingBuffer<E> {
+
+    private static final VarHandle SEQUENCES = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            TAIL = MethodHandles.lookup().findVarHandle(MpscRingBuffer.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object[] elements;
+    private final long[] sequences;
+    private final int mask;
+
+    private volatile long tail;
+    private long head;
+
+    MpscRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.elements = new Object[size];
+        this.sequences = new long[size];
+        this.mask = size - 1;
+        for (int index = 0; index < size; index++) {
+            sequences[index] = index;
+        }
+    }
+
+    /**
+     * Returns {@code false} when the buffer is full.
+     */
+    boolean offer(E element) {
+        long position = tail;
+        while (true) {
+            int index = (int) position & mask;
+            long sequence = (long) SEQUENCES.getAcquire(sequences, index);
+            if (sequence == position) {
+                if (TAIL.compareAndSet(this, position, position + 1)) {
+                    elements[index] = element;
+                    SEQUENCES.setRelease(sequences, index, position + 1);
+                    return true;
+                }
+            } else if (sequence < position) {
+                return false;
+            }
+            position = tail;
+        }
+    }
+
+    /**
+     * Hands up to {@code limit} elements to the consumer and returns their number. Consumer thread only.
+     */
+    @SuppressWarnings("unchecked")
+    int drain(Consumer<E> consumer, int limit) {
+        int drained = 0;
+        while (drained < limit) {
+            int index = (int) head & mask;
+            if ((long) SEQUENCES.getAcquire(sequences, index) != head + 1) {
+                break;
+            }
+            E element = (E) elements[index];
+            elements[index] = null;
+            SEQUENCES.setRelease(sequences, index, head + elements.length);
+            head++;
+            drained++;
+            consumer.accept(element);
+        }
+        return drained;
+    }
+
+    /**
+     * Consumer thread only.
+     */
+    boolean isEmpty() {
+        return (long) SEQUENCES.getAcquire(sequences, (int) head & mask) != head + 1;
+    }
+}
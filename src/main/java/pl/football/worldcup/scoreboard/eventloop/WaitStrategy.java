@@ -0,0 +1,68 @@
+package pl.football.worldcup.scoreboard.eventloop;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * What the writer thread does while the command buffer is empty. {@code idleRounds} counts the empty polls since
+ * the last command; strategies trade command latency against CPU burned while idle.
+ */
+public enum WaitStrategy {
+    /**
+     * Spins on the buffer, the lowest latency at the cost of a fully busy core.
+     */
+    BUSY_SPIN {
+        @Override
+        void idle(int idleRounds) {
+            Thread.onSpinWait();
+        }
+    },
+    /**
+     * Spins briefly, then yields the core to other runnable threads. It never parks, so an idle writer still keeps
+     * a core busy; opt in only when the writer has a core of its own.
+     */
+    YIELDING {
+        @Override
+        void idle(int idleRounds) {
+            if (idleRounds < SPIN_ROUNDS) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+    },
+    /**
+     * Spins and yields briefly, then sleeps in short intervals.
+     */
+    SLEEPING {
+        @Override
+        void idle(int idleRounds) {
+            if (idleRounds < SPIN_ROUNDS) {
+                Thread.onSpinWait();
+            } else if (idleRounds < SPIN_ROUNDS * 2) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(SLEEP_NANOS);
+            }
+        }
+    },
+    /**
+     * Spins briefly, then parks until a producer wakes the writer up. The default.
+     */
+    BLOCKING {
+        @Override
+        void idle(int idleRounds) {
+            if (idleRounds < SPIN_ROUNDS) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(this, MAX_PARK_NANOS);
+            }
+        }
+    };
+
+    private static final int SPIN_ROUNDS = 100;
+    private static final long SLEEP_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    abstract void idle(int idleRounds);
+}
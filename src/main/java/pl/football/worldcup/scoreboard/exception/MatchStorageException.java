@@ -5,4 +5,8 @@ public class MatchStorageException extends RuntimeException {
     public MatchStorageException(String message) {
         super(message);
     }
+
+    public MatchStorageException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
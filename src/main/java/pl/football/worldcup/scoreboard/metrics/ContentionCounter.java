@@ -0,0 +1,21 @@
+package pl.football.worldcup.scoreboard.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class ContentionCounter {
+
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder exhaustedRetries = new LongAdder();
+
+    public void recordConflict() {
+        conflicts.increment();
+    }
+
+    public void recordExhaustedRetries() {
+        exhaustedRetries.increment();
+    }
+
+    public ContentionSnapshot snapshot() {
+        return new ContentionSnapshot(conflicts.sum(), exhaustedRetries.sum());
+    }
+}
@@ -0,0 +1,9 @@
+package pl.football.worldcup.scoreboard.metrics;
+
+/**
+ * @param conflicts        compare-and-set attempts rejected because the match changed in between (each one is retried)
+ * @param exhaustedRetries operations given up after reaching the retry limit
+ */
+public record ContentionSnapshot(long conflicts, long exhaustedRetries) {
+
+}
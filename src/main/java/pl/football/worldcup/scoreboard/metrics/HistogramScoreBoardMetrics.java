@@ -0,0 +1,45 @@
+package pl.football.worldcup.scoreboard.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Default {@link ScoreBoardMetrics}: one {@link LatencyHistogram} and one failure counter per operation.
+ */
+public class HistogramScoreBoardMetrics implements ScoreBoardMetrics {
+
+    private final Map<Operation, LatencyHistogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> failures = new EnumMap<>(Operation.class);
+
+    public HistogramScoreBoardMetrics() {
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new LatencyHistogram());
+            failures.put(operation, new LongAdder());
+        }
+    }
+
+    @Override
+    public void recordLatency(Operation operation, long nanos) {
+        latencies.get(operation).record(nanos);
+    }
+
+    @Override
+    public void recordFailure(Operation operation) {
+        failures.get(operation).increment();
+    }
+
+    @Override
+    public Map<Operation, LatencySnapshot> latencySnapshots() {
+        Map<Operation, LatencySnapshot> snapshots = new EnumMap<>(Operation.class);
+        latencies.forEach((operation, histogram) -> snapshots.put(operation, histogram.snapshot()));
+        return snapshots;
+    }
+
+    @Override
+    public Map<Operation, Long> failureCounts() {
+        Map<Operation, Long> counts = new EnumMap<>(Operation.class);
+        failures.forEach((operation, counter) -> counts.put(operation, counter.sum()));
+        return counts;
+    }
+}
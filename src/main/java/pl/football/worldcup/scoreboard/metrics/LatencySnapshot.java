@@ -0,0 +1,8 @@
+package pl.football.worldcup.scoreboard.metrics;
+
+/**
+ * Latency distribution in nanoseconds. Percentiles are the upper bounds of their histogram buckets.
+ */
+public record LatencySnapshot(long count, long p50, long p90, long p99, long p999, long max) {
+
+}
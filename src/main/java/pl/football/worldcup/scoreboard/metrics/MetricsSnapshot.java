@@ -0,0 +1,16 @@
+package pl.football.worldcup.scoreboard.metrics;
+
+import java.util.Map;
+
+/**
+ * @param latencies       latency distribution per operation, empty when the metrics hook does not keep them
+ * @param failures        operations that did not take effect, per operation
+ * @param liveMatches     matches created and not finished yet
+ * @param finishedMatches finished matches
+ * @param summarySize     matches in the summary
+ * @param contention      compare-and-set conflicts
+ */
+public record MetricsSnapshot(Map<Operation, LatencySnapshot> latencies, Map<Operation, Long> failures, long liveMatches,
+                              long finishedMatches, int summarySize, ContentionSnapshot contention) {
+
+}
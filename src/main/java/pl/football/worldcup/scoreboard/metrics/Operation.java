@@ -0,0 +1,11 @@
+package pl.football.worldcup.scoreboard.metrics;
+
+public enum Operation {
+    CREATE_MATCH,
+    UPDATE_MATCH,
+    UPDATE_MATCHES,
+    FINISH_MATCH,
+    SUMMARY,
+    SUMMARY_PAGE,
+    SUMMARY_DELTA
+}
@@ -0,0 +1,25 @@
+package pl.football.worldcup.scoreboard.metrics;
+
+import java.util.Map;
+
+/**
+ * Metrics hook of the score board. Implementations are called on the hot path, so recording must be cheap and
+ * must not block; adapters to external metrics libraries only need the two record methods.
+ */
+public interface ScoreBoardMetrics {
+
+    void recordLatency(Operation operation, long nanos);
+
+    /**
+     * Records an operation that did not take effect, including the ones reported only as {@code false}.
+     */
+    void recordFailure(Operation operation);
+
+    default Map<Operation, LatencySnapshot> latencySnapshots() {
+        return Map.of();
+    }
+
+    default Map<Operation, Long> failureCounts() {
+        return Map.of();
+    }
+}
@@ -6,13 +6,28 @@ import java.util.Optional;
 import lombok.Builder;
 
 @Builder(toBuilder = true)
-public record FootballMatch(Long id, String homeTeam, String awayTeam, LocalDateTime startTime, LocalDateTime endTime, MatchScore matchScore) {
+public record FootballMatch(Long id, String homeTeam, String awayTeam, LocalDateTime startTime, LocalDateTime endTime, MatchScore matchScore,
+                            long version) {
+
+    /**
+     * Constructor of the unversioned representation, kept for existing callers. The match starts at version 0.
+     */
+    public FootballMatch(Long id, String homeTeam, String awayTeam, LocalDateTime startTime, LocalDateTime endTime, MatchScore matchScore) {
+        this(id, homeTeam, awayTeam, startTime, endTime, matchScore, 0L);
+    }
 
     public Optional<LocalDateTime> fetchEndTime() {
         return Optional.ofNullable(endTime);
     }
 
     public Integer getTotalScore() {
-        return matchScore.homeScore() + matchScore.awayScore();
+        return totalScore();
+    }
+
+    /**
+     * Primitive variant of {@link #getTotalScore()}, used by the summary order.
+     */
+    public int totalScore() {
+        return matchScore.totalScore();
     }
 }
@@ -0,0 +1,35 @@
+package pl.football.worldcup.scoreboard.model;
+
+import java.util.Arrays;
+
+/**
+ * Outcome of a factory or storage operation that is expected to fail routinely, e.g. for a stale id or a negative
+ * score. Rejections carry a status instead of an exception and are shared instances, so they cost no allocation.
+ */
+public sealed interface MatchResult permits MatchResult.Success, MatchResult.Rejected {
+
+    static MatchResult success(FootballMatch match) {
+        return new Success(match);
+    }
+
+    static MatchResult rejected(UpdateStatus status) {
+        return Rejected.INSTANCES[status.ordinal()];
+    }
+
+    UpdateStatus status();
+
+    record Success(FootballMatch match) implements MatchResult {
+
+        @Override
+        public UpdateStatus status() {
+            return UpdateStatus.UPDATED;
+        }
+    }
+
+    record Rejected(UpdateStatus status) implements MatchResult {
+
+        private static final Rejected[] INSTANCES = Arrays.stream(UpdateStatus.values())
+                .map(Rejected::new)
+                .toArray(Rejected[]::new);
+    }
+}
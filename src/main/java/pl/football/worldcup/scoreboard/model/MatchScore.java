@@ -1,5 +1,21 @@
 package pl.football.worldcup.scoreboard.model;
 
+/**
+ * Score of a match. The boxed components are the public API; hot paths read the primitive accessors instead, which
+ * skip the {@code Integer} in signatures and comparators. Scores stay within the {@code Integer} cache, so the boxed
+ * components cost no allocation per match.
+ */
 public record MatchScore(Integer homeScore, Integer awayScore) {
 
+    public int homeScoreAsInt() {
+        return homeScore;
+    }
+
+    public int awayScoreAsInt() {
+        return awayScore;
+    }
+
+    public int totalScore() {
+        return homeScore + awayScore;
+    }
 }
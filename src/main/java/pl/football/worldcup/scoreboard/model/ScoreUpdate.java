@@ -0,0 +1,5 @@
+package pl.football.worldcup.scoreboard.model;
+
+public record ScoreUpdate(Long id, MatchScore matchScore) {
+
+}
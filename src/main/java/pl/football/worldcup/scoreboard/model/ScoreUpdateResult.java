@@ -0,0 +1,8 @@
+package pl.football.worldcup.scoreboard.model;
+
+public record ScoreUpdateResult(Long id, UpdateStatus status) {
+
+    public boolean isUpdated() {
+        return status == UpdateStatus.UPDATED;
+    }
+}
@@ -0,0 +1,10 @@
+package pl.football.worldcup.scoreboard.model;
+
+public enum UpdateStatus {
+    UPDATED,
+    NOT_FOUND,
+    INVALID_SCORE,
+    CONFLICT,
+    ALREADY_FINISHED,
+    INVALID_END_TIME
+}
@@ -0,0 +1,54 @@
+package pl.football.worldcup.scoreboard.shard;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import pl.football.worldcup.scoreboard.MatchFactory;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchResult;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+
+/**
+ * Gives every created match a globally unique id: a per-shard sequence in the high bits and the shard index
+ * in the low {@link ShardedScoreBoard#SHARD_BITS} bits. Storages keep ids they are given, so shards never collide.
+ */
+class ShardMatchFactory implements MatchFactory {
+
+    private final MatchFactory delegate;
+    private final int shardIndex;
+    private final AtomicLong sequence;
+
+    ShardMatchFactory(MatchFactory delegate, int shardIndex, long firstSequence) {
+        this.delegate = delegate;
+        this.shardIndex = shardIndex;
+        this.sequence = new AtomicLong(firstSequence);
+    }
+
+    @Override
+    public FootballMatch createMatch(String homeTeam, String awayTeam, LocalDateTime startTime) {
+        return delegate.createMatch(homeTeam, awayTeam, startTime)
+                .toBuilder()
+                .id(sequence.getAndIncrement() << ShardedScoreBoard.SHARD_BITS | shardIndex)
+                .build();
+    }
+
+    @Override
+    public FootballMatch updateMatchScore(FootballMatch match, MatchScore matchScore) {
+        return delegate.updateMatchScore(match, matchScore);
+    }
+
+    @Override
+    public FootballMatch finishMatch(FootballMatch match, LocalDateTime endTime) {
+        return delegate.finishMatch(match, endTime);
+    }
+
+    @Override
+    public MatchResult tryUpdateMatchScore(FootballMatch match, MatchScore matchScore) {
+        return delegate.tryUpdateMatchScore(match, matchScore);
+    }
+
+    @Override
+    public MatchResult tryFinishMatch(FootballMatch match, LocalDateTime endTime) {
+        return delegate.tryFinishMatch(match, endTime);
+    }
+}
@@ -0,0 +1,315 @@
+package pl.football.worldcup.scoreboard.shard;
+
+import java.text.MessageFormat;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import lombok.extern.slf4j.Slf4j;
+import pl.football.worldcup.scoreboard.FootballMatchFactory;
+import pl.football.worldcup.scoreboard.FootballWorldCupScoreBoard;
+import pl.football.worldcup.scoreboard.ScoreBoard;
+import pl.football.worldcup.scoreboard.event.MatchEvent;
+import pl.football.worldcup.scoreboard.event.MatchEventPublisher;
+import pl.football.worldcup.scoreboard.exception.MatchStorageException;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.model.ScoreUpdate;
+import pl.football.worldcup.scoreboard.model.ScoreUpdateResult;
+import pl.football.worldcup.scoreboard.model.UpdateStatus;
+import pl.football.worldcup.scoreboard.storage.MatchStorage;
+import pl.football.worldcup.scoreboard.summary.SummaryChangeLog;
+import pl.football.worldcup.scoreboard.summary.SummaryDelta;
+import pl.football.worldcup.scoreboard.summary.SummaryMerge;
+import pl.football.worldcup.scoreboard.team.TeamRegistry;
+
+/**
+ * {@link ScoreBoard} partitioned by a shard key (competition, group...). Every shard is an independent
+ * {@link FootballWorldCupScoreBoard} with its own storage, summary index and locks, so shards never contend.
+ * Per-shard summaries are answered by the shard; the global summary is a k-way merge of the shard summaries.
+ * <p>
+ * Match ids carry the shard index in their low {@link #SHARD_BITS} bits, which keeps them globally unique and routes
+ * updates without a lookup table. The index of a shard comes from the {@code shardIndexes} function, which must map
+ * a key to the same index across restarts whenever the shard storages are durable: ids persisted by a shard keep its
+ * index, and a shard whose storage holds ids of another index is refused. The single argument constructor numbers
+ * shards in creation order and is meant for in-memory storages only. Matches created through the plain
+ * {@link ScoreBoard} methods go to the {@link #DEFAULT_SHARD}.
+ */
+@Slf4j
+public class ShardedScoreBoard implements ScoreBoard {
+
+    public static final String DEFAULT_SHARD = "default";
+    public static final int SHARD_BITS = 10;
+    public static final int MAX_SHARDS = 1 << SHARD_BITS;
+
+    private static final long SHARD_MASK = MAX_SHARDS - 1L;
+
+    private final Function<String, MatchStorage> storageFactory;
+    private final ToIntFunction<String> shardIndexes;
+    private final TeamRegistry teamRegistry = new TeamRegistry();
+    private final MatchEventPublisher eventPublisher = new MatchEventPublisher();
+    private final SummaryChangeLog summaryChangeLog = new SummaryChangeLog();
+    private final Map<String, Shard> shardsByKey = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<Shard> shardsByIndex = new AtomicReferenceArray<>(MAX_SHARDS);
+
+    /**
+     * Numbers shards in creation order, so it only suits storages that start empty on every run.
+     *
+     * @param storageFactory creates the storage of a shard on its first use, e.g. {@code key -> new ConcurrentInMemoryStorage()}
+     */
+    public ShardedScoreBoard(Function<String, MatchStorage> storageFactory) {
+        this(storageFactory, creationOrder());
+    }
+
+    /**
+     * @param storageFactory creates the storage of a shard on its first use
+     * @param shardIndexes   stable mapping of a shard key to its index in {@code [0, MAX_SHARDS)}, e.g. read from configuration
+     */
+    public ShardedScoreBoard(Function<String, MatchStorage> storageFactory, ToIntFunction<String> shardIndexes) {
+        this.storageFactory = storageFactory;
+        this.shardIndexes = shardIndexes;
+    }
+
+    @Override
+    public Long createMatch(String homeTeam, String awayTeam) {
+        return createMatch(DEFAULT_SHARD, homeTeam, awayTeam, LocalDateTime.now());
+    }
+
+    @Override
+    public Long createMatch(String homeTeam, String awayTeam, LocalDateTime startTime) {
+        return createMatch(DEFAULT_SHARD, homeTeam, awayTeam, startTime);
+    }
+
+    public Long createMatch(String shardKey, String homeTeam, String awayTeam) {
+        return createMatch(shardKey, homeTeam, awayTeam, LocalDateTime.now());
+    }
+
+    public Long createMatch(String shardKey, String homeTeam, String awayTeam, LocalDateTime startTime) {
+        Shard shard = shard(shardKey);
+        Lock changeLock = summaryChangeLog.changeLock();
+        changeLock.lock();
+        try {
+            Long id = shard.board().createMatch(homeTeam, awayTeam, startTime);
+            summaryChangeLog.append(id, true);
+            return id;
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean updateMatch(Long id, MatchScore matchScore) {
+        Shard shard = shardOf(id);
+        if (shard == null) {
+            return false;
+        }
+        Lock changeLock = summaryChangeLog.changeLock();
+        changeLock.lock();
+        try {
+            if (!shard.board().updateMatch(id, matchScore)) {
+                return false;
+            }
+            summaryChangeLog.append(id, false);
+            return true;
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean updateMatch(long id, int homeScore, int awayScore) {
+        Shard shard = shardOf(id);
+        if (shard == null) {
+            return false;
+        }
+        Lock changeLock = summaryChangeLog.changeLock();
+        changeLock.lock();
+        try {
+            if (!shard.board().updateMatch(id, homeScore, awayScore)) {
+                return false;
+            }
+            summaryChangeLog.append(id, false);
+            return true;
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    /**
+     * Splits the batch by shard, applies every part on its shard and returns the results in the order of the updates.
+     */
+    @Override
+    public List<ScoreUpdateResult> updateMatches(Collection<ScoreUpdate> scoreUpdates) {
+        ScoreUpdateResult[] results = new ScoreUpdateResult[scoreUpdates.size()];
+        Map<Shard, List<ScoreUpdate>> updatesByShard = new HashMap<>();
+        Map<Shard, List<Integer>> positionsByShard = new HashMap<>();
+        int position = 0;
+        for (ScoreUpdate scoreUpdate : scoreUpdates) {
+            Shard shard = shardOf(scoreUpdate.id());
+            if (shard == null) {
+                results[position] = new ScoreUpdateResult(scoreUpdate.id(), UpdateStatus.NOT_FOUND);
+            } else {
+                updatesByShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(scoreUpdate);
+                positionsByShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(position);
+            }
+            position++;
+        }
+        Lock changeLock = summaryChangeLog.changeLock();
+        updatesByShard.forEach((shard, updates) -> {
+            changeLock.lock();
+            try {
+                List<ScoreUpdateResult> shardResults = shard.board().updateMatches(updates);
+                List<Integer> positions = positionsByShard.get(shard);
+                for (int index = 0; index < shardResults.size(); index++) {
+                    ScoreUpdateResult result = shardResults.get(index);
+                    results[positions.get(index)] = result;
+                    if (result.isUpdated()) {
+                        summaryChangeLog.append(result.id(), false);
+                    }
+                }
+            } finally {
+                changeLock.unlock();
+            }
+        });
+        return Arrays.asList(results);
+    }
+
+    @Override
+    public void finishMatch(Long id) {
+        Shard shard = shardOf(id);
+        if (shard == null) {
+            throw new MatchStorageException(MessageFormat.format("There is no match with id={0}", id));
+        }
+        Lock changeLock = summaryChangeLog.changeLock();
+        changeLock.lock();
+        try {
+            shard.board().finishMatch(id);
+            summaryChangeLog.append(id, false);
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    @Override
+    public List<FootballMatch> getSummaryMatchesByTotalScore() {
+        return SummaryMerge.merge(shardSummaries(Integer.MAX_VALUE), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the summary of one shard, or an empty list when the shard has no matches yet.
+     */
+    public List<FootballMatch> getSummaryMatchesByTotalScore(String shardKey) {
+        Shard shard = shardsByKey.get(shardKey);
+        return shard == null ? List.of() : shard.board().getSummaryMatchesByTotalScore();
+    }
+
+    @Override
+    public List<FootballMatch> getTopMatches(int limit) {
+        return getSummary(0, limit);
+    }
+
+    /**
+     * Merges only the first {@code offset + limit} matches of every shard.
+     */
+    @Override
+    public List<FootballMatch> getSummary(int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit can not be negative");
+        }
+        int end = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+        List<FootballMatch> merged = SummaryMerge.merge(shardSummaries(end), end);
+        return merged.subList(Math.min(offset, merged.size()), merged.size());
+    }
+
+    @Override
+    public SummaryDelta getSummaryChangesSince(long version) {
+        return summaryChangeLog.delta(version, this::getSummaryMatchesByTotalScore);
+    }
+
+    /**
+     * Events of all shards, delivered through one publisher.
+     */
+    @Override
+    public Flow.Publisher<MatchEvent> getMatchEvents() {
+        return eventPublisher;
+    }
+
+    public Set<String> getShardKeys() {
+        return Set.copyOf(shardsByKey.keySet());
+    }
+
+    private List<List<FootballMatch>> shardSummaries(int limit) {
+        List<List<FootballMatch>> summaries = new ArrayList<>(shardsByKey.size());
+        for (Shard shard : shardsByKey.values()) {
+            summaries.add(limit == Integer.MAX_VALUE
+                    ? shard.board().getSummaryMatchesByTotalScore()
+                    : shard.board().getTopMatches(limit));
+        }
+        return summaries;
+    }
+
+    private Shard shard(String shardKey) {
+        return shardsByKey.computeIfAbsent(shardKey, this::newShard);
+    }
+
+    private Shard shardOf(Long id) {
+        if (id == null || id <= 0L) {
+            return null;
+        }
+        return shardsByIndex.get((int) (id & SHARD_MASK));
+    }
+
+    private Shard newShard(String shardKey) {
+        int index = shardIndexes.applyAsInt(shardKey);
+        if (index < 0 || index >= MAX_SHARDS) {
+            throw new IllegalStateException(MessageFormat.format(
+                    "Shard {0} has index {1}, score board can not have more than {2} shards", shardKey, index, MAX_SHARDS));
+        }
+        Shard indexOwner = shardsByIndex.get(index);
+        if (indexOwner != null) {
+            throw shardIndexInUse(shardKey, index, indexOwner);
+        }
+        MatchStorage storage = storageFactory.apply(shardKey);
+        long lastSequence = 0L;
+        for (FootballMatch match : storage.getAllMatches()) {
+            if ((match.id() & SHARD_MASK) != index) {
+                throw new IllegalStateException(MessageFormat.format(
+                        "Storage of shard {0} holds match with id={1} of another shard index than {2}", shardKey, match.id(), index));
+            }
+            lastSequence = Math.max(lastSequence, match.id() >>> SHARD_BITS);
+        }
+        ShardMatchFactory matchFactory = new ShardMatchFactory(new FootballMatchFactory(teamRegistry), index, lastSequence + 1);
+        Shard shard = new Shard(shardKey, new FootballWorldCupScoreBoard(matchFactory, storage, eventPublisher));
+        if (!shardsByIndex.compareAndSet(index, null, shard)) {
+            throw shardIndexInUse(shardKey, index, shardsByIndex.get(index));
+        }
+        log.debug("Created shard {} with index {}", shardKey, index);
+        return shard;
+    }
+
+    private static IllegalStateException shardIndexInUse(String shardKey, int index, Shard indexOwner) {
+        return new IllegalStateException(MessageFormat.format(
+                "Shard {0} can not take index {1} of shard {2}", shardKey, index, indexOwner.key()));
+    }
+
+    private static ToIntFunction<String> creationOrder() {
+        AtomicInteger shardCount = new AtomicInteger();
+        return shardKey -> shardCount.getAndIncrement();
+    }
+
+    private record Shard(String key, FootballWorldCupScoreBoard board) {
+
+    }
+}
@@ -0,0 +1,116 @@
+package pl.football.worldcup.scoreboard.storage;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.experimental.UtilityClass;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+
+/**
+ * Read-only map views over a batch, so a bulk insert can go through {@link Map#putAll}: hash maps size their table
+ * once for the whole argument instead of doubling it while the batch is inserted entry by entry. An iteration hands
+ * out one entry moved along the batch, which {@code putAll} only reads, so a batch costs no entry per element.
+ */
+@UtilityClass
+class BatchViews {
+
+    Map<Long, FootballMatch> byId(List<FootballMatch> matches) {
+        return new ListMap<>(matches) {
+            @Override
+            Long key(FootballMatch match) {
+                return match.id();
+            }
+
+            @Override
+            FootballMatch value(FootballMatch match) {
+                return match;
+            }
+        };
+    }
+
+    /**
+     * Map of the ids to {@code true}, the value {@link java.util.concurrent.ConcurrentHashMap#newKeySet()} sets use.
+     */
+    Map<Long, Boolean> presentIds(List<Long> ids) {
+        return new ListMap<>(ids) {
+            @Override
+            Long key(Long id) {
+                return id;
+            }
+
+            @Override
+            Boolean value(Long id) {
+                return Boolean.TRUE;
+            }
+        };
+    }
+
+    private abstract static class ListMap<E, V> extends AbstractMap<Long, V> {
+
+        private final List<E> elements;
+
+        private ListMap(List<E> elements) {
+            this.elements = elements;
+        }
+
+        abstract Long key(E element);
+
+        abstract V value(E element);
+
+        @Override
+        public Set<Map.Entry<Long, V>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Map.Entry<Long, V>> iterator() {
+                    Iterator<E> iterator = elements.iterator();
+                    return new Iterator<>() {
+                        private final Cursor cursor = new Cursor();
+
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Map.Entry<Long, V> next() {
+                            cursor.element = iterator.next();
+                            return cursor;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return elements.size();
+                }
+            };
+        }
+
+        /**
+         * Entry of the element the iterator is at; read it before moving on.
+         */
+        private final class Cursor implements Map.Entry<Long, V> {
+
+            private E element;
+
+            @Override
+            public Long getKey() {
+                return key(element);
+            }
+
+            @Override
+            public V getValue() {
+                return value(element);
+            }
+
+            @Override
+            public V setValue(V value) {
+                throw new UnsupportedOperationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package pl.football.worldcup.scoreboard.storage;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+import pl.football.worldcup.scoreboard.exception.MatchStorageException;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchResult;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.model.UpdateStatus;
+
+/**
+ * Thread-safe counterpart of {@link InMemoryStorage}: every insert and update is a single atomic
+ * map operation, so it can be shared between feed-ingest and API threads.
+ */
+@Slf4j
+public class ConcurrentInMemoryStorage implements MatchStorage {
+
+    private final AtomicLong idCounter = new AtomicLong(1);
+
+    private final ConcurrentMap<Long, FootballMatch> storage;
+    private final MatchIndexes matchIndexes = new MatchIndexes();
+
+    public ConcurrentInMemoryStorage() {
+        this(new ConcurrentHashMap<>());
+    }
+
+    public ConcurrentInMemoryStorage(ConcurrentMap<Long, FootballMatch> storage) {
+        this.storage = storage;
+        storage.values().forEach(match -> idCounter.accumulateAndGet(match.id() + 1, Math::max));
+        matchIndexes.addAll(storage.values());
+    }
+
+    /**
+     * A match with an id is stored under it and moves the id counter past it only once it is stored, so a rejected
+     * duplicate leaves the counter alone. A generated id that a concurrently saved match already took is skipped.
+     */
+    @Override
+    public FootballMatch saveMatch(FootballMatch match) {
+        log.debug("Saving match {}", match);
+        FootballMatch matchNew = match;
+        if (matchNew.id() != 0L) {
+            if (storage.putIfAbsent(matchNew.id(), matchNew) != null) {
+                throw new MatchStorageException("Match object already exist in storage");
+            }
+            idCounter.accumulateAndGet(matchNew.id() + 1, Math::max);
+        } else {
+            do {
+                matchNew = match.toBuilder()
+                        .id(idCounter.getAndIncrement())
+                        .build();
+            } while (storage.putIfAbsent(matchNew.id(), matchNew) != null);
+        }
+        matchIndexes.add(matchNew);
+        return matchNew;
+    }
+
+    /**
+     * Stores matches with ids one by one but indexes them together, once the batch is stored or a duplicate stops it.
+     * Matches without an id go through {@link #saveMatch(FootballMatch)}.
+     */
+    @Override
+    public void saveMatches(Collection<FootballMatch> matches) {
+        log.debug("Saving {} matches", matches.size());
+        List<FootballMatch> stored = new ArrayList<>(matches.size());
+        long nextId = 0L;
+        try {
+            for (FootballMatch match : matches) {
+                if (match.id() == 0L) {
+                    saveMatch(match);
+                    continue;
+                }
+                if (storage.putIfAbsent(match.id(), match) != null) {
+                    throw new MatchStorageException("Match object already exist in storage");
+                }
+                stored.add(match);
+                nextId = Math.max(nextId, match.id() + 1);
+            }
+        } finally {
+            idCounter.accumulateAndGet(nextId, Math::max);
+            matchIndexes.addAll(stored);
+        }
+    }
+
+    /**
+     * Stages the matches and stores them at commit with one {@link Map#putAll}, so the map is sized once for the batch,
+     * then indexes them together. A batch holding a stored id is rejected before anything is stored, and the id counter
+     * is advanced first, so a match saved meanwhile without an id does not take a loaded id. The load is meant for a
+     * storage nobody else writes to, e.g. a fresh replica; a match saved meanwhile under a loaded id is replaced.
+     */
+    @Override
+    public MatchLoader loader(int expectedCount) {
+        List<FootballMatch> matches = new ArrayList<>(expectedCount);
+        List<FootballMatch> matchesWithoutId = new ArrayList<>();
+        return new MatchLoader() {
+            private long nextId;
+
+            @Override
+            public void add(FootballMatch match) {
+                if (match.id() == 0L) {
+                    matchesWithoutId.add(match);
+                    return;
+                }
+                matches.add(match);
+                nextId = Math.max(nextId, match.id() + 1);
+            }
+
+            @Override
+            public void commit() {
+                log.debug("Loading {} matches", matches.size());
+                if (!storage.isEmpty()) {
+                    for (FootballMatch match : matches) {
+                        if (storage.containsKey(match.id())) {
+                            throw new MatchStorageException("Match object already exist in storage");
+                        }
+                    }
+                }
+                idCounter.accumulateAndGet(nextId, Math::max);
+                storage.putAll(BatchViews.byId(matches));
+                matchIndexes.addAll(matches);
+                matchesWithoutId.forEach(ConcurrentInMemoryStorage.this::saveMatch);
+            }
+        };
+    }
+
+    @Override
+    public FootballMatch updateMatch(FootballMatch match) {
+        log.debug("Updating match {}", match);
+        FootballMatch matchNew = storage.computeIfPresent(match.id(), (id, previous) -> {
+            FootballMatch next = nextVersion(match, previous);
+            matchIndexes.update(previous, next);
+            return next;
+        });
+        if (matchNew == null) {
+            throw new MatchStorageException("There is no match object in storage");
+        }
+        return matchNew;
+    }
+
+    @Override
+    public Optional<FootballMatch> compareAndSetMatch(FootballMatch expected, FootballMatch updated) {
+        log.debug("Compare and set match {}", updated);
+        return replaceMatch(getMatch(expected.id()), expected, updated) instanceof MatchResult.Success success
+                ? Optional.of(success.match())
+                : Optional.empty();
+    }
+
+    @Override
+    public MatchResult tryCompareAndSetMatch(FootballMatch expected, FootballMatch updated) {
+        log.debug("Compare and set match {}", updated);
+        FootballMatch current = expected.id() == null ? null : storage.get(expected.id());
+        return current == null ? MatchResult.rejected(UpdateStatus.NOT_FOUND) : replaceMatch(current, expected, updated);
+    }
+
+    @Override
+    public boolean updateScore(long id, int homeScore, int awayScore) {
+        return storeScore(id, homeScore, awayScore) != null;
+    }
+
+    @Override
+    public MatchResult tryUpdateScore(long id, int homeScore, int awayScore) {
+        FootballMatch matchNew = storeScore(id, homeScore, awayScore);
+        return matchNew == null ? MatchResult.rejected(UpdateStatus.NOT_FOUND) : MatchResult.success(matchNew);
+    }
+
+    private MatchResult replaceMatch(FootballMatch current, FootballMatch expected, FootballMatch updated) {
+        if (current.version() != expected.version()) {
+            return MatchResult.rejected(UpdateStatus.CONFLICT);
+        }
+        FootballMatch matchNew = nextVersion(updated, current);
+        FootballMatch stored = storage.computeIfPresent(matchNew.id(), (id, previous) -> {
+            if (previous != current) {
+                return previous;
+            }
+            matchIndexes.update(previous, matchNew);
+            return matchNew;
+        });
+        if (stored == matchNew) {
+            return MatchResult.success(matchNew);
+        }
+        return MatchResult.rejected(stored != null ? UpdateStatus.CONFLICT : UpdateStatus.NOT_FOUND);
+    }
+
+    private FootballMatch storeScore(long id, int homeScore, int awayScore) {
+        return storage.computeIfPresent(id, (key, previous) -> nextVersion(previous.toBuilder()
+                .matchScore(new MatchScore(homeScore, awayScore))
+                .build(), previous));
+    }
+
+    @Override
+    public FootballMatch getMatch(Long id) {
+        log.debug("Try to fetch match using id {}", id);
+        FootballMatch match = storage.get(id);
+        if (match == null) {
+            throw new MatchStorageException(MessageFormat.format("There is no match with id={0}", id));
+        }
+        return match;
+    }
+
+    @Override
+    public MatchResult findMatch(Long id) {
+        FootballMatch match = id == null ? null : storage.get(id);
+        return match == null ? MatchResult.rejected(UpdateStatus.NOT_FOUND) : MatchResult.success(match);
+    }
+
+    @Override
+    public FootballMatch removeMatch(Long id) {
+        log.debug("Removing match with id {}", id);
+        FootballMatch match = storage.remove(id);
+        if (match == null) {
+            throw new MatchStorageException(MessageFormat.format("There is no match with id={0}", id));
+        }
+        matchIndexes.remove(match);
+        return match;
+    }
+
+    @Override
+    public Map<Long, FootballMatch> getMatches(Collection<Long> ids) {
+        log.debug("Try to fetch matches using ids {}", ids);
+        Map<Long, FootballMatch> matches = new HashMap<>();
+        for (Long id : ids) {
+            FootballMatch match = id == null ? null : storage.get(id);
+            if (match != null) {
+                matches.put(id, match);
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public List<FootballMatch> getAllMatches() {
+        return storage.values()
+                .stream()
+                .toList();
+    }
+
+    @Override
+    public List<FootballMatch> getAllMatchesInProgress() {
+        return matchIndexes.inProgressIds()
+                .stream()
+                .map(storage::get)
+                .filter(match -> match != null && match.endTime() == null)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<FootballMatch> getAllFinishedMatches() {
+        return matchIndexes.finishedIds()
+                .stream()
+                .map(storage::get)
+                .filter(match -> match != null && match.endTime() != null)
+                .toList();
+    }
+
+    @Override
+    public List<FootballMatch> getAllMatchesOfTeam(String teamName) {
+        return matchIndexes.teamMatchIds(teamName)
+                .stream()
+                .map(storage::get)
+                .filter(match -> match != null && MatchIndexes.playsIn(match, teamName))
+                .toList();
+    }
+
+    @Override
+    public int matchCount() {
+        return storage.size();
+    }
+
+    @Override
+    public long nextId() {
+        return idCounter.get();
+    }
+
+    @Override
+    public void advanceNextId(long nextId) {
+        idCounter.accumulateAndGet(nextId, Math::max);
+    }
+
+    @Override
+    public Stream<FootballMatch> streamMatches(MatchQuery query) {
+        return matchIndexes.candidateIds(query)
+                .map(ids -> ids.stream()
+                        .map(storage::get)
+                        .filter(Objects::nonNull))
+                .orElseGet(() -> storage.values().stream())
+                .filter(query::matches);
+    }
+
+    private FootballMatch nextVersion(FootballMatch match, FootballMatch current) {
+        return match.toBuilder()
+                .version(current.version() + 1)
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package pl.football.worldcup.scoreboard.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+
+/**
+ * Secondary indexes shared by the storages: in-progress and finished match ids, and match ids by team name.
+ * A finishing match is added to the finished set before it leaves the in-progress set, so callers filtering
+ * the in-progress ids by the stored match never miss a live one.
+ */
+final class MatchIndexes {
+
+    private final ConcurrentHashMap.KeySetView<Long, Boolean> inProgress = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap.KeySetView<Long, Boolean> finished = ConcurrentHashMap.newKeySet();
+    private final Map<String, ConcurrentHashMap.KeySetView<Long, Boolean>> byTeam = new ConcurrentHashMap<>();
+
+    void add(FootballMatch match) {
+        addTeam(match.homeTeam(), match.id());
+        addTeam(match.awayTeam(), match.id());
+        if (match.endTime() == null) {
+            inProgress.add(match.id());
+        } else {
+            finished.add(match.id());
+        }
+    }
+
+    /**
+     * Bulk variant of {@link #add(FootballMatch)}: groups the ids by state and team first, so every set is sized once
+     * for its share of the batch instead of growing match by match.
+     */
+    void addAll(Collection<FootballMatch> matches) {
+        List<Long> inProgressIds = new ArrayList<>(matches.size());
+        List<Long> finishedIds = new ArrayList<>();
+        Map<String, List<Long>> idsByTeam = new HashMap<>();
+        for (FootballMatch match : matches) {
+            idsByTeam.computeIfAbsent(match.homeTeam(), name -> new ArrayList<>()).add(match.id());
+            idsByTeam.computeIfAbsent(match.awayTeam(), name -> new ArrayList<>()).add(match.id());
+            (match.endTime() == null ? inProgressIds : finishedIds).add(match.id());
+        }
+        inProgress.getMap().putAll(BatchViews.presentIds(inProgressIds));
+        finished.getMap().putAll(BatchViews.presentIds(finishedIds));
+        idsByTeam.forEach((teamName, ids) -> byTeam.computeIfAbsent(teamName, name -> ConcurrentHashMap.newKeySet(ids.size()))
+                .getMap()
+                .putAll(BatchViews.presentIds(ids)));
+    }
+
+    /**
+     * Re-indexes a stored match: moves it between the in-progress and finished sets whichever way its end time changed,
+     * and from the teams of {@code previous} to its own. New entries are added before old ones are removed, so a
+     * reader filtering candidates by the stored match never misses it. Storages call it while the match can not
+     * change, so updates of one match are applied in order.
+     */
+    void update(FootballMatch previous, FootballMatch updated) {
+        updateState(updated);
+        if (previous.homeTeam().equals(updated.homeTeam()) && previous.awayTeam().equals(updated.awayTeam())) {
+            return;
+        }
+        addTeam(updated.homeTeam(), updated.id());
+        addTeam(updated.awayTeam(), updated.id());
+        if (!playsIn(updated, previous.homeTeam())) {
+            removeTeam(previous.homeTeam(), updated.id());
+        }
+        if (!playsIn(updated, previous.awayTeam())) {
+            removeTeam(previous.awayTeam(), updated.id());
+        }
+    }
+
+    /**
+     * Re-indexes only the state of a match whose teams can not change.
+     */
+    void updateState(FootballMatch match) {
+        if (match.endTime() != null) {
+            if (finished.add(match.id())) {
+                inProgress.remove(match.id());
+            }
+        } else if (inProgress.add(match.id())) {
+            finished.remove(match.id());
+        }
+    }
+
+    static boolean playsIn(FootballMatch match, String teamName) {
+        return teamName.equals(match.homeTeam()) || teamName.equals(match.awayTeam());
+    }
+
+    void remove(FootballMatch match) {
+        inProgress.remove(match.id());
+        finished.remove(match.id());
+        removeTeam(match.homeTeam(), match.id());
+        removeTeam(match.awayTeam(), match.id());
+    }
+
+    Set<Long> inProgressIds() {
+        return Collections.unmodifiableSet(inProgress);
+    }
+
+    Set<Long> finishedIds() {
+        return Collections.unmodifiableSet(finished);
+    }
+
+    Set<Long> teamMatchIds(String teamName) {
+        Set<Long> ids = byTeam.get(teamName);
+        return ids == null ? Set.of() : Collections.unmodifiableSet(ids);
+    }
+
+    /**
+     * Returns the ids of the narrowest index the query can use (team before status), or an empty result when
+     * the query has to scan all matches. The ids are only candidates; the query still has to check the matches.
+     */
+    Optional<Set<Long>> candidateIds(MatchQuery query) {
+        if (query.team() != null) {
+            return Optional.of(teamMatchIds(query.team()));
+        }
+        return switch (query.status()) {
+            case IN_PROGRESS -> Optional.of(inProgressIds());
+            case FINISHED -> Optional.of(finishedIds());
+            case ANY -> Optional.empty();
+        };
+    }
+
+    private void addTeam(String teamName, Long id) {
+        byTeam.computeIfAbsent(teamName, name -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+
+    private void removeTeam(String teamName, Long id) {
+        Set<Long> ids = byTeam.get(teamName);
+        if (ids != null) {
+            ids.remove(id);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package pl.football.worldcup.scoreboard.storage;
+
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+
+/**
+ * One bulk load of matches with ids into a {@link MatchStorage}, e.g. a restored snapshot. Added matches are staged
+ * and only stored by {@link #commit()}, so a load abandoned half way leaves the storage untouched.
+ */
+public interface MatchLoader {
+
+    void add(FootballMatch match);
+
+    /**
+     * Stores every staged match as {@link MatchStorage#saveMatches} would.
+     */
+    void commit();
+}
@@ -0,0 +1,68 @@
+package pl.football.worldcup.scoreboard.storage;
+
+import java.time.LocalDateTime;
+
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+
+/**
+ * Predicates of {@link MatchStorage#streamMatches(MatchQuery)}. Storages push them down to their indexes or raw
+ * records where they can; {@link #matches(FootballMatch)} is the reference semantics.
+ *
+ * @param team           matches where this team plays home or away, {@code null} for any team
+ * @param status         match status
+ * @param startedFrom    inclusive lower bound of the start time, {@code null} for no bound
+ * @param startedBefore  exclusive upper bound of the start time, {@code null} for no bound
+ * @param minTotalScore  inclusive lower bound of the total score
+ * @param maxTotalScore  inclusive upper bound of the total score
+ */
+public record MatchQuery(String team, Status status, LocalDateTime startedFrom, LocalDateTime startedBefore,
+                         int minTotalScore, int maxTotalScore) {
+
+    private static final MatchQuery ALL = new MatchQuery(null, Status.ANY, null, null, 0, Integer.MAX_VALUE);
+
+    public enum Status {
+        ANY,
+        IN_PROGRESS,
+        FINISHED
+    }
+
+    public static MatchQuery all() {
+        return ALL;
+    }
+
+    public MatchQuery withTeam(String teamName) {
+        return new MatchQuery(teamName, status, startedFrom, startedBefore, minTotalScore, maxTotalScore);
+    }
+
+    public MatchQuery withStatus(Status matchStatus) {
+        return new MatchQuery(team, matchStatus, startedFrom, startedBefore, minTotalScore, maxTotalScore);
+    }
+
+    public MatchQuery withStartTimeBetween(LocalDateTime from, LocalDateTime before) {
+        return new MatchQuery(team, status, from, before, minTotalScore, maxTotalScore);
+    }
+
+    public MatchQuery withTotalScoreBetween(int min, int max) {
+        return new MatchQuery(team, status, startedFrom, startedBefore, min, max);
+    }
+
+    public boolean matches(FootballMatch match) {
+        return (team == null || team.equals(match.homeTeam()) || team.equals(match.awayTeam()))
+                && matchesStatus(match.endTime() != null)
+                && matchesStartTime(match.startTime())
+                && matchesTotalScore(match.totalScore());
+    }
+
+    public boolean matchesStatus(boolean finished) {
+        return status == Status.ANY || (status == Status.FINISHED) == finished;
+    }
+
+    public boolean matchesStartTime(LocalDateTime startTime) {
+        return (startedFrom == null || !startTime.isBefore(startedFrom))
+                && (startedBefore == null || startTime.isBefore(startedBefore));
+    }
+
+    public boolean matchesTotalScore(long totalScore) {
+        return totalScore >= minTotalScore && totalScore <= maxTotalScore;
+    }
+}
@@ -0,0 +1,182 @@
+package pl.football.worldcup.scoreboard.storage;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+
+/**
+ * Mutable per-match slot. Scores, version and the finished flag are packed into one {@code long}
+ * ({@code [finished:1][version:31][home:16][away:16]}) and changed with a single compare-and-set,
+ * so a score update neither locks nor allocates. Immutable {@link FootballMatch} snapshots are built on reads only.
+ * The version saturates at {@link #MAX_VERSION} instead of wrapping: a slot that reached it rejects further updates,
+ * so a newer state never carries a smaller version than an older one.
+ */
+final class MatchSlot {
+
+    static final int MAX_SCORE = 0xFFFF;
+    static final long MAX_VERSION = 0x7FFF_FFFFL;
+
+    private static final long FINISHED_BIT = 1L << 63;
+    /**
+     * Returned by {@link #casScore(int, int)} for a rejected update. Every update bumps the version, so no updated
+     * state has version 0.
+     */
+    private static final long REJECTED = FINISHED_BIT;
+    private static final VarHandle STATE;
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(MatchSlot.class, "state", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final long id;
+    private final String homeTeam;
+    private final String awayTeam;
+    private final LocalDateTime startTime;
+
+    private volatile long state;
+    private volatile LocalDateTime endTime;
+
+    MatchSlot(FootballMatch match) {
+        this.id = match.id();
+        this.homeTeam = match.homeTeam();
+        this.awayTeam = match.awayTeam();
+        this.startTime = match.startTime();
+        this.endTime = match.endTime();
+        this.state = pack(match.endTime() != null, match.version(), match.matchScore().homeScoreAsInt(), match.matchScore().awayScoreAsInt());
+    }
+
+    static boolean isScoreInRange(int homeScore, int awayScore) {
+        return homeScore >= 0 && homeScore <= MAX_SCORE && awayScore >= 0 && awayScore <= MAX_SCORE;
+    }
+
+    static boolean isVersionInRange(long version) {
+        return version >= 0L && version <= MAX_VERSION;
+    }
+
+    /**
+     * Returns {@code false} when the slot reached {@link #MAX_VERSION}.
+     */
+    boolean updateScore(int homeScore, int awayScore) {
+        return casScore(homeScore, awayScore) != REJECTED;
+    }
+
+    /**
+     * Same as {@link #updateScore(int, int)} but returns the stored snapshot, or {@code null} when the slot
+     * reached {@link #MAX_VERSION}.
+     */
+    FootballMatch updateScoreAndGet(int homeScore, int awayScore) {
+        long next = casScore(homeScore, awayScore);
+        return next == REJECTED ? null : toMatch(next);
+    }
+
+    /**
+     * Returns the stored snapshot, or {@code null} when the slot is no longer at {@code expectedVersion}
+     * or reached {@link #MAX_VERSION}.
+     */
+    FootballMatch compareAndSet(long expectedVersion, FootballMatch updated) {
+        long current = state;
+        if (version(current) != expectedVersion || version(current) == MAX_VERSION) {
+            return null;
+        }
+        boolean finishing = !isFinished(current) && updated.endTime() != null;
+        long next = pack(isFinished(current) || finishing, version(current) + 1,
+                updated.matchScore().homeScoreAsInt(), updated.matchScore().awayScoreAsInt());
+        if (!STATE.compareAndSet(this, current, next)) {
+            return null;
+        }
+        if (finishing) {
+            endTime = updated.endTime();
+        }
+        return toMatch(next);
+    }
+
+    /**
+     * Whether {@code match} differs from the slot only in what the slot can change: the score and, for a match
+     * in progress, the end time.
+     */
+    boolean canHold(FootballMatch match) {
+        if (!Objects.equals(homeTeam, match.homeTeam()) || !Objects.equals(awayTeam, match.awayTeam())
+                || !Objects.equals(startTime, match.startTime())) {
+            return false;
+        }
+        return !isFinished() || Objects.equals(finishedEndTime(), match.endTime());
+    }
+
+    long version() {
+        return version(state);
+    }
+
+    boolean isFinished() {
+        return isFinished(state);
+    }
+
+    FootballMatch toMatch() {
+        return toMatch(state);
+    }
+
+    private long casScore(int homeScore, int awayScore) {
+        long current;
+        long next;
+        do {
+            current = state;
+            if (version(current) == MAX_VERSION) {
+                return REJECTED;
+            }
+            next = pack(isFinished(current), version(current) + 1, homeScore, awayScore);
+        } while (!STATE.compareAndSet(this, current, next));
+        return next;
+    }
+
+    private FootballMatch toMatch(long snapshotState) {
+        LocalDateTime snapshotEndTime = isFinished(snapshotState) ? finishedEndTime() : null;
+        return FootballMatch.builder()
+                .id(id)
+                .homeTeam(homeTeam)
+                .awayTeam(awayTeam)
+                .startTime(startTime)
+                .endTime(snapshotEndTime)
+                .matchScore(new MatchScore(homeScore(snapshotState), awayScore(snapshotState)))
+                .version(version(snapshotState))
+                .build();
+    }
+
+    /**
+     * The finished flag is set before the end time is written, so a reader that saw the flag waits for the end time.
+     */
+    private LocalDateTime finishedEndTime() {
+        LocalDateTime finishedEndTime = endTime;
+        while (finishedEndTime == null) {
+            Thread.onSpinWait();
+            finishedEndTime = endTime;
+        }
+        return finishedEndTime;
+    }
+
+    private static long pack(boolean finished, long version, int homeScore, int awayScore) {
+        return (finished ? FINISHED_BIT : 0L) | version << 32 | (long) homeScore << 16 | awayScore;
+    }
+
+    private static boolean isFinished(long state) {
+        return (state & FINISHED_BIT) != 0L;
+    }
+
+    private static long version(long state) {
+        return state >>> 32 & MAX_VERSION;
+    }
+
+    private static int homeScore(long state) {
+        return (int) (state >>> 16) & MAX_SCORE;
+    }
+
+    private static int awayScore(long state) {
+        return (int) state & MAX_SCORE;
+    }
+}
@@ -1,18 +1,212 @@
 package pl.football.worldcup.scoreboard.storage;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import pl.football.worldcup.scoreboard.exception.MatchStorageException;
 import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchResult;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.model.UpdateStatus;
 
 public interface MatchStorage {
 
     FootballMatch saveMatch(FootballMatch match);
 
+    /**
+     * Saves every match as {@link #saveMatch(FootballMatch)} would, e.g. to restore a snapshot. Storages override it
+     * to index the whole batch at once instead of match by match.
+     */
+    default void saveMatches(Collection<FootballMatch> matches) {
+        matches.forEach(this::saveMatch);
+    }
+
+    /**
+     * Starts a bulk load of about {@code expectedCount} matches with ids. This default stages them in a list sized for
+     * the expected count and commits them with {@link #saveMatches}; storages override it to size their own structures.
+     */
+    default MatchLoader loader(int expectedCount) {
+        List<FootballMatch> matches = new ArrayList<>(expectedCount);
+        return new MatchLoader() {
+            @Override
+            public void add(FootballMatch match) {
+                matches.add(match);
+            }
+
+            @Override
+            public void commit() {
+                saveMatches(matches);
+            }
+        };
+    }
+
     FootballMatch updateMatch(FootballMatch match);
 
+    /**
+     * Stores {@code updated} only if the stored match still has the version of {@code expected}.
+     * The stored copy gets the next version. Returns an empty result when the version check fails.
+     * This default checks and writes in two steps, so it is only atomic for a single writer; shared storages override it.
+     */
+    default Optional<FootballMatch> compareAndSetMatch(FootballMatch expected, FootballMatch updated) {
+        if (getMatch(expected.id()).version() != expected.version()) {
+            return Optional.empty();
+        }
+        return Optional.of(updateMatch(updated));
+    }
+
+    /**
+     * Sets the score of a stored match and bumps its version. Returns {@code false} when there is no such match
+     * or the storage can not hold the given score. This default reads the match and writes it back with
+     * {@link #updateMatch(FootballMatch)}.
+     */
+    default boolean updateScore(long id, int homeScore, int awayScore) {
+        if (!(findMatch(id) instanceof MatchResult.Success success)) {
+            return false;
+        }
+        updateMatch(success.match().toBuilder()
+                .matchScore(new MatchScore(homeScore, awayScore))
+                .build());
+        return true;
+    }
+
+    /**
+     * Variant of {@link #updateScore(long, int, int)} that hands back the stored match, so callers need no second
+     * lookup. An unknown id is rejected with {@link UpdateStatus#NOT_FOUND} and a score the storage can not hold
+     * with {@link UpdateStatus#INVALID_SCORE}.
+     */
+    default MatchResult tryUpdateScore(long id, int homeScore, int awayScore) {
+        if (updateScore(id, homeScore, awayScore)) {
+            return findMatch(id);
+        }
+        MatchResult current = findMatch(id);
+        return current instanceof MatchResult.Rejected ? current : MatchResult.rejected(UpdateStatus.INVALID_SCORE);
+    }
+
     FootballMatch getMatch(Long id);
 
+    /**
+     * Exception-free variant of {@link #getMatch(Long)}: an unknown id is rejected with {@link UpdateStatus#NOT_FOUND}.
+     */
+    default MatchResult findMatch(Long id) {
+        FootballMatch match = id == null ? null : getMatches(List.of(id)).get(id);
+        return match == null ? MatchResult.rejected(UpdateStatus.NOT_FOUND) : MatchResult.success(match);
+    }
+
+    /**
+     * Exception-free variant of {@link #compareAndSetMatch(FootballMatch, FootballMatch)}: a failed version check is
+     * rejected with {@link UpdateStatus#CONFLICT} and a match that is gone with {@link UpdateStatus#NOT_FOUND}.
+     * This default covers a match removed between its checks by looking it up again when the write fails;
+     * storages override it to check once.
+     */
+    default MatchResult tryCompareAndSetMatch(FootballMatch expected, FootballMatch updated) {
+        if (findMatch(expected.id()) instanceof MatchResult.Rejected rejected) {
+            return rejected;
+        }
+        try {
+            return compareAndSetMatch(expected, updated)
+                    .map(MatchResult::success)
+                    .orElse(MatchResult.rejected(UpdateStatus.CONFLICT));
+        } catch (MatchStorageException e) {
+            if (findMatch(expected.id()) instanceof MatchResult.Rejected rejected) {
+                return rejected;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Drops the match from the storage and returns its last stored state. Storages written before removal existed
+     * keep this default, which does not support it.
+     */
+    default FootballMatch removeMatch(Long id) {
+        throw new UnsupportedOperationException("Storage does not support removing matches");
+    }
+
+    /**
+     * Looks up all given ids in one pass. Unknown ids are left out of the returned (mutable) map instead of failing.
+     * This default looks the ids up one by one; storages override it to answer in one call.
+     */
+    default Map<Long, FootballMatch> getMatches(Collection<Long> ids) {
+        Map<Long, FootballMatch> matches = new HashMap<>();
+        for (Long id : ids) {
+            if (id == null || matches.containsKey(id)) {
+                continue;
+            }
+            try {
+                matches.put(id, getMatch(id));
+            } catch (MatchStorageException e) {
+                // unknown ids are left out
+            }
+        }
+        return matches;
+    }
+
     List<FootballMatch> getAllMatches();
 
     List<FootballMatch> getAllMatchesInProgress();
+
+    default List<FootballMatch> getAllFinishedMatches() {
+        return getAllMatches()
+                .stream()
+                .filter(match -> match.endTime() != null)
+                .toList();
+    }
+
+    default List<FootballMatch> getAllMatchesOfTeam(String teamName) {
+        return getAllMatches()
+                .stream()
+                .filter(match -> match.homeTeam().equals(teamName) || match.awayTeam().equals(teamName))
+                .toList();
+    }
+
+    /**
+     * Number of stored matches. This default counts {@link #getAllMatches()}; storages override it to answer without
+     * copying.
+     */
+    default int matchCount() {
+        return getAllMatches().size();
+    }
+
+    /**
+     * Returns the id the storage would assign to the next match saved without one.
+     */
+    default long nextId() {
+        return getAllMatches()
+                .stream()
+                .mapToLong(FootballMatch::id)
+                .max()
+                .orElse(0L) + 1;
+    }
+
+    /**
+     * Makes the storage assign ids from at least {@code nextId} on, e.g. after restoring a snapshot whose newest matches
+     * were removed. Storages that derive ids from their contents ignore it.
+     */
+    default void advanceNextId(long nextId) {
+    }
+
+    /**
+     * Lazily streams the matches the query accepts, without materializing the whole storage first. The stream
+     * supports early termination and splits for parallel processing. Storages override it to push the predicates
+     * down to their indexes; this default only narrows the candidates with the list methods.
+     */
+    default Stream<FootballMatch> streamMatches(MatchQuery query) {
+        List<FootballMatch> candidates;
+        if (query.team() != null) {
+            candidates = getAllMatchesOfTeam(query.team());
+        } else if (query.status() == MatchQuery.Status.IN_PROGRESS) {
+            candidates = getAllMatchesInProgress();
+        } else if (query.status() == MatchQuery.Status.FINISHED) {
+            candidates = getAllFinishedMatches();
+        } else {
+            candidates = getAllMatches();
+        }
+        return candidates.stream()
+                .filter(query::matches);
+    }
 }
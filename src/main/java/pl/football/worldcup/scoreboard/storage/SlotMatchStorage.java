@@ -0,0 +1,263 @@
+package pl.football.worldcup.scoreboard.storage;
+
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+import pl.football.worldcup.scoreboard.exception.MatchStorageException;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchResult;
+import pl.football.worldcup.scoreboard.model.UpdateStatus;
+import pl.football.worldcup.scoreboard.util.LongObjectMap;
+
+/**
+ * Thread-safe storage keeping one mutable {@link MatchSlot} per match, so {@link #updateScore(long, int, int)}
+ * changes the score in place without allocating. Every read hands out an immutable snapshot.
+ * A slot only changes the score and the end time of a match: updates that change the teams or the start time,
+ * or the end time of a finished match, are rejected with {@link MatchStorageException}. Versions never wrap;
+ * a match that reached {@link MatchSlot#MAX_VERSION} can not be updated any more.
+ */
+@Slf4j
+public class SlotMatchStorage implements MatchStorage {
+
+    private final AtomicLong idCounter = new AtomicLong(1);
+
+    private final LongObjectMap<MatchSlot> storage;
+    private final MatchIndexes matchIndexes = new MatchIndexes();
+
+    public SlotMatchStorage() {
+        this(16);
+    }
+
+    public SlotMatchStorage(int expectedMatches) {
+        this.storage = new LongObjectMap<>(expectedMatches);
+    }
+
+    @Override
+    public FootballMatch saveMatch(FootballMatch match) {
+        log.debug("Saving match {}", match);
+        validateScoreRange(match);
+        if (!MatchSlot.isVersionInRange(match.version())) {
+            throw new MatchStorageException("Match version is out of storage range");
+        }
+        FootballMatch matchNew = match;
+        if (matchNew.id() != 0L) {
+            if (storage.putIfAbsent(matchNew.id(), new MatchSlot(matchNew)) != null) {
+                throw new MatchStorageException("Match object already exist in storage");
+            }
+            idCounter.accumulateAndGet(matchNew.id() + 1, Math::max);
+        } else {
+            do {
+                matchNew = match.toBuilder()
+                        .id(idCounter.getAndIncrement())
+                        .build();
+            } while (storage.putIfAbsent(matchNew.id(), new MatchSlot(matchNew)) != null);
+        }
+        matchIndexes.add(matchNew);
+        return matchNew;
+    }
+
+    @Override
+    public FootballMatch updateMatch(FootballMatch match) {
+        log.debug("Updating match {}", match);
+        validateScoreRange(match);
+        MatchSlot slot = storage.get(match.id());
+        if (slot == null) {
+            throw new MatchStorageException("There is no match object in storage");
+        }
+        validateChangeable(slot, match);
+        FootballMatch matchNew;
+        do {
+            long version = slot.version();
+            if (version == MatchSlot.MAX_VERSION) {
+                throw new MatchStorageException(MessageFormat.format("Match with id={0} reached its maximum version", match.id()));
+            }
+            matchNew = slot.compareAndSet(version, match);
+        } while (matchNew == null);
+        matchIndexes.updateState(matchNew);
+        return matchNew;
+    }
+
+    @Override
+    public Optional<FootballMatch> compareAndSetMatch(FootballMatch expected, FootballMatch updated) {
+        log.debug("Compare and set match {}", updated);
+        validateScoreRange(updated);
+        return Optional.ofNullable(compareAndSet(getSlot(expected.id()), expected, updated));
+    }
+
+    /**
+     * An out of range score is rejected with {@link UpdateStatus#INVALID_SCORE}; changing more than the score
+     * and the end time still throws.
+     */
+    @Override
+    public MatchResult tryCompareAndSetMatch(FootballMatch expected, FootballMatch updated) {
+        log.debug("Compare and set match {}", updated);
+        MatchSlot slot = expected.id() == null ? null : storage.get(expected.id());
+        if (slot == null) {
+            return MatchResult.rejected(UpdateStatus.NOT_FOUND);
+        }
+        if (!MatchSlot.isScoreInRange(updated.matchScore().homeScoreAsInt(), updated.matchScore().awayScoreAsInt())) {
+            return MatchResult.rejected(UpdateStatus.INVALID_SCORE);
+        }
+        FootballMatch matchNew = compareAndSet(slot, expected, updated);
+        return matchNew == null ? MatchResult.rejected(UpdateStatus.CONFLICT) : MatchResult.success(matchNew);
+    }
+
+    @Override
+    public boolean updateScore(long id, int homeScore, int awayScore) {
+        MatchSlot slot = storage.get(id);
+        return slot != null && MatchSlot.isScoreInRange(homeScore, awayScore) && slot.updateScore(homeScore, awayScore);
+    }
+
+    @Override
+    public MatchResult tryUpdateScore(long id, int homeScore, int awayScore) {
+        MatchSlot slot = storage.get(id);
+        if (slot == null) {
+            return MatchResult.rejected(UpdateStatus.NOT_FOUND);
+        }
+        if (!MatchSlot.isScoreInRange(homeScore, awayScore)) {
+            return MatchResult.rejected(UpdateStatus.INVALID_SCORE);
+        }
+        FootballMatch matchNew = slot.updateScoreAndGet(homeScore, awayScore);
+        return matchNew == null ? MatchResult.rejected(UpdateStatus.CONFLICT) : MatchResult.success(matchNew);
+    }
+
+    @Override
+    public FootballMatch getMatch(Long id) {
+        log.debug("Try to fetch match using id {}", id);
+        return getSlot(id).toMatch();
+    }
+
+    @Override
+    public MatchResult findMatch(Long id) {
+        MatchSlot slot = id == null ? null : storage.get(id);
+        return slot == null ? MatchResult.rejected(UpdateStatus.NOT_FOUND) : MatchResult.success(slot.toMatch());
+    }
+
+    @Override
+    public FootballMatch removeMatch(Long id) {
+        log.debug("Removing match with id {}", id);
+        MatchSlot slot = id == null ? null : storage.remove(id);
+        if (slot == null) {
+            throw new MatchStorageException(MessageFormat.format("There is no match with id={0}", id));
+        }
+        FootballMatch match = slot.toMatch();
+        matchIndexes.remove(match);
+        return match;
+    }
+
+    @Override
+    public Map<Long, FootballMatch> getMatches(Collection<Long> ids) {
+        log.debug("Try to fetch matches using ids {}", ids);
+        Map<Long, FootballMatch> matches = new HashMap<>();
+        for (Long id : ids) {
+            MatchSlot slot = id == null ? null : storage.get(id);
+            if (slot != null) {
+                matches.put(id, slot.toMatch());
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public List<FootballMatch> getAllMatches() {
+        return storage.values()
+                .stream()
+                .map(MatchSlot::toMatch)
+                .toList();
+    }
+
+    @Override
+    public List<FootballMatch> getAllMatchesInProgress() {
+        return matchIndexes.inProgressIds()
+                .stream()
+                .map(this::matchOrNull)
+                .filter(match -> match != null && match.endTime() == null)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<FootballMatch> getAllFinishedMatches() {
+        return matchIndexes.finishedIds()
+                .stream()
+                .map(this::matchOrNull)
+                .filter(match -> match != null && match.endTime() != null)
+                .toList();
+    }
+
+    @Override
+    public List<FootballMatch> getAllMatchesOfTeam(String teamName) {
+        return matchIndexes.teamMatchIds(teamName)
+                .stream()
+                .map(this::matchOrNull)
+                .filter(match -> match != null && MatchIndexes.playsIn(match, teamName))
+                .toList();
+    }
+
+    @Override
+    public int matchCount() {
+        return storage.size();
+    }
+
+    @Override
+    public long nextId() {
+        return idCounter.get();
+    }
+
+    @Override
+    public void advanceNextId(long nextId) {
+        idCounter.accumulateAndGet(nextId, Math::max);
+    }
+
+    @Override
+    public Stream<FootballMatch> streamMatches(MatchQuery query) {
+        return matchIndexes.candidateIds(query)
+                .map(ids -> ids.stream()
+                        .map(this::matchOrNull)
+                        .filter(Objects::nonNull))
+                .orElseGet(() -> storage.stream().map(MatchSlot::toMatch))
+                .filter(query::matches);
+    }
+
+    private FootballMatch matchOrNull(Long id) {
+        MatchSlot slot = storage.get(id);
+        return slot == null ? null : slot.toMatch();
+    }
+
+    private MatchSlot getSlot(Long id) {
+        MatchSlot slot = id == null ? null : storage.get(id);
+        if (slot == null) {
+            throw new MatchStorageException(MessageFormat.format("There is no match with id={0}", id));
+        }
+        return slot;
+    }
+
+    private FootballMatch compareAndSet(MatchSlot slot, FootballMatch expected, FootballMatch updated) {
+        validateChangeable(slot, updated);
+        FootballMatch matchNew = slot.compareAndSet(expected.version(), updated);
+        if (matchNew != null) {
+            matchIndexes.updateState(matchNew);
+        }
+        return matchNew;
+    }
+
+    private void validateChangeable(MatchSlot slot, FootballMatch match) {
+        if (!slot.canHold(match)) {
+            throw new MatchStorageException("Only the score and the end time of a stored match can change");
+        }
+    }
+
+    private void validateScoreRange(FootballMatch match) {
+        if (!MatchSlot.isScoreInRange(match.matchScore().homeScoreAsInt(), match.matchScore().awayScoreAsInt())) {
+            throw new MatchStorageException("Match score is out of storage range");
+        }
+    }
+}
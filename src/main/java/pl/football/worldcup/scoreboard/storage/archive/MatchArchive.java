@@ -0,0 +1,265 @@
+package pl.football.worldcup.scoreboard.storage.archive;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+import pl.football.worldcup.scoreboard.exception.MatchStorageException;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.storage.MatchQuery;
+import pl.football.worldcup.scoreboard.util.LongObjectMap;
+
+/**
+ * Append-only store of finished matches kept off-heap in a memory-mapped file ({@code matches.bin}). Every match
+ * takes one fixed-width record: ids, version, UTC epoch seconds and nanos of both timestamps, dictionary ids of
+ * both teams ({@code teams.dict}) and the score. The heap only holds the id to record index; matches are decoded
+ * when they are read, so a long history neither grows the heap nor slows down garbage collection.
+ * <p>
+ * Appends are serialized, reads are lock-free: the record count is published after the record is written.
+ */
+@Slf4j
+public class MatchArchive implements AutoCloseable {
+
+    private static final int MAGIC = 0x46574341;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int COUNT_OFFSET = Integer.BYTES * 2;
+    private static final int RECORD_SIZE = 56;
+    private static final int RECORDS_PER_SEGMENT = 1 << 16;
+    private static final int ANY_TEAM = -1;
+    private static final long SEGMENT_SIZE = (long) RECORD_SIZE * RECORDS_PER_SEGMENT;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final TeamDictionary teams;
+    private final LongObjectMap<Integer> recordIndexes = new LongObjectMap<>();
+
+    private volatile MappedByteBuffer[] segments = new MappedByteBuffer[0];
+    private volatile int count;
+    private long maxId;
+
+    public MatchArchive(Path directory) {
+        try {
+            Files.createDirectories(directory);
+            this.teams = new TeamDictionary(directory.resolve("teams.dict"));
+            this.channel = FileChannel.open(directory.resolve("matches.bin"), StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            boolean created = channel.size() == 0;
+            this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            if (created) {
+                header.putInt(0, MAGIC)
+                        .putInt(Integer.BYTES, FORMAT_VERSION)
+                        .putInt(COUNT_OFFSET, 0);
+            } else if (header.getInt(0) != MAGIC || header.getInt(Integer.BYTES) != FORMAT_VERSION) {
+                throw new MatchStorageException("Match archive in " + directory + " has an unsupported format");
+            }
+            load(header.getInt(COUNT_OFFSET));
+        } catch (IOException e) {
+            throw new MatchStorageException("Match archive in " + directory + " can not be opened", e);
+        }
+    }
+
+    /**
+     * Archives a finished match. Returns {@code false} when a match with the same id is already archived.
+     */
+    public synchronized boolean append(FootballMatch match) {
+        if (match.endTime() == null) {
+            throw new MatchStorageException("Only finished matches can be archived");
+        }
+        if (contains(match.id())) {
+            return false;
+        }
+        int index = count;
+        MappedByteBuffer segment = segment(index);
+        int offset = (index % RECORDS_PER_SEGMENT) * RECORD_SIZE;
+        segment.putLong(offset, match.id())
+                .putLong(offset + 8, match.version())
+                .putLong(offset + 16, match.startTime().toEpochSecond(ZoneOffset.UTC))
+                .putLong(offset + 24, match.endTime().toEpochSecond(ZoneOffset.UTC))
+                .putInt(offset + 32, match.startTime().getNano())
+                .putInt(offset + 36, match.endTime().getNano())
+                .putInt(offset + 40, teams.idOf(match.homeTeam()))
+                .putInt(offset + 44, teams.idOf(match.awayTeam()))
+                .putInt(offset + 48, match.matchScore().homeScoreAsInt())
+                .putInt(offset + 52, match.matchScore().awayScoreAsInt());
+        header.putInt(COUNT_OFFSET, index + 1);
+        recordIndexes.putIfAbsent(match.id(), index);
+        maxId = Math.max(maxId, match.id());
+        count = index + 1;
+        return true;
+    }
+
+    public boolean contains(long id) {
+        return recordIndexes.get(id) != null;
+    }
+
+    /**
+     * Returns the archived match, or {@code null} when there is none with this id.
+     */
+    public FootballMatch find(long id) {
+        Integer index = recordIndexes.get(id);
+        return index == null ? null : read(segments, index);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public synchronized long maxId() {
+        return maxId;
+    }
+
+    /**
+     * Returns a view of the matches archived so far. Matches are decoded from the mapped file on access.
+     */
+    public List<FootballMatch> matches() {
+        int size = count;
+        return new ArchivedMatches(segments, size);
+    }
+
+    public List<FootballMatch> matchesOfTeam(String teamName) {
+        return stream(MatchQuery.all().withTeam(teamName)).toList();
+    }
+
+    /**
+     * Lazily streams the archived matches the query accepts. Team, total score and start time are checked on the raw
+     * records, so only accepted matches are decoded.
+     */
+    public Stream<FootballMatch> stream(MatchQuery query) {
+        int teamId = query.team() == null ? ANY_TEAM : teams.find(query.team());
+        if (!query.matchesStatus(true) || (query.team() != null && teamId < 0)) {
+            return Stream.empty();
+        }
+        int size = count;
+        MappedByteBuffer[] current = segments;
+        return IntStream.range(0, size)
+                .filter(index -> accepts(current, index, query, teamId))
+                .mapToObj(index -> read(current, index));
+    }
+
+    /**
+     * Forces the archived records and the team dictionary to disk.
+     */
+    public synchronized void force() {
+        try {
+            teams.force();
+            for (MappedByteBuffer segment : segments) {
+                segment.force();
+            }
+            header.force();
+        } catch (IOException e) {
+            throw new MatchStorageException("Match archive can not be forced to disk", e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        force();
+        try {
+            channel.close();
+            teams.close();
+        } catch (IOException e) {
+            throw new MatchStorageException("Match archive can not be closed", e);
+        }
+    }
+
+    private void load(int storedCount) {
+        MappedByteBuffer[] current = new MappedByteBuffer[0];
+        for (int index = 0; index < storedCount; index++) {
+            if (index % RECORDS_PER_SEGMENT == 0) {
+                current = Arrays.copyOf(current, current.length + 1);
+                current[current.length - 1] = map(current.length - 1);
+            }
+            long id = current[index / RECORDS_PER_SEGMENT].getLong((index % RECORDS_PER_SEGMENT) * RECORD_SIZE);
+            recordIndexes.putIfAbsent(id, index);
+            maxId = Math.max(maxId, id);
+        }
+        segments = current;
+        count = storedCount;
+        log.debug("Loaded {} archived matches", storedCount);
+    }
+
+    private MappedByteBuffer segment(int index) {
+        int segmentIndex = index / RECORDS_PER_SEGMENT;
+        MappedByteBuffer[] current = segments;
+        if (segmentIndex < current.length) {
+            return current[segmentIndex];
+        }
+        MappedByteBuffer[] grown = Arrays.copyOf(current, segmentIndex + 1);
+        grown[segmentIndex] = map(segmentIndex);
+        segments = grown;
+        return grown[segmentIndex];
+    }
+
+    private MappedByteBuffer map(int segmentIndex) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + segmentIndex * SEGMENT_SIZE, SEGMENT_SIZE);
+        } catch (IOException e) {
+            throw new MatchStorageException("Match archive segment can not be mapped", e);
+        }
+    }
+
+    private static boolean accepts(MappedByteBuffer[] current, int index, MatchQuery query, int teamId) {
+        MappedByteBuffer segment = current[index / RECORDS_PER_SEGMENT];
+        int offset = (index % RECORDS_PER_SEGMENT) * RECORD_SIZE;
+        if (teamId != ANY_TEAM && segment.getInt(offset + 40) != teamId && segment.getInt(offset + 44) != teamId) {
+            return false;
+        }
+        if (!query.matchesTotalScore((long) segment.getInt(offset + 48) + segment.getInt(offset + 52))) {
+            return false;
+        }
+        return (query.startedFrom() == null && query.startedBefore() == null)
+                || query.matchesStartTime(LocalDateTime.ofEpochSecond(segment.getLong(offset + 16), segment.getInt(offset + 32), ZoneOffset.UTC));
+    }
+
+    private FootballMatch read(MappedByteBuffer[] current, int index) {
+        MappedByteBuffer segment = current[index / RECORDS_PER_SEGMENT];
+        int offset = (index % RECORDS_PER_SEGMENT) * RECORD_SIZE;
+        return FootballMatch.builder()
+                .id(segment.getLong(offset))
+                .version(segment.getLong(offset + 8))
+                .startTime(LocalDateTime.ofEpochSecond(segment.getLong(offset + 16), segment.getInt(offset + 32), ZoneOffset.UTC))
+                .endTime(LocalDateTime.ofEpochSecond(segment.getLong(offset + 24), segment.getInt(offset + 36), ZoneOffset.UTC))
+                .homeTeam(teams.name(segment.getInt(offset + 40)))
+                .awayTeam(teams.name(segment.getInt(offset + 44)))
+                .matchScore(new MatchScore(segment.getInt(offset + 48), segment.getInt(offset + 52)))
+                .build();
+    }
+
+    private final class ArchivedMatches extends AbstractList<FootballMatch> implements RandomAccess {
+
+        private final MappedByteBuffer[] segments;
+        private final int size;
+
+        private ArchivedMatches(MappedByteBuffer[] segments, int size) {
+            this.segments = segments;
+            this.size = size;
+        }
+
+        @Override
+        public FootballMatch get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return read(segments, index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
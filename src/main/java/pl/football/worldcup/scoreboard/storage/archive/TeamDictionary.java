@@ -0,0 +1,92 @@
+package pl.football.worldcup.scoreboard.storage.archive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import pl.football.worldcup.scoreboard.exception.MatchStorageException;
+import pl.football.worldcup.scoreboard.team.TeamRegistry;
+
+/**
+ * Append-only dictionary of team names, stored as {@code [length:short][utf-8 bytes]} entries. A team name is
+ * written once and archived matches refer to it by its {@link TeamRegistry} id, which is its position in the file.
+ */
+final class TeamDictionary implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final TeamRegistry registry = TeamRegistry.unbounded();
+
+    TeamDictionary(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        while (buffer.remaining() >= Short.BYTES) {
+            int length = Short.toUnsignedInt(buffer.getShort(buffer.position()));
+            if (buffer.remaining() < Short.BYTES + length) {
+                break;
+            }
+            byte[] bytes = new byte[length];
+            buffer.getShort();
+            buffer.get(bytes);
+            registry.idOf(new String(bytes, StandardCharsets.UTF_8));
+        }
+        channel.truncate(buffer.position());
+        channel.position(buffer.position());
+    }
+
+    int idOf(String teamName) {
+        int id = registry.find(teamName);
+        return id == TeamRegistry.UNREGISTERED_ID ? add(teamName) : id;
+    }
+
+    /**
+     * Returns the id of an already known team, or {@link TeamRegistry#UNREGISTERED_ID}.
+     */
+    int find(String teamName) {
+        return registry.find(teamName);
+    }
+
+    String name(int id) {
+        return registry.name(id);
+    }
+
+    void force() throws IOException {
+        channel.force(true);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private synchronized int add(String teamName) {
+        int id = registry.find(teamName);
+        if (id != TeamRegistry.UNREGISTERED_ID) {
+            return id;
+        }
+        byte[] bytes = teamName.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new MatchStorageException("Team name is too long to be archived");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(Short.BYTES + bytes.length)
+                .putShort((short) bytes.length)
+                .put(bytes)
+                .flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new MatchStorageException("Team dictionary can not be written", e);
+        }
+        return registry.idOf(teamName);
+    }
+}
@@ -0,0 +1,263 @@
+package pl.football.worldcup.scoreboard.storage.archive;
+
+import java.text.MessageFormat;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+import pl.football.worldcup.scoreboard.exception.MatchStorageException;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchResult;
+import pl.football.worldcup.scoreboard.model.UpdateStatus;
+import pl.football.worldcup.scoreboard.storage.MatchQuery;
+import pl.football.worldcup.scoreboard.storage.MatchStorage;
+
+/**
+ * Two-tier {@link MatchStorage}: matches in progress live in the on-heap delegate, and a match is moved to the
+ * off-heap {@link MatchArchive} as soon as it is finished. Archived matches are read-only.
+ * Ids are assigned here, so they stay unique across both tiers and restarts.
+ */
+@Slf4j
+public class TieredMatchStorage implements MatchStorage, AutoCloseable {
+
+    private final MatchStorage liveStorage;
+    private final MatchArchive archive;
+    private final AtomicLong idCounter;
+
+    public TieredMatchStorage(MatchStorage liveStorage, MatchArchive archive) {
+        this.liveStorage = liveStorage;
+        this.archive = archive;
+        long maxLiveId = liveStorage.getAllMatches()
+                .stream()
+                .mapToLong(FootballMatch::id)
+                .max()
+                .orElse(0L);
+        this.idCounter = new AtomicLong(Math.max(maxLiveId, archive.maxId()) + 1);
+        liveStorage.getAllFinishedMatches().forEach(this::archive);
+    }
+
+    @Override
+    public FootballMatch saveMatch(FootballMatch match) {
+        FootballMatch matchNew = match;
+        if (matchNew.id() == 0L) {
+            matchNew = matchNew.toBuilder()
+                    .id(idCounter.getAndIncrement())
+                    .build();
+        } else {
+            idCounter.accumulateAndGet(matchNew.id() + 1, Math::max);
+        }
+        if (archive.contains(matchNew.id())) {
+            throw new MatchStorageException("Match object already exist in storage");
+        }
+        return archiveIfFinished(liveStorage.saveMatch(matchNew));
+    }
+
+    @Override
+    public FootballMatch updateMatch(FootballMatch match) {
+        checkNotArchived(match.id());
+        return archiveIfFinished(liveStorage.updateMatch(match));
+    }
+
+    @Override
+    public Optional<FootballMatch> compareAndSetMatch(FootballMatch expected, FootballMatch updated) {
+        checkNotArchived(expected.id());
+        return liveStorage.compareAndSetMatch(expected, updated)
+                .map(this::archiveIfFinished);
+    }
+
+    /**
+     * Rejects archived matches with {@link UpdateStatus#ALREADY_FINISHED} instead of throwing.
+     */
+    @Override
+    public MatchResult tryCompareAndSetMatch(FootballMatch expected, FootballMatch updated) {
+        if (isArchived(expected.id())) {
+            return MatchResult.rejected(UpdateStatus.ALREADY_FINISHED);
+        }
+        MatchResult stored = liveStorage.tryCompareAndSetMatch(expected, updated);
+        if (stored instanceof MatchResult.Success success) {
+            archiveIfFinished(success.match());
+            return stored;
+        }
+        return withArchivedStatus(expected.id(), stored);
+    }
+
+    @Override
+    public boolean updateScore(long id, int homeScore, int awayScore) {
+        return liveStorage.updateScore(id, homeScore, awayScore);
+    }
+
+    @Override
+    public MatchResult tryUpdateScore(long id, int homeScore, int awayScore) {
+        return withArchivedStatus(id, liveStorage.tryUpdateScore(id, homeScore, awayScore));
+    }
+
+    @Override
+    public FootballMatch getMatch(Long id) {
+        FootballMatch match = id == null ? null : liveStorage.getMatches(List.of(id)).get(id);
+        if (match == null && id != null) {
+            match = archive.find(id);
+        }
+        if (match == null) {
+            throw new MatchStorageException(MessageFormat.format("There is no match with id={0}", id));
+        }
+        return match;
+    }
+
+    @Override
+    public MatchResult findMatch(Long id) {
+        MatchResult live = liveStorage.findMatch(id);
+        if (live instanceof MatchResult.Success || id == null) {
+            return live;
+        }
+        FootballMatch archived = archive.find(id);
+        return archived == null ? live : MatchResult.success(archived);
+    }
+
+    @Override
+    public FootballMatch removeMatch(Long id) {
+        checkNotArchived(id);
+        return liveStorage.removeMatch(id);
+    }
+
+    @Override
+    public Map<Long, FootballMatch> getMatches(Collection<Long> ids) {
+        Map<Long, FootballMatch> matches = liveStorage.getMatches(ids);
+        if (matches.size() < ids.size()) {
+            for (Long id : ids) {
+                FootballMatch match = id == null || matches.containsKey(id) ? null : archive.find(id);
+                if (match != null) {
+                    matches.put(id, match);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the live matches followed by a view of the archive that decodes archived matches on access.
+     */
+    @Override
+    public List<FootballMatch> getAllMatches() {
+        return new ConcatenatedList(withoutArchived(liveStorage.getAllMatches()), archive.matches());
+    }
+
+    @Override
+    public List<FootballMatch> getAllMatchesInProgress() {
+        return liveStorage.getAllMatchesInProgress();
+    }
+
+    @Override
+    public List<FootballMatch> getAllFinishedMatches() {
+        return new ConcatenatedList(withoutArchived(liveStorage.getAllFinishedMatches()), archive.matches());
+    }
+
+    @Override
+    public List<FootballMatch> getAllMatchesOfTeam(String teamName) {
+        return Stream.concat(withoutArchived(liveStorage.getAllMatchesOfTeam(teamName)).stream(),
+                        archive.matchesOfTeam(teamName).stream())
+                .toList();
+    }
+
+    /**
+     * Streams the live matches followed by the archived ones; in-progress queries never touch the archive.
+     */
+    @Override
+    public Stream<FootballMatch> streamMatches(MatchQuery query) {
+        Stream<FootballMatch> live = liveStorage.streamMatches(query)
+                .filter(match -> !archive.contains(match.id()));
+        return Stream.concat(live, archive.stream(query));
+    }
+
+    /**
+     * A match being moved to the archive is briefly counted in both tiers.
+     */
+    @Override
+    public int matchCount() {
+        return liveStorage.matchCount() + archive.size();
+    }
+
+    @Override
+    public long nextId() {
+        return idCounter.get();
+    }
+
+    @Override
+    public void advanceNextId(long nextId) {
+        idCounter.accumulateAndGet(nextId, Math::max);
+    }
+
+    @Override
+    public void close() {
+        archive.close();
+    }
+
+    private FootballMatch archiveIfFinished(FootballMatch match) {
+        if (match.endTime() != null) {
+            archive(match);
+        }
+        return match;
+    }
+
+    private void archive(FootballMatch match) {
+        if (archive.append(match)) {
+            log.debug("Archived match {}", match);
+            liveStorage.removeMatch(match.id());
+        }
+    }
+
+    private boolean isArchived(Long id) {
+        return id != null && archive.contains(id);
+    }
+
+    /**
+     * A match the live tier no longer has may have been moved to the archive; it is finished, not missing.
+     */
+    private MatchResult withArchivedStatus(Long id, MatchResult result) {
+        if (result.status() == UpdateStatus.NOT_FOUND && isArchived(id)) {
+            return MatchResult.rejected(UpdateStatus.ALREADY_FINISHED);
+        }
+        return result;
+    }
+
+    private void checkNotArchived(Long id) {
+        if (isArchived(id)) {
+            throw new MatchStorageException(MessageFormat.format("Match with id={0} is archived and can not be changed", id));
+        }
+    }
+
+    /**
+     * A match being moved is briefly in both tiers; the archived copy wins.
+     */
+    private List<FootballMatch> withoutArchived(List<FootballMatch> matches) {
+        return matches.stream()
+                .filter(match -> !archive.contains(match.id()))
+                .toList();
+    }
+
+    private static final class ConcatenatedList extends AbstractList<FootballMatch> implements RandomAccess {
+
+        private final List<FootballMatch> first;
+        private final List<FootballMatch> second;
+
+        private ConcatenatedList(List<FootballMatch> first, List<FootballMatch> second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public FootballMatch get(int index) {
+            return index < first.size() ? first.get(index) : second.get(index - first.size());
+        }
+
+        @Override
+        public int size() {
+            return first.size() + second.size();
+        }
+    }
+}
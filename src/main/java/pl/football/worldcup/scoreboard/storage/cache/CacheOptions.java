@@ -0,0 +1,24 @@
+package pl.football.worldcup.scoreboard.storage.cache;
+
+import java.time.Duration;
+
+/**
+ * @param maximumSize       number of matches kept before the least recently used one is evicted
+ * @param expireAfterWrite  time after which a cached match is reloaded from the backing storage, {@link Duration#ZERO} for never
+ */
+public record CacheOptions(int maximumSize, Duration expireAfterWrite) {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    public static CacheOptions defaults() {
+        return of(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public static CacheOptions of(int maximumSize) {
+        return new CacheOptions(maximumSize, Duration.ZERO);
+    }
+
+    public CacheOptions withExpireAfterWrite(Duration duration) {
+        return new CacheOptions(maximumSize, duration);
+    }
+}
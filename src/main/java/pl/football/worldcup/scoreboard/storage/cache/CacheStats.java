@@ -0,0 +1,12 @@
+package pl.football.worldcup.scoreboard.storage.cache;
+
+/**
+ * Cache counters since the cache was created. Expired entries count as misses.
+ */
+public record CacheStats(long hits, long misses, long evictions, int size) {
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,421 @@
+package pl.football.worldcup.scoreboard.storage.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchResult;
+import pl.football.worldcup.scoreboard.storage.MatchQuery;
+import pl.football.worldcup.scoreboard.storage.MatchStorage;
+
+/**
+ * Read-through, write-through cache in front of a slow (e.g. out-of-process) {@link MatchStorage}. Single-match reads
+ * are answered from a bounded LRU map with optional expiry; every write goes to the backing storage first and its stored
+ * result replaces the cached match. Scans and queries bypass the cache, so they neither pollute it nor read stale data.
+ * <p>
+ * The cache assumes it is the only writer of the backing storage. A cached match is only replaced by a newer version,
+ * and a failed compare-and-set drops the cached match, so a retry reads the current version.
+ * <p>
+ * Ids are spread over segments, each an LRU map with its own lock, so readers of different segments do not wait for
+ * each other; a cache smaller than {@value #MIN_SEGMENT_SIZE} matches per segment uses one segment and evicts in
+ * exact LRU order. Every load or write of an id is a fill, and every drop, eviction or expiry of the id fences the fills
+ * in flight for it: a fenced fill is not cached, so a read that raced with a removal or a score update can not park a
+ * stale match in the cache, while fills of other ids are not affected.
+ */
+@Slf4j
+public class CachingMatchStorage implements MatchStorage {
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    private final MatchStorage delegate;
+    private final long expireAfterWriteNanos;
+    private final LongSupplier nanoClock;
+    private final Segment[] segments;
+    private final int segmentShift;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachingMatchStorage(MatchStorage delegate) {
+        this(delegate, CacheOptions.defaults());
+    }
+
+    public CachingMatchStorage(MatchStorage delegate, CacheOptions options) {
+        this(delegate, options, System::nanoTime);
+    }
+
+    CachingMatchStorage(MatchStorage delegate, CacheOptions options, LongSupplier nanoClock) {
+        this.delegate = delegate;
+        this.expireAfterWriteNanos = options.expireAfterWrite().toNanos();
+        this.nanoClock = nanoClock;
+        int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, options.maximumSize() / MIN_SEGMENT_SIZE)));
+        int segmentSize = (options.maximumSize() + segmentCount - 1) / segmentCount;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentSize);
+        }
+        this.segmentShift = Long.SIZE - Integer.numberOfTrailingZeros(segmentCount);
+    }
+
+    @Override
+    public FootballMatch saveMatch(FootballMatch match) {
+        FootballMatch stored = delegate.saveMatch(match);
+        // a match that was just created can not have been dropped concurrently
+        return endFill(beginFill(stored.id()), stored);
+    }
+
+    @Override
+    public FootballMatch updateMatch(FootballMatch match) {
+        Fill fill = beginFill(match.id());
+        FootballMatch stored = null;
+        try {
+            stored = delegate.updateMatch(match);
+            return stored;
+        } finally {
+            endFill(fill, stored);
+        }
+    }
+
+    @Override
+    public Optional<FootballMatch> compareAndSetMatch(FootballMatch expected, FootballMatch updated) {
+        Fill fill = beginFill(expected.id());
+        Optional<FootballMatch> stored = Optional.empty();
+        try {
+            stored = delegate.compareAndSetMatch(expected, updated);
+        } finally {
+            endFill(fill, stored.orElse(null));
+        }
+        if (stored.isEmpty()) {
+            invalidate(expected.id());
+        }
+        return stored;
+    }
+
+    @Override
+    public MatchResult tryCompareAndSetMatch(FootballMatch expected, FootballMatch updated) {
+        Fill fill = beginFill(expected.id());
+        MatchResult result = null;
+        try {
+            result = delegate.tryCompareAndSetMatch(expected, updated);
+        } finally {
+            endFill(fill, result instanceof MatchResult.Success success ? success.match() : null);
+        }
+        if (!(result instanceof MatchResult.Success)) {
+            invalidate(expected.id());
+        }
+        return result;
+    }
+
+    /**
+     * The backing storage does not return the new version, so the cached match is dropped and reloaded on the next read.
+     */
+    @Override
+    public boolean updateScore(long id, int homeScore, int awayScore) {
+        try {
+            return delegate.updateScore(id, homeScore, awayScore);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    /**
+     * Caches the stored match handed back by the backing storage; a rejected update drops the cached match.
+     */
+    @Override
+    public MatchResult tryUpdateScore(long id, int homeScore, int awayScore) {
+        Fill fill = beginFill(id);
+        MatchResult result = null;
+        try {
+            result = delegate.tryUpdateScore(id, homeScore, awayScore);
+        } finally {
+            endFill(fill, result instanceof MatchResult.Success success ? success.match() : null);
+        }
+        if (!(result instanceof MatchResult.Success)) {
+            invalidate(id);
+        }
+        return result;
+    }
+
+    @Override
+    public FootballMatch getMatch(Long id) {
+        FootballMatch match = cached(id);
+        if (match != null) {
+            return match;
+        }
+        Fill fill = beginFill(id);
+        FootballMatch loaded = null;
+        try {
+            loaded = delegate.getMatch(id);
+            return loaded;
+        } finally {
+            endFill(fill, loaded);
+        }
+    }
+
+    @Override
+    public MatchResult findMatch(Long id) {
+        FootballMatch match = cached(id);
+        if (match != null) {
+            return MatchResult.success(match);
+        }
+        Fill fill = beginFill(id);
+        MatchResult result = null;
+        try {
+            result = delegate.findMatch(id);
+            return result;
+        } finally {
+            endFill(fill, result instanceof MatchResult.Success success ? success.match() : null);
+        }
+    }
+
+    @Override
+    public FootballMatch removeMatch(Long id) {
+        try {
+            return delegate.removeMatch(id);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    /**
+     * Answers cached ids locally and loads the rest with one call to the backing storage.
+     */
+    @Override
+    public Map<Long, FootballMatch> getMatches(Collection<Long> ids) {
+        Map<Long, FootballMatch> matches = new LinkedHashMap<>();
+        Map<Long, Fill> fills = new LinkedHashMap<>();
+        for (Long id : ids) {
+            FootballMatch match = cached(id);
+            if (match != null) {
+                matches.put(id, match);
+            } else if (id != null && !fills.containsKey(id)) {
+                fills.put(id, beginFill(id));
+            }
+        }
+        if (fills.isEmpty()) {
+            return matches;
+        }
+        Map<Long, FootballMatch> loaded = Map.of();
+        try {
+            loaded = delegate.getMatches(fills.keySet());
+        } finally {
+            for (Fill fill : fills.values()) {
+                FootballMatch match = endFill(fill, loaded.get(fill.id()));
+                if (match != null) {
+                    matches.put(fill.id(), match);
+                }
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public List<FootballMatch> getAllMatches() {
+        return delegate.getAllMatches();
+    }
+
+    @Override
+    public List<FootballMatch> getAllMatchesInProgress() {
+        return delegate.getAllMatchesInProgress();
+    }
+
+    @Override
+    public List<FootballMatch> getAllFinishedMatches() {
+        return delegate.getAllFinishedMatches();
+    }
+
+    @Override
+    public List<FootballMatch> getAllMatchesOfTeam(String teamName) {
+        return delegate.getAllMatchesOfTeam(teamName);
+    }
+
+    @Override
+    public Stream<FootballMatch> streamMatches(MatchQuery query) {
+        return delegate.streamMatches(query);
+    }
+
+    @Override
+    public int matchCount() {
+        return delegate.matchCount();
+    }
+
+    @Override
+    public long nextId() {
+        return delegate.nextId();
+    }
+
+    @Override
+    public void advanceNextId(long nextId) {
+        delegate.advanceNextId(nextId);
+    }
+
+    public CacheStats getStats() {
+        int size = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.entries.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    private FootballMatch cached(Long id) {
+        if (id == null) {
+            return null;
+        }
+        Segment segment = segment(id);
+        segment.lock.lock();
+        try {
+            Entry entry = segment.entries.get(id);
+            if (entry != null && isExpired(entry)) {
+                segment.drop(id);
+                entry = null;
+            }
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.match();
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Registers a load or write of the id; it has to be ended with {@link #endFill(Fill, FootballMatch)}.
+     */
+    private Fill beginFill(Long id) {
+        if (id == null) {
+            return null;
+        }
+        Segment segment = segment(id);
+        segment.lock.lock();
+        try {
+            Fence fence = segment.fences.computeIfAbsent(id, key -> new Fence());
+            fence.fills++;
+            return new Fill(id, fence, fence.generation);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Caches the match the fill read or wrote, or nothing when it ended without one. When the id was dropped while the
+     * fill was in flight the match may already be stale, so the id is dropped instead.
+     */
+    private FootballMatch endFill(Fill fill, FootballMatch match) {
+        if (fill == null) {
+            return match;
+        }
+        Segment segment = segment(fill.id());
+        segment.lock.lock();
+        try {
+            if (--fill.fence().fills == 0) {
+                segment.fences.remove(fill.id());
+            }
+            if (match == null) {
+                return null;
+            }
+            if (fill.fence().generation != fill.generation()) {
+                segment.entries.remove(fill.id());
+                return match;
+            }
+            Entry current = segment.entries.get(fill.id());
+            if (current == null || current.match().version() <= match.version()) {
+                segment.entries.put(fill.id(), new Entry(match, nanoClock.getAsLong()));
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+        return match;
+    }
+
+    private void invalidate(Long id) {
+        if (id == null) {
+            return;
+        }
+        Segment segment = segment(id);
+        segment.lock.lock();
+        try {
+            segment.drop(id);
+        } finally {
+            segment.lock.unlock();
+        }
+        log.debug("Invalidated cached match {}", id);
+    }
+
+    private Segment segment(long id) {
+        return segments.length == 1 ? segments[0] : segments[(int) ((id * 0x9E3779B97F4A7C15L) >>> segmentShift)];
+    }
+
+    private boolean isExpired(Entry entry) {
+        return expireAfterWriteNanos > 0 && nanoClock.getAsLong() - entry.cachedAtNanos() >= expireAfterWriteNanos;
+    }
+
+    /**
+     * LRU map of one segment and the fences of the fills in flight for its ids, all guarded by its lock.
+     */
+    private final class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Long, Fence> fences = new HashMap<>();
+        private final LinkedHashMap<Long, Entry> entries;
+
+        private Segment(int maximumSize) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                    if (size() > maximumSize) {
+                        evictions.increment();
+                        fence(eldest.getKey());
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private void drop(Long id) {
+            entries.remove(id);
+            fence(id);
+        }
+
+        private void fence(Long id) {
+            Fence fence = fences.get(id);
+            if (fence != null) {
+                fence.generation++;
+            }
+        }
+    }
+
+    /**
+     * Fills in flight for one id and the number of times the id was dropped meanwhile.
+     */
+    private static final class Fence {
+
+        private long generation;
+        private int fills;
+    }
+
+    private record Fill(Long id, Fence fence, long generation) {
+
+    }
+
+    private record Entry(FootballMatch match, long cachedAtNanos) {
+
+    }
+}
@@ -0,0 +1,20 @@
+package pl.football.worldcup.scoreboard.storage.journal;
+
+public enum FsyncPolicy {
+    /**
+     * Every write is forced to disk before it returns; writes are serialized on the fsync.
+     */
+    EVERY_WRITE,
+    /**
+     * Every write waits until it is on disk, but writers arriving during an fsync share the next one.
+     */
+    GROUP_COMMIT,
+    /**
+     * Writes return immediately and the journal is forced on a fixed interval.
+     */
+    PERIODIC,
+    /**
+     * The journal is only forced on snapshot and close; flushing is left to the operating system.
+     */
+    NEVER
+}
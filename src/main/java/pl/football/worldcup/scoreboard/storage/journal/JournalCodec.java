@@ -0,0 +1,134 @@
+package pl.football.worldcup.scoreboard.storage.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32C;
+
+import lombok.experimental.UtilityClass;
+import pl.football.worldcup.scoreboard.exception.MatchStorageException;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+
+/**
+ * Binary layout of journal and snapshot records: {@code [payload length:int][crc32c:int][type:byte][fields]}.
+ * Timestamps are stored as UTC epoch seconds plus nanos, team names as length-prefixed UTF-8.
+ */
+@UtilityClass
+class JournalCodec {
+
+    static final int HEADER_SIZE = Integer.BYTES * 2;
+
+    private static final byte MATCH_SAVED = 1;
+    private static final byte SCORE_UPDATED = 2;
+    private static final byte MATCH_REMOVED = 4;
+    private static final byte MATCH_UPDATED = 5;
+
+    void encode(ByteBuffer buffer, JournalRecord record) {
+        int start = buffer.position();
+        buffer.position(start + HEADER_SIZE);
+        if (record instanceof JournalRecord.MatchSaved matchSaved) {
+            buffer.put(MATCH_SAVED);
+            putMatch(buffer, matchSaved.match());
+        } else if (record instanceof JournalRecord.ScoreUpdated scoreUpdated) {
+            buffer.put(SCORE_UPDATED)
+                    .putLong(scoreUpdated.id())
+                    .putInt(scoreUpdated.homeScore())
+                    .putInt(scoreUpdated.awayScore());
+        } else if (record instanceof JournalRecord.MatchUpdated matchUpdated) {
+            buffer.put(MATCH_UPDATED);
+            putMatch(buffer, matchUpdated.match());
+        } else if (record instanceof JournalRecord.MatchRemoved matchRemoved) {
+            buffer.put(MATCH_REMOVED)
+                    .putLong(matchRemoved.id());
+        }
+        int end = buffer.position();
+        buffer.putInt(start, end - start - HEADER_SIZE);
+        buffer.putInt(start + Integer.BYTES, checksum(buffer, start + HEADER_SIZE, end));
+    }
+
+    /**
+     * Reads the next record, or returns {@code null} without moving the position when the remaining bytes
+     * hold no complete record with a valid checksum (a torn or corrupted tail).
+     */
+    JournalRecord decode(ByteBuffer buffer) {
+        int start = buffer.position();
+        if (buffer.remaining() < HEADER_SIZE) {
+            return null;
+        }
+        int length = buffer.getInt(start);
+        int payloadStart = start + HEADER_SIZE;
+        if (length <= 0 || length > buffer.limit() - payloadStart
+                || buffer.getInt(start + Integer.BYTES) != checksum(buffer, payloadStart, payloadStart + length)) {
+            return null;
+        }
+        buffer.position(payloadStart);
+        byte type = buffer.get();
+        JournalRecord record = switch (type) {
+            case MATCH_SAVED -> new JournalRecord.MatchSaved(getMatch(buffer));
+            case SCORE_UPDATED -> new JournalRecord.ScoreUpdated(buffer.getLong(), buffer.getInt(), buffer.getInt());
+            case MATCH_REMOVED -> new JournalRecord.MatchRemoved(buffer.getLong());
+            case MATCH_UPDATED -> new JournalRecord.MatchUpdated(getMatch(buffer));
+            default -> throw new MatchStorageException("Unknown journal record type " + type);
+        };
+        buffer.position(payloadStart + length);
+        return record;
+    }
+
+    private void putMatch(ByteBuffer buffer, FootballMatch match) {
+        buffer.putLong(match.id());
+        putString(buffer, match.homeTeam());
+        putString(buffer, match.awayTeam());
+        putTime(buffer, match.startTime());
+        buffer.put((byte) (match.endTime() == null ? 0 : 1));
+        if (match.endTime() != null) {
+            putTime(buffer, match.endTime());
+        }
+        buffer.putInt(match.matchScore().homeScoreAsInt())
+                .putInt(match.matchScore().awayScoreAsInt())
+                .putLong(match.version());
+    }
+
+    private FootballMatch getMatch(ByteBuffer buffer) {
+        return FootballMatch.builder()
+                .id(buffer.getLong())
+                .homeTeam(getString(buffer))
+                .awayTeam(getString(buffer))
+                .startTime(getTime(buffer))
+                .endTime(buffer.get() == 0 ? null : getTime(buffer))
+                .matchScore(new MatchScore(buffer.getInt(), buffer.getInt()))
+                .version(buffer.getLong())
+                .build();
+    }
+
+    private void putString(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new MatchStorageException("Team name is too long to be journaled");
+        }
+        buffer.putShort((short) bytes.length)
+                .put(bytes);
+    }
+
+    private String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void putTime(ByteBuffer buffer, LocalDateTime time) {
+        buffer.putLong(time.toEpochSecond(ZoneOffset.UTC))
+                .putInt(time.getNano());
+    }
+
+    private LocalDateTime getTime(ByteBuffer buffer) {
+        return LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+    }
+
+    private int checksum(ByteBuffer buffer, int from, int to) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.duplicate().limit(to).position(from));
+        return (int) crc.getValue();
+    }
+}
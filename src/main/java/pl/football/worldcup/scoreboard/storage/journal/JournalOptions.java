@@ -0,0 +1,28 @@
+package pl.football.worldcup.scoreboard.storage.journal;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * @param directory      directory holding the journal and snapshot files
+ * @param fsyncPolicy    when appended events are forced to disk
+ * @param fsyncInterval  interval of the {@link FsyncPolicy#PERIODIC} policy
+ * @param snapshotEvery  number of journaled events after which a compact snapshot replaces the journal
+ */
+public record JournalOptions(Path directory, FsyncPolicy fsyncPolicy, Duration fsyncInterval, long snapshotEvery) {
+
+    public static final Duration DEFAULT_FSYNC_INTERVAL = Duration.ofMillis(10);
+    public static final long DEFAULT_SNAPSHOT_EVERY = 1_000_000;
+
+    public static JournalOptions of(Path directory) {
+        return of(directory, FsyncPolicy.GROUP_COMMIT);
+    }
+
+    public static JournalOptions of(Path directory, FsyncPolicy fsyncPolicy) {
+        return new JournalOptions(directory, fsyncPolicy, DEFAULT_FSYNC_INTERVAL, DEFAULT_SNAPSHOT_EVERY);
+    }
+
+    public JournalOptions withSnapshotEvery(long events) {
+        return new JournalOptions(directory, fsyncPolicy, fsyncInterval, events);
+    }
+}
@@ -0,0 +1,64 @@
+package pl.football.worldcup.scoreboard.storage.journal;
+
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.storage.MatchStorage;
+
+/**
+ * Event stored in the journal. Replaying the events in order on an empty storage restores its state,
+ * including match versions, because every journaled change bumped the version exactly once.
+ */
+sealed interface JournalRecord permits JournalRecord.MatchSaved, JournalRecord.ScoreUpdated, JournalRecord.MatchUpdated,
+        JournalRecord.MatchRemoved {
+
+    void applyTo(MatchStorage storage);
+
+    /**
+     * Id of the match the event changed.
+     */
+    long id();
+
+    record MatchSaved(FootballMatch match) implements JournalRecord {
+
+        @Override
+        public void applyTo(MatchStorage storage) {
+            storage.saveMatch(match);
+        }
+
+        @Override
+        public long id() {
+            return match.id();
+        }
+    }
+
+    record ScoreUpdated(long id, int homeScore, int awayScore) implements JournalRecord {
+
+        @Override
+        public void applyTo(MatchStorage storage) {
+            storage.updateScore(id, homeScore, awayScore);
+        }
+    }
+
+    /**
+     * Whole stored match, so a generic update keeps every field it changed.
+     */
+    record MatchUpdated(FootballMatch match) implements JournalRecord {
+
+        @Override
+        public void applyTo(MatchStorage storage) {
+            storage.updateMatch(match);
+        }
+
+        @Override
+        public long id() {
+            return match.id();
+        }
+    }
+
+    record MatchRemoved(long id) implements JournalRecord {
+
+        @Override
+        public void applyTo(MatchStorage storage) {
+            storage.removeMatch(id);
+        }
+    }
+}
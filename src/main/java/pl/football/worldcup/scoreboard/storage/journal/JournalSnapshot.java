@@ -0,0 +1,83 @@
+package pl.football.worldcup.scoreboard.storage.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+import lombok.experimental.UtilityClass;
+import pl.football.worldcup.scoreboard.exception.MatchStorageException;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+
+/**
+ * Compact snapshot of all matches: {@code [magic:int][format:int][generation:long][next id:long][count:int]} followed
+ * by one match record per match. The next id keeps ids of removed matches from being reused after a restart.
+ * A snapshot is written to a temporary file, forced and atomically renamed.
+ */
+@UtilityClass
+class JournalSnapshot {
+
+    private static final int MAGIC = 0x46574353;
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_SIZE = Integer.BYTES * 3 + Long.BYTES * 2;
+    private static final int BUFFER_SIZE = 1024 * 1024;
+    private static final int MAX_RECORD_SIZE = 192 * 1024;
+
+    void write(Path file, long generation, long nextId, Collection<FootballMatch> matches) throws IOException {
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            buffer.putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putLong(generation)
+                    .putLong(nextId)
+                    .putInt(matches.size());
+            for (FootballMatch match : matches) {
+                if (buffer.remaining() < MAX_RECORD_SIZE) {
+                    flush(channel, buffer);
+                }
+                JournalCodec.encode(buffer, new JournalRecord.MatchSaved(match));
+            }
+            flush(channel, buffer);
+            channel.force(true);
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Hands every match to the consumer and returns the next id of the snapshot.
+     */
+    long read(Path file, Consumer<FootballMatch> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                throw new MatchStorageException("Snapshot file " + file + " has an unsupported format");
+            }
+            buffer.getLong();
+            long nextId = buffer.getLong();
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                if (!(JournalCodec.decode(buffer) instanceof JournalRecord.MatchSaved matchSaved)) {
+                    throw new MatchStorageException("Snapshot file " + file + " is corrupted");
+                }
+                consumer.accept(matchSaved.match());
+            }
+            return nextId;
+        }
+    }
+
+    private void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
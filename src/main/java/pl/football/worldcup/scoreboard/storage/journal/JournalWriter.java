@@ -0,0 +1,182 @@
+package pl.football.worldcup.scoreboard.storage.journal;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import pl.football.worldcup.scoreboard.exception.MatchStorageException;
+
+/**
+ * Appends records to one journal file. {@link #append(JournalRecord)} is called by a single writer at a time,
+ * {@link #awaitDurable(long)} may be called concurrently: while one caller forces the file, the others wait
+ * and are released by the same fsync when it covers their records (group commit).
+ * An append that fails, including its fsync under {@link FsyncPolicy#EVERY_WRITE}, is truncated from the file,
+ * so later records follow the last complete one; if the truncation fails too, the writer rejects every later append.
+ */
+final class JournalWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    static final ChannelOpener FILE_CHANNELS = file -> FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+    private final FileChannel channel;
+    private final FsyncPolicy fsyncPolicy;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final Object syncMonitor = new Object();
+
+    private volatile long writtenPosition;
+    private long syncedPosition;
+    private boolean syncInProgress;
+    private volatile boolean failed;
+
+    private JournalWriter(FileChannel channel, FsyncPolicy fsyncPolicy, long position) {
+        this.channel = channel;
+        this.fsyncPolicy = fsyncPolicy;
+        this.writtenPosition = position;
+        this.syncedPosition = position;
+    }
+
+    static JournalWriter open(Path file, ChannelOpener channelOpener, FsyncPolicy fsyncPolicy, long validLength) throws IOException {
+        FileChannel channel = channelOpener.open(file);
+        channel.truncate(validLength);
+        channel.position(validLength);
+        return new JournalWriter(channel, fsyncPolicy, validLength);
+    }
+
+    long append(JournalRecord record) throws IOException {
+        if (failed) {
+            throw new MatchStorageException("Journal can not be appended after a failed write could not be truncated");
+        }
+        buffer.clear();
+        try {
+            JournalCodec.encode(buffer, record);
+        } catch (BufferOverflowException e) {
+            throw new MatchStorageException("Journal record is too large", e);
+        }
+        buffer.flip();
+        long start = writtenPosition;
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            long position = channel.position();
+            writtenPosition = position;
+            if (fsyncPolicy == FsyncPolicy.EVERY_WRITE) {
+                sync();
+            }
+            return position;
+        } catch (IOException | RuntimeException e) {
+            rollback(start, e);
+            throw e;
+        }
+    }
+
+    void awaitDurable(long position) throws IOException {
+        if (fsyncPolicy != FsyncPolicy.GROUP_COMMIT) {
+            return;
+        }
+        while (true) {
+            long target;
+            synchronized (syncMonitor) {
+                while (syncInProgress && syncedPosition < position) {
+                    try {
+                        syncMonitor.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new MatchStorageException("Interrupted while waiting for journal fsync", e);
+                    }
+                }
+                if (syncedPosition >= position) {
+                    return;
+                }
+                syncInProgress = true;
+                target = writtenPosition;
+            }
+            force(target);
+        }
+    }
+
+    void sync() throws IOException {
+        long target = writtenPosition;
+        synchronized (syncMonitor) {
+            if (syncedPosition >= target) {
+                return;
+            }
+            while (syncInProgress) {
+                try {
+                    syncMonitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new MatchStorageException("Interrupted while waiting for journal fsync", e);
+                }
+            }
+            syncInProgress = true;
+        }
+        force(target);
+    }
+
+    @Override
+    public void close() throws IOException {
+        sync();
+        channel.close();
+    }
+
+    /**
+     * Cuts the file back to {@code start}. No fsync runs meanwhile, so none can report the cut bytes as durable.
+     */
+    private void rollback(long start, Exception appendFailure) {
+        boolean interrupted = false;
+        synchronized (syncMonitor) {
+            while (syncInProgress) {
+                try {
+                    syncMonitor.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            syncInProgress = true;
+        }
+        try {
+            channel.truncate(start);
+            channel.position(start);
+            writtenPosition = start;
+        } catch (IOException | RuntimeException e) {
+            failed = true;
+            appendFailure.addSuppressed(e);
+        } finally {
+            synchronized (syncMonitor) {
+                syncedPosition = Math.min(syncedPosition, start);
+                syncInProgress = false;
+                syncMonitor.notifyAll();
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void force(long target) throws IOException {
+        boolean forced = false;
+        try {
+            channel.force(false);
+            forced = true;
+        } finally {
+            synchronized (syncMonitor) {
+                if (forced) {
+                    syncedPosition = Math.max(syncedPosition, target);
+                }
+                syncInProgress = false;
+                syncMonitor.notifyAll();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface ChannelOpener {
+
+        FileChannel open(Path file) throws IOException;
+    }
+}
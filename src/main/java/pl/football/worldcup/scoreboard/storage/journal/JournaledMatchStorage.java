@@ -0,0 +1,347 @@
+package pl.football.worldcup.scoreboard.storage.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+import pl.football.worldcup.scoreboard.exception.MatchStorageException;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchResult;
+import pl.football.worldcup.scoreboard.storage.MatchQuery;
+import pl.football.worldcup.scoreboard.storage.MatchStorage;
+
+/**
+ * Durable {@link MatchStorage}: every change applied to the in-memory delegate is appended to a write-ahead journal
+ * ({@code journal-<generation>.log}) in the same critical section, so the journal order is the order of changes.
+ * Every {@link JournalOptions#snapshotEvery()} events the whole state is written to {@code snapshot-<generation>.bin}
+ * and a new journal generation is started. On start the latest snapshot is loaded and newer journals are replayed,
+ * which restores the matches, their versions and the id sequence; a torn record at the journal tail is truncated.
+ * A change whose journal append fails is cut from the journal and undone in memory before the failure is reported.
+ */
+@Slf4j
+public class JournaledMatchStorage implements MatchStorage, AutoCloseable {
+
+    private static final Pattern JOURNAL_FILE = Pattern.compile("journal-(\\d+)\\.log");
+    private static final Pattern SNAPSHOT_FILE = Pattern.compile("snapshot-(\\d+)\\.bin");
+
+    private final MatchStorage delegate;
+    private final JournalOptions options;
+    private final JournalWriter.ChannelOpener channelOpener;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ScheduledExecutorService fsyncScheduler;
+
+    private volatile JournalWriter journal;
+    private long generation;
+    private long eventsSinceSnapshot;
+
+    public JournaledMatchStorage(MatchStorage delegate, JournalOptions options) {
+        this(delegate, options, JournalWriter.FILE_CHANNELS);
+    }
+
+    JournaledMatchStorage(MatchStorage delegate, JournalOptions options, JournalWriter.ChannelOpener channelOpener) {
+        this.delegate = delegate;
+        this.options = options;
+        this.channelOpener = channelOpener;
+        try {
+            recover();
+        } catch (IOException e) {
+            throw new MatchStorageException("Journal in " + options.directory() + " can not be recovered", e);
+        }
+        if (options.fsyncPolicy() == FsyncPolicy.PERIODIC) {
+            fsyncScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "match-journal-fsync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalNanos = options.fsyncInterval().toNanos();
+            fsyncScheduler.scheduleWithFixedDelay(this::syncQuietly, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+        } else {
+            fsyncScheduler = null;
+        }
+    }
+
+    @Override
+    public FootballMatch saveMatch(FootballMatch match) {
+        return write(null, () -> delegate.saveMatch(match), JournalRecord.MatchSaved::new);
+    }
+
+    @Override
+    public FootballMatch updateMatch(FootballMatch match) {
+        return write(match.id(), () -> delegate.updateMatch(match), JournalRecord.MatchUpdated::new);
+    }
+
+    @Override
+    public Optional<FootballMatch> compareAndSetMatch(FootballMatch expected, FootballMatch updated) {
+        return write(expected.id(), () -> delegate.compareAndSetMatch(expected, updated),
+                storedMatch -> storedMatch.map(JournalRecord.MatchUpdated::new).orElse(null));
+    }
+
+    @Override
+    public boolean updateScore(long id, int homeScore, int awayScore) {
+        return write(id, () -> delegate.updateScore(id, homeScore, awayScore),
+                updated -> updated ? new JournalRecord.ScoreUpdated(id, homeScore, awayScore) : null);
+    }
+
+    @Override
+    public MatchResult tryUpdateScore(long id, int homeScore, int awayScore) {
+        return write(id, () -> delegate.tryUpdateScore(id, homeScore, awayScore),
+                result -> result instanceof MatchResult.Success ? new JournalRecord.ScoreUpdated(id, homeScore, awayScore) : null);
+    }
+
+    @Override
+    public FootballMatch getMatch(Long id) {
+        return delegate.getMatch(id);
+    }
+
+    @Override
+    public FootballMatch removeMatch(Long id) {
+        return write(id, () -> delegate.removeMatch(id), removedMatch -> new JournalRecord.MatchRemoved(removedMatch.id()));
+    }
+
+    @Override
+    public Map<Long, FootballMatch> getMatches(Collection<Long> ids) {
+        return delegate.getMatches(ids);
+    }
+
+    @Override
+    public List<FootballMatch> getAllMatches() {
+        return delegate.getAllMatches();
+    }
+
+    @Override
+    public List<FootballMatch> getAllMatchesInProgress() {
+        return delegate.getAllMatchesInProgress();
+    }
+
+    @Override
+    public List<FootballMatch> getAllFinishedMatches() {
+        return delegate.getAllFinishedMatches();
+    }
+
+    @Override
+    public List<FootballMatch> getAllMatchesOfTeam(String teamName) {
+        return delegate.getAllMatchesOfTeam(teamName);
+    }
+
+    @Override
+    public Stream<FootballMatch> streamMatches(MatchQuery query) {
+        return delegate.streamMatches(query);
+    }
+
+    @Override
+    public int matchCount() {
+        return delegate.matchCount();
+    }
+
+    @Override
+    public long nextId() {
+        return delegate.nextId();
+    }
+
+    @Override
+    public void advanceNextId(long nextId) {
+        delegate.advanceNextId(nextId);
+    }
+
+    /**
+     * Writes a snapshot of the current state and starts a new journal generation.
+     */
+    public void snapshot() {
+        writeLock.lock();
+        try {
+            rotate();
+        } catch (IOException e) {
+            throw new MatchStorageException("Snapshot can not be written", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (fsyncScheduler != null) {
+            fsyncScheduler.shutdownNow();
+        }
+        writeLock.lock();
+        try {
+            journal.close();
+        } catch (IOException e) {
+            throw new MatchStorageException("Journal can not be closed", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @param id match the change touches, or {@code null} for a new match; its previous state is restored
+     *           when the journal append fails
+     */
+    private <T> T write(Long id, Supplier<T> change, Function<T, JournalRecord> toRecord) {
+        T result;
+        JournalWriter writer;
+        long position;
+        writeLock.lock();
+        try {
+            FootballMatch previous = storedMatch(id);
+            result = change.get();
+            JournalRecord record = toRecord.apply(result);
+            if (record == null) {
+                return result;
+            }
+            writer = journal;
+            try {
+                position = writer.append(record);
+            } catch (IOException | RuntimeException e) {
+                undo(record, previous, e);
+                throw e;
+            }
+            if (++eventsSinceSnapshot >= options.snapshotEvery()) {
+                rotate();
+            }
+        } catch (IOException e) {
+            throw new MatchStorageException("Journal can not be written", e);
+        } finally {
+            writeLock.unlock();
+        }
+        try {
+            writer.awaitDurable(position);
+        } catch (IOException e) {
+            throw new MatchStorageException("Journal can not be forced to disk", e);
+        }
+        return result;
+    }
+
+    private FootballMatch storedMatch(Long id) {
+        if (id != null && delegate.findMatch(id) instanceof MatchResult.Success success) {
+            return success.match();
+        }
+        return null;
+    }
+
+    private void undo(JournalRecord record, FootballMatch previous, Exception appendFailure) {
+        try {
+            if (!(record instanceof JournalRecord.MatchRemoved)) {
+                delegate.removeMatch(record.id());
+            }
+            if (previous != null) {
+                delegate.saveMatch(previous);
+            }
+        } catch (RuntimeException e) {
+            appendFailure.addSuppressed(e);
+        }
+    }
+
+    private void recover() throws IOException {
+        Path directory = options.directory();
+        Files.createDirectories(directory);
+        long snapshotGeneration = latestGeneration(SNAPSHOT_FILE);
+        if (snapshotGeneration > 0) {
+            delegate.advanceNextId(JournalSnapshot.read(snapshotFile(snapshotGeneration), delegate::saveMatch));
+        }
+        List<Long> journalGenerations = generations(JOURNAL_FILE).stream()
+                .filter(journalGeneration -> journalGeneration > snapshotGeneration)
+                .sorted()
+                .toList();
+        long validLength = 0;
+        for (Long journalGeneration : journalGenerations) {
+            validLength = replay(journalFile(journalGeneration));
+        }
+        if (journalGenerations.isEmpty()) {
+            generation = snapshotGeneration + 1;
+        } else {
+            generation = journalGenerations.get(journalGenerations.size() - 1);
+        }
+        journal = JournalWriter.open(journalFile(generation), channelOpener, options.fsyncPolicy(), validLength);
+        deleteOlderThan(snapshotGeneration);
+    }
+
+    private long replay(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            JournalRecord record;
+            while ((record = JournalCodec.decode(buffer)) != null) {
+                record.applyTo(delegate);
+                eventsSinceSnapshot++;
+            }
+            if (buffer.hasRemaining()) {
+                log.warn("Truncating {} bytes of incomplete journal tail in {}", buffer.remaining(), file);
+            }
+            return buffer.position();
+        }
+    }
+
+    private void rotate() throws IOException {
+        journal.close();
+        JournalSnapshot.write(snapshotFile(generation), generation, delegate.nextId(), delegate.getAllMatches());
+        long snapshotGeneration = generation;
+        generation++;
+        journal = JournalWriter.open(journalFile(generation), channelOpener, options.fsyncPolicy(), 0);
+        eventsSinceSnapshot = 0;
+        deleteOlderThan(snapshotGeneration);
+    }
+
+    private void deleteOlderThan(long snapshotGeneration) throws IOException {
+        for (Long journalGeneration : generations(JOURNAL_FILE)) {
+            if (journalGeneration <= snapshotGeneration) {
+                Files.deleteIfExists(journalFile(journalGeneration));
+            }
+        }
+        for (Long olderSnapshot : generations(SNAPSHOT_FILE)) {
+            if (olderSnapshot < snapshotGeneration) {
+                Files.deleteIfExists(snapshotFile(olderSnapshot));
+            }
+        }
+    }
+
+    private void syncQuietly() {
+        try {
+            journal.sync();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Periodic journal fsync failed", e);
+        }
+    }
+
+    private long latestGeneration(Pattern pattern) throws IOException {
+        return generations(pattern).stream()
+                .mapToLong(Long::longValue)
+                .max()
+                .orElse(0L);
+    }
+
+    private List<Long> generations(Pattern pattern) throws IOException {
+        try (Stream<Path> files = Files.list(options.directory())) {
+            return files.map(file -> pattern.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Long.parseLong(matcher.group(1)))
+                    .toList();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Path journalFile(long journalGeneration) {
+        return options.directory().resolve(String.format("journal-%020d.log", journalGeneration));
+    }
+
+    private Path snapshotFile(long snapshotGeneration) {
+        return options.directory().resolve(String.format("snapshot-%020d.bin", snapshotGeneration));
+    }
+}
@@ -0,0 +1,304 @@
+package pl.football.worldcup.scoreboard.storage.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import lombok.experimental.UtilityClass;
+import pl.football.worldcup.scoreboard.exception.MatchStorageException;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.storage.MatchLoader;
+import pl.football.worldcup.scoreboard.storage.MatchQuery;
+import pl.football.worldcup.scoreboard.storage.MatchStorage;
+import pl.football.worldcup.scoreboard.team.TeamRegistry;
+
+/**
+ * Versioned binary export of a whole {@link MatchStorage}, streamed through NIO channels in one pass, so a replica can be
+ * warm-started with the original ids instead of re-creating matches.
+ * <p>
+ * Layout: {@code [magic:int][format:int][nextId:long][expected count:int]}, then one record per match
+ * {@code [1:byte][id:long][version:long][start seconds:long][start nanos:int][end seconds:long][end nanos:int]
+ * [home team:int][away team:int][home score:int][away score:int]} and the trailer {@code [0:byte][count:long][crc32c:int]}.
+ * Timestamps are UTC epoch seconds, end nanos of a match in progress are {@code -1}. Team names are dictionary encoded:
+ * a team is referenced by its {@link TeamRegistry} id, assigned in the order of first appearance, and on that first
+ * appearance its reference is followed by the name as {@code [length:short][utf8]}. The checksum covers everything
+ * before it. The expected count is the storage size when the export started; the reader sizes its structures from
+ * it, while the trailer holds the exact number of exported matches.
+ */
+@UtilityClass
+public class StorageSnapshot {
+
+    private static final int MAGIC = 0x46574358;
+    private static final int FORMAT_VERSION = 2;
+    private static final int MAX_PRESIZED_COUNT = 1 << 24;
+    private static final byte MATCH = 1;
+    private static final byte END = 0;
+    private static final int IN_PROGRESS_NANOS = -1;
+    private static final int BUFFER_SIZE = 1024 * 1024;
+    private static final int DATE_CACHE_SIZE = 1024;
+    private static final int SCORE_CACHE_SIZE = 16;
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final int MAX_RECORD_SIZE = 1 + Long.BYTES * 4 + Integer.BYTES * 6 + (Short.BYTES + Short.MAX_VALUE) * 2;
+
+    /**
+     * Streams all matches of the storage and its id counter to the channel. Returns the number of exported matches.
+     */
+    public long write(MatchStorage storage, WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        CRC32C checksum = new CRC32C();
+        TeamRegistry teams = TeamRegistry.unbounded();
+        long nextId = storage.nextId();
+        buffer.putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(nextId)
+                .putInt(storage.matchCount());
+        long count = 0;
+        try (Stream<FootballMatch> matches = storage.streamMatches(MatchQuery.all())) {
+            Iterator<FootballMatch> iterator = matches.iterator();
+            while (iterator.hasNext()) {
+                if (buffer.remaining() < MAX_RECORD_SIZE) {
+                    flush(channel, buffer, checksum);
+                }
+                putMatch(buffer, iterator.next(), teams);
+                count++;
+            }
+        }
+        if (buffer.remaining() < MAX_RECORD_SIZE) {
+            flush(channel, buffer, checksum);
+        }
+        buffer.put(END)
+                .putLong(count);
+        buffer.flip();
+        checksum.update(buffer.duplicate());
+        buffer.position(buffer.limit())
+                .limit(buffer.capacity());
+        buffer.putInt((int) checksum.getValue());
+        flush(channel, buffer, null);
+        return count;
+    }
+
+    /**
+     * Saves every match of the snapshot into the (empty) target storage with its original id and advances the target's
+     * id counter. Returns the number of imported matches. Matches are decoded into a {@link MatchStorage#loader} sized
+     * for the expected count and committed once the whole snapshot is verified, so a truncated or corrupted snapshot
+     * leaves the target untouched.
+     */
+    public long read(ReadableByteChannel channel, MatchStorage target) throws IOException {
+        Reader reader = new Reader(channel);
+        reader.require(Integer.BYTES * 3 + Long.BYTES);
+        if (reader.buffer.getInt() != MAGIC || reader.buffer.getInt() != FORMAT_VERSION) {
+            throw new MatchStorageException("Snapshot has an unsupported format");
+        }
+        long nextId = reader.buffer.getLong();
+        int expectedCount = reader.buffer.getInt();
+        if (expectedCount < 0) {
+            throw new MatchStorageException("Snapshot is corrupted");
+        }
+        TeamRegistry teams = TeamRegistry.unbounded();
+        MatchLoader loader = target.loader(Math.min(expectedCount, MAX_PRESIZED_COUNT));
+        long count = 0;
+        while (true) {
+            reader.require(1);
+            byte type = reader.buffer.get();
+            if (type == END) {
+                break;
+            }
+            if (type != MATCH) {
+                throw new MatchStorageException("Snapshot is corrupted");
+            }
+            loader.add(reader.match(teams));
+            count++;
+        }
+        reader.require(Long.BYTES);
+        long exportedCount = reader.buffer.getLong();
+        int expectedChecksum = reader.checksum();
+        reader.require(Integer.BYTES);
+        if (exportedCount != count || reader.buffer.getInt() != expectedChecksum) {
+            throw new MatchStorageException("Snapshot is corrupted");
+        }
+        loader.commit();
+        target.advanceNextId(nextId);
+        return count;
+    }
+
+    private void putMatch(ByteBuffer buffer, FootballMatch match, TeamRegistry teams) {
+        buffer.put(MATCH)
+                .putLong(match.id())
+                .putLong(match.version())
+                .putLong(match.startTime().toEpochSecond(ZoneOffset.UTC))
+                .putInt(match.startTime().getNano());
+        if (match.endTime() == null) {
+            buffer.putLong(0L)
+                    .putInt(IN_PROGRESS_NANOS);
+        } else {
+            buffer.putLong(match.endTime().toEpochSecond(ZoneOffset.UTC))
+                    .putInt(match.endTime().getNano());
+        }
+        putTeam(buffer, match.homeTeam(), teams);
+        putTeam(buffer, match.awayTeam(), teams);
+        buffer.putInt(match.matchScore().homeScoreAsInt())
+                .putInt(match.matchScore().awayScoreAsInt());
+    }
+
+    private void putTeam(ByteBuffer buffer, String team, TeamRegistry teams) {
+        int teamId = teams.find(team);
+        if (teamId != TeamRegistry.UNREGISTERED_ID) {
+            buffer.putInt(teamId);
+            return;
+        }
+        byte[] name = team.getBytes(StandardCharsets.UTF_8);
+        if (name.length > Short.MAX_VALUE) {
+            throw new MatchStorageException("Team name is too long for a snapshot");
+        }
+        buffer.putInt(teams.idOf(team))
+                .putShort((short) name.length)
+                .put(name);
+    }
+
+    private void flush(WritableByteChannel channel, ByteBuffer buffer, CRC32C checksum) throws IOException {
+        buffer.flip();
+        if (checksum != null) {
+            checksum.update(buffer.duplicate());
+        }
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Buffered channel reader that checksums every byte it consumes.
+     */
+    private static final class Reader {
+
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).limit(0);
+        private final CRC32C checksum = new CRC32C();
+        private final LocalDate[] dates = new LocalDate[DATE_CACHE_SIZE];
+        private final LocalTime[] times = new LocalTime[(int) SECONDS_PER_DAY];
+        private final MatchScore[] scores = new MatchScore[SCORE_CACHE_SIZE * SCORE_CACHE_SIZE];
+
+        private Reader(ReadableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        private void require(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+            checksumConsumed();
+            buffer.compact();
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    throw new MatchStorageException("Snapshot is truncated");
+                }
+            }
+            buffer.flip();
+        }
+
+        /**
+         * Returns the checksum of everything consumed so far.
+         */
+        private int checksum() {
+            checksumConsumed();
+            buffer.compact()
+                    .flip();
+            return (int) checksum.getValue();
+        }
+
+        private void checksumConsumed() {
+            checksum.update(buffer.duplicate()
+                    .flip());
+        }
+
+        private FootballMatch match(TeamRegistry teams) throws IOException {
+            require(Long.BYTES * 3 + Integer.BYTES * 2 + Long.BYTES);
+            long id = buffer.getLong();
+            long version = buffer.getLong();
+            LocalDateTime startTime = dateTime(buffer.getLong(), buffer.getInt());
+            long endSeconds = buffer.getLong();
+            int endNanos = buffer.getInt();
+            String homeTeam = team(teams);
+            String awayTeam = team(teams);
+            require(Integer.BYTES * 2);
+            LocalDateTime endTime = endNanos == IN_PROGRESS_NANOS ? null : dateTime(endSeconds, endNanos);
+            return new FootballMatch(id, homeTeam, awayTeam, startTime, endTime, score(buffer.getInt(), buffer.getInt()), version);
+        }
+
+        /**
+         * Decodes a timestamp from shared date and whole-second time instances: a board's matches fall on few days and
+         * kick off at recurring times, so most timestamps of a snapshot cost only the {@link LocalDateTime} itself.
+         */
+        private LocalDateTime dateTime(long epochSeconds, int nanos) {
+            long epochDay = Math.floorDiv(epochSeconds, SECONDS_PER_DAY);
+            int secondOfDay = (int) Math.floorMod(epochSeconds, SECONDS_PER_DAY);
+            int dateSlot = (int) epochDay & (dates.length - 1);
+            LocalDate date = dates[dateSlot];
+            if (date == null || date.toEpochDay() != epochDay) {
+                date = LocalDate.ofEpochDay(epochDay);
+                dates[dateSlot] = date;
+            }
+            if (nanos != 0) {
+                return LocalDateTime.of(date, LocalTime.ofNanoOfDay(secondOfDay * NANOS_PER_SECOND + nanos));
+            }
+            LocalTime time = times[secondOfDay];
+            if (time == null) {
+                time = LocalTime.ofSecondOfDay(secondOfDay);
+                times[secondOfDay] = time;
+            }
+            return LocalDateTime.of(date, time);
+        }
+
+        /**
+         * Returns a shared instance for the common low scores.
+         */
+        private MatchScore score(int homeScore, int awayScore) {
+            if (homeScore < 0 || homeScore >= SCORE_CACHE_SIZE || awayScore < 0 || awayScore >= SCORE_CACHE_SIZE) {
+                return new MatchScore(homeScore, awayScore);
+            }
+            int slot = homeScore * SCORE_CACHE_SIZE + awayScore;
+            MatchScore score = scores[slot];
+            if (score == null) {
+                score = new MatchScore(homeScore, awayScore);
+                scores[slot] = score;
+            }
+            return score;
+        }
+
+        private String team(TeamRegistry teams) throws IOException {
+            require(Integer.BYTES);
+            int teamId = buffer.getInt();
+            String team = teams.name(teamId);
+            if (team != null) {
+                return team;
+            }
+            if (teamId != teams.size()) {
+                throw new MatchStorageException("Snapshot is corrupted");
+            }
+            require(Short.BYTES);
+            int length = buffer.getShort();
+            if (length < 0) {
+                throw new MatchStorageException("Snapshot is corrupted");
+            }
+            require(length);
+            byte[] name = new byte[length];
+            buffer.get(name);
+            team = new String(name, StandardCharsets.UTF_8);
+            if (teams.idOf(team) != teamId) {
+                throw new MatchStorageException("Snapshot is corrupted");
+            }
+            return team;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package pl.football.worldcup.scoreboard.summary;
+
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+
+/**
+ * @param rank  zero-based position in the current summary, {@code -1} for removed matches
+ * @param match current match, {@code null} for removed matches
+ */
+public record RankChange(Type type, Long matchId, int rank, FootballMatch match) {
+
+    public enum Type {
+        INSERTED,
+        MOVED,
+        REMOVED
+    }
+}
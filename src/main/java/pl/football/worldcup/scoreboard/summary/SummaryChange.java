@@ -0,0 +1,10 @@
+package pl.football.worldcup.scoreboard.summary;
+
+/**
+ * @param version board version assigned to the change
+ * @param matchId changed match
+ * @param created whether the change created the match
+ */
+public record SummaryChange(long version, Long matchId, boolean created) {
+
+}
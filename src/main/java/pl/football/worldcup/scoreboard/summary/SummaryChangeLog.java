@@ -0,0 +1,84 @@
+package pl.football.worldcup.scoreboard.summary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+
+/**
+ * Bounded log of the most recent board changes. Every append gets the next board version.
+ * Writers hold the {@link #changeLock()} from changing the summary until the change is appended, and
+ * {@link #delta(long, Supplier)} excludes them, so a delta never sees a summary change without its log entry
+ * or the other way round.
+ */
+public class SummaryChangeLog {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final SummaryChange[] changes;
+    private final ReadWriteLock changeLock = new ReentrantReadWriteLock();
+    private long version;
+
+    public SummaryChangeLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public SummaryChangeLog(int capacity) {
+        this.changes = new SummaryChange[capacity];
+    }
+
+    /**
+     * Shared between writers, so they do not block each other, only {@link #delta(long, Supplier)}.
+     */
+    public Lock changeLock() {
+        return changeLock.readLock();
+    }
+
+    public synchronized long append(Long matchId, boolean created) {
+        version++;
+        changes[(int) (version % changes.length)] = new SummaryChange(version, matchId, created);
+        return version;
+    }
+
+    public synchronized long currentVersion() {
+        return version;
+    }
+
+    /**
+     * Returns changes newer than {@code fromVersion} in version order, or an empty result when some of them
+     * are no longer retained (or {@code fromVersion} is unknown).
+     */
+    public synchronized Optional<List<SummaryChange>> changesSince(long fromVersion) {
+        if (fromVersion < 0 || fromVersion > version || version - fromVersion > changes.length) {
+            return Optional.empty();
+        }
+        List<SummaryChange> result = new ArrayList<>((int) (version - fromVersion));
+        for (long changeVersion = fromVersion + 1; changeVersion <= version; changeVersion++) {
+            result.add(changes[(int) (changeVersion % changes.length)]);
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * Reads the changes newer than {@code fromVersion} and the summary while no writer is between a summary change
+     * and its append. Falls back to a full snapshot when the changes are no longer retained.
+     */
+    public SummaryDelta delta(long fromVersion, Supplier<List<FootballMatch>> summary) {
+        Lock lock = changeLock.writeLock();
+        lock.lock();
+        try {
+            long currentVersion = currentVersion();
+            Optional<List<SummaryChange>> summaryChanges = changesSince(fromVersion);
+            List<FootballMatch> currentSummary = summary.get();
+            return summaryChanges.map(changesSince -> SummaryDelta.between(fromVersion, changesSince, currentSummary))
+                    .orElseGet(() -> SummaryDelta.full(currentVersion, currentSummary));
+        } finally {
+            lock.unlock();
+        }
+    }
+}
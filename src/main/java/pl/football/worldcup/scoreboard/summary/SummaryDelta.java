@@ -0,0 +1,51 @@
+package pl.football.worldcup.scoreboard.summary;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+
+/**
+ * Summary changes between a client version and {@link #toVersion()}.
+ * A client applies a delta by dropping the removed and changed matches from its list and then inserting
+ * the inserted and moved ones at their ranks in ascending rank order. When the client version is too old
+ * the delta is a {@link #fullSnapshot() full snapshot} instead.
+ */
+public record SummaryDelta(long fromVersion, long toVersion, boolean fullSnapshot, List<FootballMatch> snapshot, List<RankChange> changes) {
+
+    public static SummaryDelta full(long version, List<FootballMatch> summary) {
+        return new SummaryDelta(version, version, true, List.copyOf(summary), List.of());
+    }
+
+    public static SummaryDelta between(long fromVersion, List<SummaryChange> summaryChanges, List<FootballMatch> summary) {
+        Map<Long, Boolean> createdByMatchId = new LinkedHashMap<>();
+        long toVersion = fromVersion;
+        for (SummaryChange summaryChange : summaryChanges) {
+            createdByMatchId.merge(summaryChange.matchId(), summaryChange.created(), Boolean::logicalOr);
+            toVersion = summaryChange.version();
+        }
+        Map<Long, Integer> ranks = new HashMap<>();
+        for (int rank = 0; rank < summary.size() && ranks.size() < createdByMatchId.size(); rank++) {
+            Long matchId = summary.get(rank).id();
+            if (createdByMatchId.containsKey(matchId)) {
+                ranks.put(matchId, rank);
+            }
+        }
+        List<RankChange> changes = new ArrayList<>(createdByMatchId.size());
+        createdByMatchId.forEach((matchId, created) -> {
+            Integer rank = ranks.get(matchId);
+            if (rank != null) {
+                changes.add(new RankChange(created ? RankChange.Type.INSERTED : RankChange.Type.MOVED, matchId, rank, summary.get(rank)));
+            } else if (!created) {
+                changes.add(new RankChange(RankChange.Type.REMOVED, matchId, -1, null));
+            }
+        });
+        changes.sort(Comparator.comparingInt(RankChange::rank));
+
+        return new SummaryDelta(fromVersion, toVersion, false, List.of(), changes);
+    }
+}
@@ -0,0 +1,258 @@
+package pl.football.worldcup.scoreboard.summary;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+
+/**
+ * Keeps in-progress matches ordered by total score, start time and id (all descending),
+ * so the summary is an in-order traversal instead of a sort on every read.
+ * Matches are bucketed by total score and every bucket is ordered by start time and id, so a goal only moves one match
+ * to the adjacent bucket and the summary is a walk over the buckets from the highest score, linear in the live matches.
+ * Totals from {@link #OVERFLOW_SCORE} up share the last bucket, which is ordered by the full {@link #SUMMARY_ORDER}.
+ * A finished match leaves the ordering and stays only as a tombstone entry, so a late put of an older version
+ * can not bring it back to the summary. Tombstones expire once {@link #TOMBSTONE_CAPACITY} newer matches have finished,
+ * which bounds the index by the live matches on a long-running board; a put delayed past that is no longer rejected.
+ * <p>
+ * The full summary is published as an immutable snapshot through a volatile reference. Every write rebuilds and
+ * publishes it once the write is done, so reads share one list without allocating; a write costs a walk over the
+ * live matches. Concurrent writes coalesce: a rebuild that overlaps another write is dropped and that write publishes.
+ */
+public class SummaryIndex {
+
+    public static final Comparator<FootballMatch> SUMMARY_ORDER = Comparator.comparingInt(FootballMatch::totalScore)
+            .thenComparing(FootballMatch::startTime)
+            .thenComparing(FootballMatch::id)
+            .reversed();
+
+    static final int OVERFLOW_SCORE = 63;
+    static final int TOMBSTONE_CAPACITY = 4096;
+
+    private static final Comparator<FootballMatch> BUCKET_ORDER = Comparator.comparing(FootballMatch::startTime)
+            .thenComparing(FootballMatch::id)
+            .reversed();
+
+    private final Map<Long, FootballMatch> entries = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<NavigableSet<FootballMatch>> buckets = new AtomicReferenceArray<>(OVERFLOW_SCORE + 1);
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger writesInProgress = new AtomicInteger();
+    private final AtomicLong modificationCount = new AtomicLong();
+    private final Queue<FootballMatch> tombstones = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger tombstoneCount = new AtomicInteger();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot = new Snapshot(0L, List.of());
+
+    public SummaryIndex() {
+    }
+
+    /**
+     * Bulk load: the matches are sorted once ({@link SummarySorter}, in parallel for large boards) and, when all of them
+     * are distinct and in progress, the sorted list becomes the first snapshot without walking the buckets again.
+     */
+    public SummaryIndex(Collection<FootballMatch> matches) {
+        List<FootballMatch> sorted = SummarySorter.sort(matches);
+        sorted.forEach(this::putUnpublished);
+        if (size.get() == sorted.size()) {
+            snapshot = new Snapshot(modificationCount.get(), List.copyOf(sorted));
+        } else {
+            publishSnapshot();
+        }
+    }
+
+    public void put(FootballMatch match) {
+        putUnpublished(match);
+        publishSnapshot();
+    }
+
+    /**
+     * Puts every match and publishes one snapshot for the whole batch.
+     */
+    public void putAll(Collection<FootballMatch> matches) {
+        matches.forEach(this::putUnpublished);
+        publishSnapshot();
+    }
+
+    private void putUnpublished(FootballMatch match) {
+        FootballMatch stored;
+        writesInProgress.incrementAndGet();
+        try {
+            stored = entries.compute(match.id(), (id, previous) -> {
+                if (previous != null) {
+                    if (previous.version() > match.version()) {
+                        return previous;
+                    }
+                    removeOrdered(previous);
+                }
+                addOrdered(match);
+                return match;
+            });
+        } finally {
+            modificationCount.incrementAndGet();
+            writesInProgress.decrementAndGet();
+        }
+        if (stored == match && match.endTime() != null) {
+            addTombstone(match);
+        }
+    }
+
+    public void remove(Long id) {
+        writesInProgress.incrementAndGet();
+        try {
+            entries.computeIfPresent(id, (key, previous) -> {
+                removeOrdered(previous);
+                return null;
+            });
+        } finally {
+            modificationCount.incrementAndGet();
+            writesInProgress.decrementAndGet();
+        }
+        publishSnapshot();
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Number of entries held, live matches and unexpired tombstones.
+     */
+    int entryCount() {
+        return entries.size();
+    }
+
+    /**
+     * Summary as last published by a write, without the fallback of {@link #toList()}.
+     */
+    List<FootballMatch> publishedSnapshot() {
+        return snapshot.matches();
+    }
+
+    /**
+     * Returns the immutable published summary. Only while writes are still running, before their snapshot is out, the
+     * summary is collected for the caller without being published, so a writer always reads its own change.
+     */
+    public List<FootballMatch> toList() {
+        Snapshot current = snapshot;
+        if (current.modificationCount() == modificationCount.get()) {
+            return current.matches();
+        }
+        return collect(0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns at most {@code limit} matches starting at {@code offset}, walking only the first {@code offset + limit} entries.
+     */
+    public List<FootballMatch> page(int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit can not be negative");
+        }
+        Snapshot current = snapshot;
+        if (current.modificationCount() == modificationCount.get()) {
+            List<FootballMatch> matches = current.matches();
+            int fromIndex = Math.min(offset, matches.size());
+            return matches.subList(fromIndex, (int) Math.min((long) fromIndex + limit, matches.size()));
+        }
+        return collect(offset, limit);
+    }
+
+    /**
+     * Rebuilds the snapshot after a write. A rebuild is only published when no write overlapped it, so the snapshot never
+     * misses a match that was being moved; an overlapping write publishes once it is done, as it comes here after
+     * this rebuild releases the lock.
+     */
+    private void publishSnapshot() {
+        if (snapshot.modificationCount() == modificationCount.get()) {
+            return;
+        }
+        snapshotLock.lock();
+        try {
+            long modificationCountBefore = modificationCount.get();
+            if (snapshot.modificationCount() == modificationCountBefore || writesInProgress.get() != 0) {
+                return;
+            }
+            List<FootballMatch> matches = collect(0, Integer.MAX_VALUE);
+            if (writesInProgress.get() == 0 && modificationCount.get() == modificationCountBefore) {
+                snapshot = new Snapshot(modificationCountBefore, matches);
+            }
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    private List<FootballMatch> collect(int offset, int limit) {
+        List<FootballMatch> matches = new ArrayList<>(Math.min(limit, size.get()));
+        int skipped = 0;
+        for (int score = OVERFLOW_SCORE; score >= 0 && matches.size() < limit; score--) {
+            NavigableSet<FootballMatch> bucket = buckets.get(score);
+            if (bucket == null) {
+                continue;
+            }
+            for (FootballMatch match : bucket) {
+                if (skipped < offset) {
+                    skipped++;
+                } else if (matches.size() < limit) {
+                    matches.add(match);
+                } else {
+                    break;
+                }
+            }
+        }
+        return Collections.unmodifiableList(matches);
+    }
+
+    private void addOrdered(FootballMatch match) {
+        if (match.fetchEndTime().isEmpty() && bucket(match.totalScore()).add(match)) {
+            size.incrementAndGet();
+        }
+    }
+
+    private void removeOrdered(FootballMatch match) {
+        if (match.fetchEndTime().isEmpty() && bucket(match.totalScore()).remove(match)) {
+            size.decrementAndGet();
+        }
+    }
+
+    /**
+     * Queues the tombstone and expires the oldest one over capacity. An expired tombstone is only dropped while it is
+     * still the entry of its match.
+     */
+    private void addTombstone(FootballMatch finished) {
+        tombstones.add(finished);
+        if (tombstoneCount.incrementAndGet() > TOMBSTONE_CAPACITY) {
+            FootballMatch expired = tombstones.poll();
+            if (expired != null) {
+                tombstoneCount.decrementAndGet();
+                entries.remove(expired.id(), expired);
+            }
+        }
+    }
+
+    private NavigableSet<FootballMatch> bucket(int totalScore) {
+        int score = Math.min(totalScore, OVERFLOW_SCORE);
+        NavigableSet<FootballMatch> bucket = buckets.get(score);
+        if (bucket == null) {
+            buckets.compareAndSet(score, null, new ConcurrentSkipListSet<>(score == OVERFLOW_SCORE ? SUMMARY_ORDER : BUCKET_ORDER));
+            bucket = buckets.get(score);
+        }
+        return bucket;
+    }
+
+    private record Snapshot(long modificationCount, List<FootballMatch> matches) {
+
+    }
+}
@@ -0,0 +1,68 @@
+package pl.football.worldcup.scoreboard.summary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import lombok.experimental.UtilityClass;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+
+/**
+ * K-way merge of summaries that are each already in {@link SummaryIndex#SUMMARY_ORDER}.
+ */
+@UtilityClass
+public class SummaryMerge {
+
+    /**
+     * Returns at most {@code limit} matches of the merged summaries in {@link SummaryIndex#SUMMARY_ORDER},
+     * in {@code O(limit * log k)} for {@code k} summaries.
+     */
+    public List<FootballMatch> merge(List<List<FootballMatch>> summaries, int limit) {
+        if (summaries.size() == 1) {
+            List<FootballMatch> summary = summaries.get(0);
+            return summary.size() <= limit ? summary : summary.subList(0, limit);
+        }
+        PriorityQueue<Cursor> heads = new PriorityQueue<>(Math.max(1, summaries.size()));
+        long total = 0;
+        for (List<FootballMatch> summary : summaries) {
+            if (!summary.isEmpty()) {
+                heads.add(new Cursor(summary));
+                total += summary.size();
+            }
+        }
+        List<FootballMatch> merged = new ArrayList<>((int) Math.min(total, limit));
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Cursor cursor = heads.poll();
+            merged.add(cursor.head);
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    private static final class Cursor implements Comparable<Cursor> {
+
+        private final List<FootballMatch> summary;
+        private int index;
+        private FootballMatch head;
+
+        private Cursor(List<FootballMatch> summary) {
+            this.summary = summary;
+            this.head = summary.get(0);
+        }
+
+        private boolean advance() {
+            if (++index < summary.size()) {
+                head = summary.get(index);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            return SummaryIndex.SUMMARY_ORDER.compare(head, other.head);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package pl.football.worldcup.scoreboard.summary;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import lombok.experimental.UtilityClass;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+
+/**
+ * Sorts matches in {@link SummaryIndex#SUMMARY_ORDER}. Small inputs, and any input on a single-core pool, are sorted
+ * sequentially; larger ones are split into partitions that a {@link ForkJoinPool} sorts in parallel and merges pairwise.
+ * The order is total (ties end on the id), so both paths return exactly the same list.
+ */
+@UtilityClass
+public class SummarySorter {
+
+    /**
+     * Size from which the parallel path pays off, see {@code ParallelSummaryBenchmark}. Partitions below it are sorted
+     * sequentially as well.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    public List<FootballMatch> sort(Collection<FootballMatch> matches) {
+        return sort(matches, ForkJoinPool.commonPool());
+    }
+
+    public List<FootballMatch> sort(Collection<FootballMatch> matches, ForkJoinPool pool) {
+        return sort(matches, pool, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * @param parallelThreshold size from which the input is sorted in parallel, also the largest partition sorted
+     *                          sequentially; must be positive
+     */
+    public List<FootballMatch> sort(Collection<FootballMatch> matches, ForkJoinPool pool, int parallelThreshold) {
+        validateThreshold(parallelThreshold);
+        if (matches.size() < parallelThreshold || pool.getParallelism() < 2) {
+            return sortSequential(matches);
+        }
+        return sortParallel(matches, pool, parallelThreshold);
+    }
+
+    public List<FootballMatch> sortSequential(Collection<FootballMatch> matches) {
+        FootballMatch[] sorted = matches.toArray(new FootballMatch[0]);
+        Arrays.sort(sorted, SummaryIndex.SUMMARY_ORDER);
+        return Arrays.asList(sorted);
+    }
+
+    public List<FootballMatch> sortParallel(Collection<FootballMatch> matches, ForkJoinPool pool) {
+        return sortParallel(matches, pool, PARALLEL_THRESHOLD);
+    }
+
+    public List<FootballMatch> sortParallel(Collection<FootballMatch> matches, ForkJoinPool pool, int parallelThreshold) {
+        validateThreshold(parallelThreshold);
+        FootballMatch[] sorted = matches.toArray(new FootballMatch[0]);
+        pool.invoke(new SortTask(sorted, new FootballMatch[sorted.length], 0, sorted.length, parallelThreshold));
+        return Arrays.asList(sorted);
+    }
+
+    private void validateThreshold(int parallelThreshold) {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("Parallel threshold must be positive");
+        }
+    }
+
+    /**
+     * Sorts {@code matches[from, to)} in place, using the same range of {@code buffer} for merging.
+     */
+    private static final class SortTask extends RecursiveAction {
+
+        private final FootballMatch[] matches;
+        private final FootballMatch[] buffer;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        private SortTask(FootballMatch[] matches, FootballMatch[] buffer, int from, int to, int threshold) {
+            this.matches = matches;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                Arrays.sort(matches, from, to, SummaryIndex.SUMMARY_ORDER);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SortTask(matches, buffer, from, middle, threshold), new SortTask(matches, buffer, middle, to, threshold));
+            merge(middle);
+        }
+
+        private void merge(int middle) {
+            if (SummaryIndex.SUMMARY_ORDER.compare(matches[middle - 1], matches[middle]) <= 0) {
+                return;
+            }
+            System.arraycopy(matches, from, buffer, from, to - from);
+            int left = from;
+            int right = middle;
+            for (int index = from; index < to; index++) {
+                if (right >= to || (left < middle && SummaryIndex.SUMMARY_ORDER.compare(buffer[left], buffer[right]) <= 0)) {
+                    matches[index] = buffer[left++];
+                } else {
+                    matches[index] = buffer[right++];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package pl.football.worldcup.scoreboard.team;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+import pl.football.worldcup.scoreboard.util.MatchValidator;
+
+/**
+ * Assigns every team a compact int id, in registration order, and keeps a canonical name instance, so recurring teams
+ * are neither re-validated nor copied per match and can be referenced by id, e.g. by the archive and the storage
+ * snapshot. Names resolved from input are validated once and never kept when invalid; once {@code capacity} teams are
+ * registered new valid names are only validated.
+ */
+@Slf4j
+public class TeamRegistry {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final int UNREGISTERED_ID = -1;
+
+    private static final int INITIAL_NAMES_SIZE = 64;
+
+    private final int capacity;
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private volatile String[] names = new String[INITIAL_NAMES_SIZE];
+    private volatile int size;
+
+    public TeamRegistry() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public TeamRegistry(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Registry without a capacity limit, for codecs that reference every team they see by id.
+     */
+    public static TeamRegistry unbounded() {
+        return new TeamRegistry(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the canonical instance of the team name, registering it on first use, or {@code null} when the name
+     * is incorrect.
+     */
+    public String resolve(String name) {
+        if (name == null) {
+            return null;
+        }
+        Integer id = idsByName.get(name);
+        if (id != null) {
+            return names[id];
+        }
+        if (MatchValidator.isIncorrectName(name)) {
+            return null;
+        }
+        id = register(name);
+        return id == UNREGISTERED_ID ? name : names[id];
+    }
+
+    /**
+     * Returns the id of the team, registering it on first use, or {@link #UNREGISTERED_ID} when the registry is full.
+     * The name is not validated, so it has to be one already accepted, e.g. of a stored match.
+     */
+    public int idOf(String name) {
+        Integer id = idsByName.get(name);
+        return id == null ? register(name) : id;
+    }
+
+    /**
+     * Returns the id of an already registered team, or {@link #UNREGISTERED_ID}.
+     */
+    public int find(String name) {
+        Integer id = idsByName.get(name);
+        return id == null ? UNREGISTERED_ID : id;
+    }
+
+    /**
+     * Returns the canonical name of the team with the given id, or {@code null} when no team has it.
+     */
+    public String name(int id) {
+        int registered = size;
+        return id >= 0 && id < registered ? names[id] : null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private synchronized int register(String name) {
+        Integer registered = idsByName.get(name);
+        if (registered != null) {
+            return registered;
+        }
+        if (size >= capacity) {
+            log.debug("Team registry is full, team {} is not registered", name);
+            return UNREGISTERED_ID;
+        }
+        int id = size;
+        if (id == names.length) {
+            names = Arrays.copyOf(names, id * 2);
+        }
+        names[id] = name;
+        size = id + 1;
+        idsByName.put(name, id);
+        return id;
+    }
+}
@@ -0,0 +1,161 @@
+package pl.football.worldcup.scoreboard.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Open-addressing map with primitive {@code long} keys, so lookups neither box the key nor walk node chains.
+ * Inserts and removals are serialized, lookups are lock-free: a value is published with release semantics after its key,
+ * and the table is swapped through a volatile reference when it grows. Removed entries leave a tombstone that is
+ * dropped on the next resize. Key {@code 0} is reserved for empty slots.
+ */
+public class LongObjectMap<V> {
+
+    private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final Object TOMBSTONE = new Object();
+
+    private volatile Table table;
+
+    public LongObjectMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongObjectMap(int expectedSize) {
+        this.table = new Table(tableSizeFor(expectedSize));
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        Table current = table;
+        int mask = current.keys.length - 1;
+        for (int index = mix(key) & mask; ; index = (index + 1) & mask) {
+            Object value = VALUES.getAcquire(current.values, index);
+            if (value == null) {
+                return null;
+            }
+            if (value != TOMBSTONE && current.keys[index] == key) {
+                return (V) value;
+            }
+        }
+    }
+
+    /**
+     * Returns the value already stored under {@code key}, or {@code null} when {@code value} has been inserted.
+     */
+    public synchronized V putIfAbsent(long key, V value) {
+        if (key == 0L) {
+            throw new IllegalArgumentException("Key 0 is reserved");
+        }
+        V previous = get(key);
+        if (previous != null) {
+            return previous;
+        }
+        Table current = table;
+        if ((current.used + 1) * 2 > current.keys.length) {
+            current = resize(current);
+        }
+        insert(current, key, value);
+        return null;
+    }
+
+    /**
+     * Removes the entry and returns its value, or {@code null} when there was none.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized V remove(long key) {
+        Table current = table;
+        int mask = current.keys.length - 1;
+        for (int index = mix(key) & mask; ; index = (index + 1) & mask) {
+            Object value = current.values[index];
+            if (value == null) {
+                return null;
+            }
+            if (value != TOMBSTONE && current.keys[index] == key) {
+                VALUES.setRelease(current.values, index, TOMBSTONE);
+                current.size--;
+                return (V) value;
+            }
+        }
+    }
+
+    public int size() {
+        return table.size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<V> values() {
+        Table current = table;
+        List<V> values = new ArrayList<>(current.size);
+        for (int index = 0; index < current.values.length; index++) {
+            Object value = VALUES.getAcquire(current.values, index);
+            if (value != null && value != TOMBSTONE) {
+                values.add((V) value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Lazily streams the values of the current table. The stream splits by table range, so it parallelizes evenly;
+     * like {@link #values()} it is weakly consistent with concurrent inserts and removals.
+     */
+    @SuppressWarnings("unchecked")
+    public Stream<V> stream() {
+        Object[] values = table.values;
+        return IntStream.range(0, values.length)
+                .mapToObj(index -> VALUES.getAcquire(values, index))
+                .filter(value -> value != null && value != TOMBSTONE)
+                .map(value -> (V) value);
+    }
+
+    private Table resize(Table current) {
+        Table resized = new Table(current.size * 4 > current.keys.length ? current.keys.length * 2 : current.keys.length);
+        for (int index = 0; index < current.keys.length; index++) {
+            if (current.values[index] != null && current.values[index] != TOMBSTONE) {
+                insert(resized, current.keys[index], current.values[index]);
+            }
+        }
+        table = resized;
+        return resized;
+    }
+
+    private static void insert(Table table, long key, Object value) {
+        int mask = table.keys.length - 1;
+        int index = mix(key) & mask;
+        while (table.values[index] != null) {
+            index = (index + 1) & mask;
+        }
+        table.keys[index] = key;
+        VALUES.setRelease(table.values, index, value);
+        table.size++;
+        table.used++;
+    }
+
+    private static int mix(long key) {
+        long hash = key * 0x9E37_79B9_7F4A_7C15L;
+        return (int) (hash ^ hash >>> 32);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(DEFAULT_CAPACITY, expectedSize * 2 - 1));
+        return capacity << 1;
+    }
+
+    private static final class Table {
+
+        private final long[] keys;
+        private final Object[] values;
+        private volatile int size;
+        private int used;
+
+        private Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+        }
+    }
+}
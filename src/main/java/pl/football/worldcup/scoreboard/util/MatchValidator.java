@@ -1,6 +1,7 @@
 package pl.football.worldcup.scoreboard.util;
 
 import java.time.LocalDateTime;
+import java.util.regex.Pattern;
 
 import lombok.experimental.UtilityClass;
 import pl.football.worldcup.scoreboard.model.MatchScore;
@@ -8,10 +9,10 @@ import pl.football.worldcup.scoreboard.model.MatchScore;
 @UtilityClass
 public class MatchValidator {
 
-    private static final String TEAM_NAME_PATTERN = "^\\w{3,}$";
+    private static final Pattern TEAM_NAME_PATTERN = Pattern.compile("^\\w{3,}$");
 
     public boolean isIncorrectName(String name) {
-        return name == null || !name.matches(TEAM_NAME_PATTERN);
+        return name == null || !TEAM_NAME_PATTERN.matcher(name).matches();
     }
 
     public boolean isEndAfterStartTime(LocalDateTime startTime, LocalDateTime endTime) {
@@ -19,6 +20,11 @@ public class MatchValidator {
     }
 
     public boolean isCorrectMatchScores(MatchScore matchScores) {
-        return matchScores != null && matchScores.homeScore() >= 0 && matchScores.awayScore() >= 0;
+        return matchScores != null && matchScores.homeScore() != null && matchScores.awayScore() != null
+                && isCorrectMatchScores(matchScores.homeScoreAsInt(), matchScores.awayScoreAsInt());
+    }
+
+    public boolean isCorrectMatchScores(int homeScore, int awayScore) {
+        return homeScore >= 0 && awayScore >= 0;
     }
 }
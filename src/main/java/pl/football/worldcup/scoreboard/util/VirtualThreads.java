@@ -0,0 +1,39 @@
+package pl.football.worldcup.scoreboard.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Virtual threads are a preview API on the Java 19 target of this library, so the executor is looked up at runtime:
+ * a virtual-thread-per-task executor on Java 21+ (or 19+ with {@code --enable-preview}), a cached pool of daemon
+ * platform threads when the method is missing or preview features are disabled. Any other failure is not hidden.
+ */
+@Slf4j
+@UtilityClass
+public class VirtualThreads {
+
+    public ExecutorService newExecutor(String threadName) {
+        try {
+            MethodHandle factory = MethodHandles.publicLookup()
+                    .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+            return (ExecutorService) factory.invokeExact();
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            log.debug("Virtual threads are not available, falling back to platform threads", e);
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Virtual thread executor can not be created", e);
+        }
+    }
+}
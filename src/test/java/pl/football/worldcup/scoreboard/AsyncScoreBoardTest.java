@@ -0,0 +1,109 @@
+package pl.football.worldcup.scoreboard;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.football.worldcup.scoreboard.exception.MatchStorageException;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.model.ScoreUpdate;
+import pl.football.worldcup.scoreboard.storage.ConcurrentInMemoryStorage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncScoreBoardTest {
+
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2024, 9, 1, 1, 1, 1);
+
+    private ExecutorService executor;
+    private AsyncScoreBoard asyncScoreBoard;
+
+    @BeforeEach
+    void initBeforeTest() {
+        executor = Executors.newFixedThreadPool(8);
+        asyncScoreBoard = new AsyncScoreBoard(new FootballWorldCupScoreBoard(new ConcurrentInMemoryStorage()), executor);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        asyncScoreBoard.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void updateMatch_appliedInSubmissionOrderPerMatch() {
+        // GIVEN
+        Long mexicoId = asyncScoreBoard.createMatch("Mexico", "Canada", START_TIME).join();
+        Long spainId = asyncScoreBoard.createMatch("Spain", "Brazil", START_TIME.plusSeconds(1)).join();
+        List<CompletableFuture<Boolean>> updates = new ArrayList<>();
+
+        // WHEN
+        for (int i = 1; i <= 1_000; i++) {
+            updates.add(asyncScoreBoard.updateMatch(mexicoId, new MatchScore(i, 0)));
+            updates.add(asyncScoreBoard.updateMatch(spainId, 0, i));
+        }
+        CompletableFuture.allOf(updates.toArray(CompletableFuture[]::new)).join();
+
+        // THEN
+        assertTrue(updates.stream().allMatch(CompletableFuture::join));
+        List<FootballMatch> summary = asyncScoreBoard.getSummaryMatchesByTotalScore().join();
+        assertEquals(List.of(spainId, mexicoId), summary.stream().map(FootballMatch::id).toList());
+        assertEquals(new MatchScore(1_000, 0), summary.get(1).matchScore());
+        assertEquals(new MatchScore(0, 1_000), summary.get(0).matchScore());
+    }
+
+    @Test
+    void updateMatches_orderedWithCommandsOfAllTheirMatches() {
+        // GIVEN
+        Long mexicoId = asyncScoreBoard.createMatch("Mexico", "Canada", START_TIME).join();
+        Long spainId = asyncScoreBoard.createMatch("Spain", "Brazil", START_TIME.plusSeconds(1)).join();
+        List<CompletableFuture<?>> updates = new ArrayList<>();
+
+        // WHEN
+        for (int i = 1; i <= 300; i++) {
+            updates.add(asyncScoreBoard.updateMatch(mexicoId, new MatchScore(i, 0)));
+            updates.add(asyncScoreBoard.updateMatches(List.of(new ScoreUpdate(mexicoId, new MatchScore(i, 1)), new ScoreUpdate(spainId, new MatchScore(1, i)))));
+            updates.add(asyncScoreBoard.updateMatches(List.of(new ScoreUpdate(spainId, new MatchScore(2, i)), new ScoreUpdate(mexicoId, new MatchScore(i, 2)))));
+        }
+        CompletableFuture.allOf(updates.toArray(CompletableFuture[]::new)).orTimeout(30, TimeUnit.SECONDS).join();
+
+        // THEN
+        List<FootballMatch> top = asyncScoreBoard.getTopMatches(2).join();
+        assertEquals(new MatchScore(2, 300), top.get(0).matchScore());
+        assertEquals(new MatchScore(300, 2), top.get(1).matchScore());
+        assertEquals(top, asyncScoreBoard.getSummary(0, 2).join());
+        assertTrue(asyncScoreBoard.getSummaryChangesSince(-1).join().fullSnapshot());
+    }
+
+    @Test
+    void finishMatch_failureCompletesFutureAndKeepsOrder() {
+        // GIVEN
+        Long matchId = asyncScoreBoard.createMatch("Mexico", "Canada", START_TIME).join();
+        CompletableFuture<Void> unknownMatch = asyncScoreBoard.finishMatch(7L);
+
+        // WHEN
+        CompletableFuture<Void> firstFinish = asyncScoreBoard.finishMatch(matchId);
+        CompletableFuture<Void> secondFinish = asyncScoreBoard.finishMatch(matchId);
+        CompletableFuture<Boolean> update = asyncScoreBoard.updateMatch(matchId, new MatchScore(1, 0));
+
+        // THEN
+        CompletionException exception = assertThrows(CompletionException.class, unknownMatch::join);
+        assertInstanceOf(MatchStorageException.class, exception.getCause());
+        firstFinish.join();
+        assertThrows(CompletionException.class, secondFinish::join);
+        update.join();
+        assertEquals(List.of(), asyncScoreBoard.getSummaryMatchesByTotalScore().join());
+    }
+}
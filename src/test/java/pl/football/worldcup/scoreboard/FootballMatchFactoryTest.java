@@ -10,10 +10,13 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import pl.football.worldcup.scoreboard.exception.FootballMatchException;
 import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchResult;
 import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.model.UpdateStatus;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class FootballMatchFactoryTest {
@@ -43,6 +46,20 @@ class FootballMatchFactoryTest {
         assertEquals(startTime, match.startTime());
     }
 
+    @Test
+    void createMatch_sharesCanonicalTeamNames() {
+        // GIVEN
+        LocalDateTime startTime = LocalDateTime.now();
+        FootballMatch firstMatch = factory.createMatch(HOME_TEAM, AWAY_TEAM, startTime);
+
+        // WHEN
+        FootballMatch secondMatch = factory.createMatch(new String(AWAY_TEAM), new String(HOME_TEAM), startTime);
+
+        // THEN
+        assertSame(firstMatch.homeTeam(), secondMatch.awayTeam());
+        assertSame(firstMatch.awayTeam(), secondMatch.homeTeam());
+    }
+
     @Test
     void createMatch_toShortNames() {
         // GIVEN
@@ -104,6 +121,48 @@ class FootballMatchFactoryTest {
         assertEquals("Match score is incorrect", exception.getMessage());
     }
 
+    @ParameterizedTest
+    @MethodSource("matchScore")
+    void tryUpdateMatchScore_scoreIncorrect(MatchScore matchScore) {
+        // GIVEN
+        FootballMatch match = factory.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.now());
+
+        // WHEN
+        MatchResult result = factory.tryUpdateMatchScore(match, matchScore);
+
+        // THEN
+        assertSame(MatchResult.rejected(UpdateStatus.INVALID_SCORE), result);
+    }
+
+    @Test
+    void tryUpdateMatchScore_successfully() {
+        // GIVEN
+        FootballMatch match = factory.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.now());
+
+        // WHEN
+        MatchResult result = factory.tryUpdateMatchScore(match, new MatchScore(1, 2));
+
+        // THEN
+        assertEquals(MatchResult.success(factory.updateMatchScore(match, new MatchScore(1, 2))), result);
+        assertEquals(MatchResult.rejected(UpdateStatus.NOT_FOUND), factory.tryUpdateMatchScore(null, new MatchScore(1, 2)));
+    }
+
+    @Test
+    void tryFinishMatch_rejected() {
+        // GIVEN
+        LocalDateTime startTime = LocalDateTime.now();
+        FootballMatch match = factory.createMatch(HOME_TEAM, AWAY_TEAM, startTime);
+        FootballMatch finishedMatch = factory.finishMatch(match, startTime.plusSeconds(1));
+
+        // WHEN
+        MatchResult result = factory.tryFinishMatch(match, startTime.minusSeconds(1));
+
+        // THEN
+        assertEquals(UpdateStatus.INVALID_END_TIME, result.status());
+        assertEquals(UpdateStatus.ALREADY_FINISHED, factory.tryFinishMatch(finishedMatch, startTime.plusSeconds(2)).status());
+        assertEquals(MatchResult.success(finishedMatch), factory.tryFinishMatch(match, startTime.plusSeconds(1)));
+    }
+
     @Test
     void finishMatch_successfully() {
         // GIVEN
@@ -4,16 +4,34 @@ import java.text.MessageFormat;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import pl.football.worldcup.scoreboard.event.MatchEvent;
+import pl.football.worldcup.scoreboard.metrics.ContentionSnapshot;
+import pl.football.worldcup.scoreboard.metrics.MetricsSnapshot;
+import pl.football.worldcup.scoreboard.metrics.Operation;
 import pl.football.worldcup.scoreboard.model.FootballMatch;
 import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.model.ScoreUpdate;
+import pl.football.worldcup.scoreboard.model.ScoreUpdateResult;
+import pl.football.worldcup.scoreboard.model.UpdateStatus;
+import pl.football.worldcup.scoreboard.storage.ConcurrentInMemoryStorage;
 import pl.football.worldcup.scoreboard.storage.InMemoryStorage;
 import pl.football.worldcup.scoreboard.storage.MatchStorage;
+import pl.football.worldcup.scoreboard.summary.RankChange;
+import pl.football.worldcup.scoreboard.summary.SummaryDelta;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -73,6 +91,68 @@ class FootballWorldCupScoreBoardTest {
         assertEquals(1, match.getTotalScore());
     }
 
+    @Test
+    void updateMatch_primitiveScores() {
+        // GIVEN
+        Long matchId = scoreBoard.createMatch(HOME_TEAM, AWAY_TEAM);
+
+        // WHEN
+        boolean successfulUpdate = scoreBoard.updateMatch(matchId.longValue(), 2, 1);
+        boolean negativeScoreUpdate = scoreBoard.updateMatch(matchId.longValue(), -1, 1);
+        boolean unknownMatchUpdate = scoreBoard.updateMatch(1000L, 1, 1);
+
+        // THEN
+        assertTrue(successfulUpdate);
+        assertFalse(negativeScoreUpdate);
+        assertFalse(unknownMatchUpdate);
+        List<FootballMatch> summaryMatches = scoreBoard.getSummaryMatchesByTotalScore();
+        assertEquals(1, summaryMatches.size());
+        assertEquals(new MatchScore(2, 1), summaryMatches.get(0).matchScore());
+    }
+
+    @Test
+    void updateMatches_perItemOutcomes() {
+        // GIVEN
+        LocalDateTime startTime = LocalDateTime.of(2024, 9, 1, 1, 1, 1, 0);
+        Long firstMatchId = scoreBoard.createMatch("Mexico", "Canada", startTime);
+        Long secondMatchId = scoreBoard.createMatch("Spain", "Brazil", startTime.plusSeconds(1));
+
+        // WHEN
+        List<ScoreUpdateResult> results = scoreBoard.updateMatches(List.of(
+                new ScoreUpdate(firstMatchId, new MatchScore(0, 5)),
+                new ScoreUpdate(1000L, new MatchScore(1, 0)),
+                new ScoreUpdate(secondMatchId, new MatchScore(-1, 0)),
+                new ScoreUpdate(secondMatchId, new MatchScore(1, 2))));
+
+        // THEN
+        assertEquals(List.of(
+                new ScoreUpdateResult(firstMatchId, UpdateStatus.UPDATED),
+                new ScoreUpdateResult(1000L, UpdateStatus.NOT_FOUND),
+                new ScoreUpdateResult(secondMatchId, UpdateStatus.INVALID_SCORE),
+                new ScoreUpdateResult(secondMatchId, UpdateStatus.UPDATED)), results);
+
+        List<FootballMatch> summaryMatches = scoreBoard.getSummaryMatchesByTotalScore();
+        assertEquals(2, summaryMatches.size());
+        assertEquals(new MatchScore(0, 5), summaryMatches.get(0).matchScore());
+        assertEquals(new MatchScore(1, 2), summaryMatches.get(1).matchScore());
+    }
+
+    @Test
+    void updateMatches_sameMatchTwiceInBatch() {
+        // GIVEN
+        Long matchId = scoreBoard.createMatch(HOME_TEAM, AWAY_TEAM);
+
+        // WHEN
+        List<ScoreUpdateResult> results = scoreBoard.updateMatches(List.of(
+                new ScoreUpdate(matchId, new MatchScore(1, 0)),
+                new ScoreUpdate(matchId, new MatchScore(2, 0))));
+
+        // THEN
+        assertTrue(results.stream().allMatch(ScoreUpdateResult::isUpdated));
+        assertEquals(new MatchScore(2, 0), matchStorage.getMatch(matchId).matchScore());
+        assertEquals(List.of(matchStorage.getMatch(matchId)), scoreBoard.getSummaryMatchesByTotalScore());
+    }
+
     @Test
     void finishMatch_successfully() {
         // GIVEN
@@ -187,6 +267,192 @@ class FootballWorldCupScoreBoardTest {
         assertEquals(4, match.getTotalScore());
     }
 
+    @Test
+    void updateMatch_concurrentlyWithoutLostUpdates() throws Exception {
+        // GIVEN
+        int threads = 8;
+        int updatesPerThread = 1_000;
+        MatchStorage concurrentStorage = new ConcurrentInMemoryStorage();
+        FootballWorldCupScoreBoard concurrentScoreBoard = new FootballWorldCupScoreBoard(concurrentStorage);
+        Long matchId = concurrentScoreBoard.createMatch(HOME_TEAM, AWAY_TEAM);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        // WHEN
+        try {
+            for (int thread = 0; thread < threads; thread++) {
+                int threadIndex = thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int successfulUpdates = 0;
+                    for (int i = 0; i < updatesPerThread; i++) {
+                        if (concurrentScoreBoard.updateMatch(matchId, new MatchScore(threadIndex, i))) {
+                            successfulUpdates++;
+                        }
+                    }
+                    return successfulUpdates;
+                }));
+            }
+            start.countDown();
+            int successfulUpdates = 0;
+            for (Future<Integer> future : futures) {
+                successfulUpdates += future.get();
+            }
+
+            // THEN
+            ContentionSnapshot contention = concurrentScoreBoard.getContentionSnapshot();
+            assertEquals(successfulUpdates, concurrentStorage.getMatch(matchId).version());
+            assertEquals(threads * updatesPerThread - successfulUpdates, contention.exhaustedRetries());
+            assertEquals(concurrentStorage.getMatch(matchId), concurrentScoreBoard.getSummaryMatchesByTotalScore().get(0));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getMatchEvents_publishesChanges() throws InterruptedException {
+        // GIVEN
+        List<MatchEvent> events = new CopyOnWriteArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(3);
+        scoreBoard.getMatchEvents().subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(MatchEvent event) {
+                events.add(event);
+                delivered.countDown();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        // WHEN
+        Long matchId = scoreBoard.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.of(2024, 9, 1, 1, 1, 1, 0));
+        scoreBoard.updateMatch(matchId, new MatchScore(1, 0));
+        scoreBoard.finishMatch(matchId);
+
+        // THEN
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        assertEquals(3, events.size());
+        assertTrue(events.get(0) instanceof MatchEvent.MatchCreated);
+        assertTrue(events.get(1) instanceof MatchEvent.ScoreChanged);
+        assertEquals(new MatchScore(1, 0), events.get(1).match().matchScore());
+        assertTrue(events.get(2) instanceof MatchEvent.MatchFinished);
+        assertTrue(events.get(2).match().fetchEndTime().isPresent());
+    }
+
+    @Test
+    void getTopMatches_successfully() {
+        // GIVEN
+        LocalDateTime startTime = LocalDateTime.of(2024, 9, 1, 1, 1, 1, 0);
+        createMatchWithScore("Mexico", "Canada", startTime.plusSeconds(1), 0, 5);
+        createMatchWithScore("Spain", "Brazil", startTime.plusSeconds(2), 10, 2);
+        createMatchWithScore("Germany", "France", startTime.plusSeconds(3), 2, 2);
+        createMatchWithScore("Uruguay", "Italy", startTime.plusSeconds(4), 6, 6);
+
+        // WHEN
+        List<FootballMatch> topMatches = scoreBoard.getTopMatches(2);
+        List<FootballMatch> secondPage = scoreBoard.getSummary(2, 2);
+
+        // THEN
+        List<FootballMatch> summary = scoreBoard.getSummaryMatchesByTotalScore();
+        assertEquals(summary.subList(0, 2), topMatches);
+        assertEquals(summary.subList(2, 4), secondPage);
+        assertEquals("Uruguay", topMatches.get(0).homeTeam());
+    }
+
+    @Test
+    void getSummaryChangesSince_appliedDeltaMatchesSummary() {
+        // GIVEN
+        LocalDateTime startTime = LocalDateTime.of(2024, 9, 1, 1, 1, 1, 0);
+        Long mexicoId = createMatchWithScore("Mexico", "Canada", startTime.plusSeconds(1), 0, 5);
+        Long spainId = createMatchWithScore("Spain", "Brazil", startTime.plusSeconds(2), 1, 2);
+        Long germanyId = createMatchWithScore("Germany", "France", startTime.plusSeconds(3), 2, 2);
+        SummaryDelta initial = scoreBoard.getSummaryChangesSince(-1);
+        List<FootballMatch> clientSummary = new ArrayList<>(initial.snapshot());
+
+        scoreBoard.updateMatch(spainId, new MatchScore(10, 2));
+        scoreBoard.finishMatch(germanyId);
+        Long uruguayId = createMatchWithScore("Uruguay", "Italy", startTime.plusSeconds(4), 6, 6);
+
+        // WHEN
+        SummaryDelta delta = scoreBoard.getSummaryChangesSince(initial.toVersion());
+
+        // THEN
+        assertTrue(initial.fullSnapshot());
+        assertFalse(delta.fullSnapshot());
+        assertEquals(List.of(
+                new RankChange(RankChange.Type.REMOVED, germanyId, -1, null),
+                new RankChange(RankChange.Type.INSERTED, uruguayId, 0, matchStorage.getMatch(uruguayId)),
+                new RankChange(RankChange.Type.MOVED, spainId, 1, matchStorage.getMatch(spainId))), delta.changes());
+
+        delta.changes().forEach(change -> clientSummary.removeIf(match -> match.id().equals(change.matchId())));
+        delta.changes().stream()
+                .filter(change -> change.type() != RankChange.Type.REMOVED)
+                .forEach(change -> clientSummary.add(change.rank(), change.match()));
+        assertEquals(scoreBoard.getSummaryMatchesByTotalScore(), clientSummary);
+        assertEquals(mexicoId, clientSummary.get(2).id());
+    }
+
+    @Test
+    void getSummaryChangesSince_tooOldVersion() {
+        // GIVEN
+        Long matchId = scoreBoard.createMatch(HOME_TEAM, AWAY_TEAM);
+        for (int i = 0; i < 2_000; i++) {
+            scoreBoard.updateMatch(matchId, new MatchScore(i, 0));
+        }
+
+        // WHEN
+        SummaryDelta delta = scoreBoard.getSummaryChangesSince(1);
+
+        // THEN
+        assertTrue(delta.fullSnapshot());
+        assertEquals(2_001, delta.toVersion());
+        assertEquals(scoreBoard.getSummaryMatchesByTotalScore(), delta.snapshot());
+    }
+
+    @Test
+    void getMetricsSnapshot_countsOperationsFailuresAndMatches() {
+        // GIVEN
+        FootballWorldCupScoreBoard footballScoreBoard = new FootballWorldCupScoreBoard(new FootballMatchFactory(), matchStorage);
+        Long mexicoId = footballScoreBoard.createMatch("Mexico", "Canada");
+        Long spainId = footballScoreBoard.createMatch("Spain", "Brazil");
+        footballScoreBoard.updateMatch(mexicoId, new MatchScore(1, 0));
+        footballScoreBoard.updateMatch(mexicoId, new MatchScore(-1, 0));
+        footballScoreBoard.updateMatch(7L, 1, 1);
+        footballScoreBoard.finishMatch(spainId);
+        footballScoreBoard.getSummaryMatchesByTotalScore();
+        footballScoreBoard.getTopMatches(1);
+        footballScoreBoard.getSummary(0, 10);
+        footballScoreBoard.getSummaryChangesSince(0L);
+
+        // WHEN
+        MetricsSnapshot snapshot = footballScoreBoard.getMetricsSnapshot();
+
+        // THEN
+        assertEquals(2, snapshot.latencies().get(Operation.CREATE_MATCH).count());
+        assertEquals(3, snapshot.latencies().get(Operation.UPDATE_MATCH).count());
+        assertEquals(1, snapshot.latencies().get(Operation.FINISH_MATCH).count());
+        assertEquals(1, snapshot.latencies().get(Operation.SUMMARY).count());
+        assertEquals(2, snapshot.latencies().get(Operation.SUMMARY_PAGE).count());
+        assertEquals(1, snapshot.latencies().get(Operation.SUMMARY_DELTA).count());
+        assertEquals(2L, snapshot.failures().get(Operation.UPDATE_MATCH));
+        assertEquals(0L, snapshot.failures().get(Operation.CREATE_MATCH));
+        assertEquals(1, snapshot.liveMatches());
+        assertEquals(1, snapshot.finishedMatches());
+        assertEquals(1, snapshot.summarySize());
+    }
+
     private Long createMatchWithScore(String homeTeam, String awayTeam, LocalDateTime startTime, Integer homeScore, Integer awayScore) {
         Long matchId = scoreBoard.createMatch(homeTeam, awayTeam, startTime);
         if (scoreBoard.updateMatch(matchId, new MatchScore(homeScore, awayScore))) {
@@ -0,0 +1,137 @@
+package pl.football.worldcup.scoreboard.event;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import pl.football.worldcup.scoreboard.FootballMatchFactory;
+import pl.football.worldcup.scoreboard.FootballWorldCupScoreBoard;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.storage.ConcurrentInMemoryStorage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MatchEventPublisherTest {
+
+    private static final FootballMatch MATCH = FootballMatch.builder()
+            .id(1L)
+            .homeTeam("HomeTeam")
+            .awayTeam("AwayTeam")
+            .startTime(LocalDateTime.of(2024, 9, 1, 1, 1, 1, 0))
+            .matchScore(new MatchScore(0, 0))
+            .build();
+
+    @Test
+    void publish_deliveredInOrder() throws InterruptedException {
+        // GIVEN
+        List<MatchEvent> events = new CopyOnWriteArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(2);
+        try (MatchEventPublisher publisher = new MatchEventPublisher()) {
+            publisher.subscribe(new CollectingSubscriber(events, delivered));
+
+            // WHEN
+            publisher.publish(new MatchEvent.MatchCreated(MATCH));
+            publisher.publish(new MatchEvent.MatchFinished(MATCH));
+
+            // THEN
+            assertTrue(delivered.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of(new MatchEvent.MatchCreated(MATCH), new MatchEvent.MatchFinished(MATCH)), events);
+            assertEquals(0, publisher.getDroppedEvents());
+        }
+    }
+
+    @Test
+    void publish_dropsForSlowSubscriberWithoutBlocking() {
+        // GIVEN
+        List<Runnable> pendingTasks = new ArrayList<>();
+        try (MatchEventPublisher publisher = new MatchEventPublisher(pendingTasks::add, 1)) {
+            publisher.subscribe(new CollectingSubscriber(new ArrayList<>(), new CountDownLatch(1)));
+
+            // WHEN
+            for (int i = 0; i < 10; i++) {
+                publisher.publish(new MatchEvent.ScoreChanged(MATCH));
+            }
+
+            // THEN
+            assertTrue(publisher.getDroppedEvents() > 0);
+        }
+    }
+
+    @Test
+    void publish_consumerDroppingOlderVersionsEndsAtStoredMatch() throws Exception {
+        // GIVEN
+        int threads = 4;
+        int updatesPerThread = 200;
+        List<MatchEvent> events = new CopyOnWriteArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(1 + threads * updatesPerThread);
+        Map<Long, MatchEvent> latestEvents = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (MatchEventPublisher publisher = new MatchEventPublisher(ForkJoinPool.commonPool(), 1 << 13)) {
+            publisher.subscribe(new CollectingSubscriber(events, delivered));
+            FootballWorldCupScoreBoard scoreBoard = new FootballWorldCupScoreBoard(new FootballMatchFactory(),
+                    new ConcurrentInMemoryStorage(), publisher);
+            Long id = scoreBoard.createMatch("HomeTeam", "AwayTeam", MATCH.startTime());
+
+            // WHEN
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                int homeScore = thread;
+                futures.add(executor.submit(() -> {
+                    for (int goal = 0; goal < updatesPerThread; goal++) {
+                        while (!scoreBoard.updateMatch(id, new MatchScore(homeScore, goal))) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            assertTrue(delivered.await(10, TimeUnit.SECONDS));
+            events.forEach(event -> latestEvents.merge(event.match().id(), event,
+                    (latest, candidate) -> candidate.version() > latest.version() ? candidate : latest));
+
+            // THEN
+            assertEquals(0, publisher.getDroppedEvents());
+            assertEquals(1 + threads * updatesPerThread, events.stream().mapToLong(MatchEvent::version).distinct().count());
+            assertEquals(scoreBoard.getSummaryMatchesByTotalScore().get(0), latestEvents.get(id).match());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private record CollectingSubscriber(List<MatchEvent> events, CountDownLatch delivered) implements Flow.Subscriber<MatchEvent> {
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(MatchEvent event) {
+            events.add(event);
+            delivered.countDown();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package pl.football.worldcup.scoreboard.eventloop;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import pl.football.worldcup.scoreboard.FootballWorldCupScoreBoard;
+import pl.football.worldcup.scoreboard.exception.FootballMatchException;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.storage.InMemoryStorage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventLoopScoreBoardTest {
+
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2024, 9, 1, 1, 1, 1);
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    void updateMatch_concurrentProducersOverNonThreadSafeStorage(WaitStrategy waitStrategy) throws Exception {
+        // GIVEN
+        int producers = 8;
+        int updates = 2_000;
+        try (EventLoopScoreBoard scoreBoard = new EventLoopScoreBoard(new FootballWorldCupScoreBoard(new InMemoryStorage()),
+                EventLoopOptions.of(waitStrategy).withCapacity(64).withMaxBatchSize(16))) {
+            ExecutorService executor = Executors.newFixedThreadPool(producers);
+            List<Future<Long>> futures = new ArrayList<>();
+
+            // WHEN
+            for (int producer = 0; producer < producers; producer++) {
+                int home = producer;
+                futures.add(executor.submit(() -> {
+                    Long id = scoreBoard.createMatch("Home" + home, "Away" + home, START_TIME.plusSeconds(home));
+                    for (int goals = 1; goals <= updates; goals++) {
+                        assertTrue(scoreBoard.updateMatch(id, goals, 0));
+                    }
+                    return id;
+                }));
+            }
+            for (Future<Long> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+
+            // THEN
+            List<FootballMatch> summary = scoreBoard.getSummaryMatchesByTotalScore();
+            assertEquals(producers, summary.size());
+            assertTrue(summary.stream().allMatch(match -> match.matchScore().equals(new MatchScore(updates, 0))));
+        }
+    }
+
+    @Test
+    void createMatch_failureRethrownToCaller() {
+        try (EventLoopScoreBoard scoreBoard = new EventLoopScoreBoard(new InMemoryStorage())) {
+            // WHEN
+            FootballMatchException exception = assertThrows(FootballMatchException.class, () -> scoreBoard.createMatch("Ab", "Mexico"));
+
+            // THEN
+            assertEquals("Given team name (Ab) is incorrect", exception.getMessage());
+            Long id = scoreBoard.createMatch("Spain", "Brazil", START_TIME);
+            assertFalse(scoreBoard.updateMatch(id, new MatchScore(-1, 0)));
+            scoreBoard.finishMatch(id);
+            assertEquals(List.of(), scoreBoard.getSummaryMatchesByTotalScore());
+        }
+    }
+
+    @Test
+    void createMatch_errorRethrownToCallerAndWriterKeepsRunning() {
+        // GIVEN
+        InMemoryStorage failingStorage = new InMemoryStorage() {
+
+            private boolean failed;
+
+            @Override
+            public FootballMatch saveMatch(FootballMatch match) {
+                if (!failed) {
+                    failed = true;
+                    throw new OutOfMemoryError("Simulated error");
+                }
+                return super.saveMatch(match);
+            }
+        };
+        try (EventLoopScoreBoard scoreBoard = new EventLoopScoreBoard(failingStorage)) {
+            // WHEN
+            OutOfMemoryError error = assertThrows(OutOfMemoryError.class, () -> scoreBoard.createMatch("Spain", "Brazil", START_TIME));
+
+            // THEN
+            assertEquals("Simulated error", error.getMessage());
+            Long id = scoreBoard.createMatch("Mexico", "Canada", START_TIME);
+            assertTrue(scoreBoard.updateMatch(id, 1, 0));
+            assertEquals(1, scoreBoard.getSummaryMatchesByTotalScore().size());
+        }
+    }
+
+    @Test
+    void close_rejectsNewCommands() {
+        // GIVEN
+        EventLoopScoreBoard scoreBoard = new EventLoopScoreBoard(new InMemoryStorage());
+        Long id = scoreBoard.createMatch("Spain", "Brazil", START_TIME);
+
+        // WHEN
+        scoreBoard.close();
+
+        // THEN
+        assertThrows(IllegalStateException.class, () -> scoreBoard.updateMatch(id, 1, 0));
+        assertEquals(1, scoreBoard.getSummaryMatchesByTotalScore().size());
+    }
+}
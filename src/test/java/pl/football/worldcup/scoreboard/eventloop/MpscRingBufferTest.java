@@ -0,0 +1,78 @@
+package pl.football.worldcup.scoreboard.eventloop;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MpscRingBufferTest {
+
+    @Test
+    void offer_fullBuffer() {
+        // GIVEN
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+
+        // WHEN
+        boolean offered = buffer.offer(4);
+
+        // THEN
+        assertFalse(offered);
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(2, buffer.drain(drained::add, 2));
+        assertTrue(buffer.offer(4));
+        assertEquals(3, buffer.drain(drained::add, 10));
+        assertEquals(List.of(0, 1, 2, 3, 4), drained);
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    void drain_keepsOrderPerProducer() throws Exception {
+        // GIVEN
+        MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(64);
+        int producers = 4;
+        int elements = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // WHEN
+        for (int producer = 0; producer < producers; producer++) {
+            long producerId = producer;
+            futures.add(executor.submit(() -> {
+                for (long i = 0; i < elements; i++) {
+                    while (!buffer.offer(new long[]{producerId, i})) {
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+        long[] nextByProducer = new long[producers];
+        int received = 0;
+        while (received < producers * elements) {
+            int drained = buffer.drain(element -> assertEquals(nextByProducer[(int) element[0]]++, element[1]), 128);
+            if (drained == 0) {
+                Thread.yield();
+            }
+            received += drained;
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // THEN
+        for (long next : nextByProducer) {
+            assertEquals(elements, next);
+        }
+        assertTrue(buffer.isEmpty());
+    }
+}
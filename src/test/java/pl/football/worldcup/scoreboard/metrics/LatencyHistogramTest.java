@@ -0,0 +1,61 @@
+package pl.football.worldcup.scoreboard.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    void resetState() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Test
+    void snapshot_percentilesWithinBucketPrecision() {
+        // GIVEN
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        // WHEN
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        // THEN
+        assertEquals(100_000, snapshot.count());
+        assertWithinPrecision(50_000_000, snapshot.p50());
+        assertWithinPrecision(90_000_000, snapshot.p90());
+        assertWithinPrecision(99_000_000, snapshot.p99());
+        assertWithinPrecision(99_900_000, snapshot.p999());
+        assertEquals(100_000_000, snapshot.max());
+    }
+
+    @Test
+    void snapshot_empty() {
+        // WHEN
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        // THEN
+        assertEquals(new LatencySnapshot(0, 0, 0, 0, 0, 0), snapshot);
+    }
+
+    @Test
+    void bucket_upperBoundCoversValue() {
+        for (long value : new long[]{0, 1, 31, 32, 63, 64, 65, 1_000, 123_456_789, Long.MAX_VALUE}) {
+            // WHEN
+            int bucket = LatencyHistogram.bucket(value);
+
+            // THEN
+            assertTrue(LatencyHistogram.upperBound(bucket) >= value);
+            assertTrue(bucket == 0 || LatencyHistogram.upperBound(bucket - 1) < value);
+        }
+    }
+
+    private void assertWithinPrecision(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 32, () -> expected + " vs " + actual);
+    }
+}
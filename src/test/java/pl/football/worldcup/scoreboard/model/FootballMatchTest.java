@@ -0,0 +1,50 @@
+package pl.football.worldcup.scoreboard.model;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FootballMatchTest {
+
+    @Test
+    void unversionedConstructor_startsAtVersionZero() {
+        // GIVEN
+        LocalDateTime startTime = LocalDateTime.now();
+        Integer homeScore = 2;
+        Integer awayScore = 1;
+
+        // WHEN
+        FootballMatch match = new FootballMatch(1L, "HomeTeam", "AwayTeam", startTime, null, new MatchScore(homeScore, awayScore));
+
+        // THEN
+        assertEquals(0L, match.version());
+        assertEquals(FootballMatch.builder()
+                .id(1L)
+                .homeTeam("HomeTeam")
+                .awayTeam("AwayTeam")
+                .startTime(startTime)
+                .matchScore(new MatchScore(2, 1))
+                .build(), match);
+        assertEquals(3, match.getTotalScore());
+    }
+
+    @Test
+    void matchScore_primitiveAccessorsMatchBoxedComponents() {
+        // GIVEN
+        MatchScore matchScore = new MatchScore(Integer.valueOf(4), Integer.valueOf(3));
+
+        // WHEN
+        FootballMatch match = FootballMatch.builder()
+                .id(1L)
+                .matchScore(matchScore)
+                .build();
+
+        // THEN
+        assertEquals(matchScore.homeScore().intValue(), matchScore.homeScoreAsInt());
+        assertEquals(matchScore.awayScore().intValue(), matchScore.awayScoreAsInt());
+        assertEquals(Integer.valueOf(7), match.getTotalScore());
+        assertEquals(7, match.totalScore());
+    }
+}
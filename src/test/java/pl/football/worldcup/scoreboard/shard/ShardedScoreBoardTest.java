@@ -0,0 +1,178 @@
+package pl.football.worldcup.scoreboard.shard;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.football.worldcup.scoreboard.FootballWorldCupScoreBoard;
+import pl.football.worldcup.scoreboard.exception.MatchStorageException;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.model.ScoreUpdate;
+import pl.football.worldcup.scoreboard.model.ScoreUpdateResult;
+import pl.football.worldcup.scoreboard.model.UpdateStatus;
+import pl.football.worldcup.scoreboard.storage.ConcurrentInMemoryStorage;
+import pl.football.worldcup.scoreboard.storage.MatchStorage;
+import pl.football.worldcup.scoreboard.summary.SummaryDelta;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardedScoreBoardTest {
+
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2024, 9, 1, 1, 1, 1);
+    private static final String WORLD_CUP = "world-cup";
+    private static final String QUALIFIERS = "qualifiers";
+
+    private ShardedScoreBoard scoreBoard;
+
+    @BeforeEach
+    void initBeforeTest() {
+        scoreBoard = new ShardedScoreBoard(shardKey -> new ConcurrentInMemoryStorage());
+    }
+
+    @Test
+    void createMatch_idsAreGloballyUnique() {
+        // GIVEN
+        Set<Long> ids = new HashSet<>();
+
+        // WHEN
+        for (int i = 0; i < 100; i++) {
+            ids.add(scoreBoard.createMatch(WORLD_CUP, "Home" + i, "Away" + i, START_TIME));
+            ids.add(scoreBoard.createMatch(QUALIFIERS, "Home" + i, "Away" + i, START_TIME));
+            ids.add(scoreBoard.createMatch("Home" + i, "Away" + i, START_TIME));
+        }
+
+        // THEN
+        assertEquals(300, ids.size());
+        assertEquals(Set.of(WORLD_CUP, QUALIFIERS, ShardedScoreBoard.DEFAULT_SHARD), scoreBoard.getShardKeys());
+    }
+
+    @Test
+    void getSummaryMatchesByTotalScore_mergesShardsInSummaryOrder() {
+        // GIVEN
+        FootballWorldCupScoreBoard singleBoard = new FootballWorldCupScoreBoard(new ConcurrentInMemoryStorage());
+        String[] shardKeys = {WORLD_CUP, QUALIFIERS, "youth"};
+        for (int i = 0; i < 60; i++) {
+            LocalDateTime startTime = START_TIME.plusSeconds(i % 7);
+            Long shardedId = scoreBoard.createMatch(shardKeys[i % 3], "Home" + i, "Away" + i, startTime);
+            Long singleId = singleBoard.createMatch("Home" + i, "Away" + i, startTime);
+            scoreBoard.updateMatch(shardedId, new MatchScore(i % 5, i % 3));
+            singleBoard.updateMatch(singleId, new MatchScore(i % 5, i % 3));
+        }
+
+        // WHEN
+        List<FootballMatch> summary = scoreBoard.getSummaryMatchesByTotalScore();
+
+        // THEN
+        assertEquals(describe(singleBoard.getSummaryMatchesByTotalScore()), describe(summary));
+        assertEquals(summary.subList(10, 15), scoreBoard.getSummary(10, 5));
+        assertEquals(summary.subList(0, 3), scoreBoard.getTopMatches(3));
+        assertEquals(20, scoreBoard.getSummaryMatchesByTotalScore(WORLD_CUP).size());
+        assertTrue(scoreBoard.getSummaryMatchesByTotalScore("unknown").isEmpty());
+    }
+
+    @Test
+    void updateMatches_routesToShardsAndKeepsOrder() {
+        // GIVEN
+        Long worldCupId = scoreBoard.createMatch(WORLD_CUP, "Poland", "Germany", START_TIME);
+        Long qualifiersId = scoreBoard.createMatch(QUALIFIERS, "Spain", "Brazil", START_TIME);
+        List<ScoreUpdate> scoreUpdates = List.of(
+                new ScoreUpdate(qualifiersId, new MatchScore(1, 0)),
+                new ScoreUpdate(worldCupId, new MatchScore(-1, 0)),
+                new ScoreUpdate(999L, new MatchScore(1, 1)),
+                new ScoreUpdate(worldCupId, new MatchScore(2, 2)));
+
+        // WHEN
+        List<ScoreUpdateResult> results = scoreBoard.updateMatches(scoreUpdates);
+
+        // THEN
+        assertEquals(List.of(
+                new ScoreUpdateResult(qualifiersId, UpdateStatus.UPDATED),
+                new ScoreUpdateResult(worldCupId, UpdateStatus.INVALID_SCORE),
+                new ScoreUpdateResult(999L, UpdateStatus.NOT_FOUND),
+                new ScoreUpdateResult(worldCupId, UpdateStatus.UPDATED)), results);
+        assertEquals(worldCupId, scoreBoard.getTopMatches(1).get(0).id());
+    }
+
+    @Test
+    void finishMatch_removesMatchFromGlobalSummary() {
+        // GIVEN
+        Long worldCupId = scoreBoard.createMatch(WORLD_CUP, "Poland", "Germany", START_TIME);
+        Long qualifiersId = scoreBoard.createMatch(QUALIFIERS, "Spain", "Brazil", START_TIME);
+        SummaryDelta before = scoreBoard.getSummaryChangesSince(0L);
+
+        // WHEN
+        scoreBoard.finishMatch(worldCupId);
+
+        // THEN
+        assertEquals(List.of(qualifiersId), scoreBoard.getSummaryMatchesByTotalScore().stream().map(FootballMatch::id).toList());
+        assertEquals(1, scoreBoard.getSummaryChangesSince(before.toVersion()).changes().size());
+        assertThrows(MatchStorageException.class, () -> scoreBoard.finishMatch(12345L));
+    }
+
+    private static List<String> describe(List<FootballMatch> matches) {
+        List<String> descriptions = new ArrayList<>(matches.size());
+        matches.forEach(match -> descriptions.add(match.homeTeam() + ":" + match.awayTeam() + ":" + match.getTotalScore()));
+        return descriptions;
+    }
+
+    @Test
+    void createMatch_stableShardIndexesRouteStoredMatchesAfterRestart() {
+        // GIVEN
+        Map<String, MatchStorage> storages = Map.of(WORLD_CUP, new ConcurrentInMemoryStorage(), QUALIFIERS, new ConcurrentInMemoryStorage());
+        Map<String, Integer> shardIndexes = Map.of(WORLD_CUP, 3, QUALIFIERS, 7);
+        ShardedScoreBoard firstRun = new ShardedScoreBoard(storages::get, shardIndexes::get);
+        Long worldCupId = firstRun.createMatch(WORLD_CUP, "Mexico", "Canada", START_TIME);
+        Long qualifiersId = firstRun.createMatch(QUALIFIERS, "Spain", "Brazil", START_TIME);
+
+        // WHEN
+        ShardedScoreBoard secondRun = new ShardedScoreBoard(storages::get, shardIndexes::get);
+        Long newQualifiersId = secondRun.createMatch(QUALIFIERS, "Germany", "France", START_TIME);
+        Long newWorldCupId = secondRun.createMatch(WORLD_CUP, "Uruguay", "Italy", START_TIME);
+        boolean worldCupUpdated = secondRun.updateMatch(worldCupId, new MatchScore(1, 0));
+        boolean qualifiersUpdated = secondRun.updateMatch(qualifiersId, new MatchScore(0, 2));
+
+        // THEN
+        assertTrue(worldCupUpdated);
+        assertTrue(qualifiersUpdated);
+        assertEquals(3L, worldCupId & (ShardedScoreBoard.MAX_SHARDS - 1L));
+        assertEquals(3L, newWorldCupId & (ShardedScoreBoard.MAX_SHARDS - 1L));
+        assertEquals(7L, newQualifiersId & (ShardedScoreBoard.MAX_SHARDS - 1L));
+        assertEquals(List.of(qualifiersId, newQualifiersId),
+                secondRun.getSummaryMatchesByTotalScore(QUALIFIERS).stream().map(FootballMatch::id).sorted().toList());
+        assertEquals(4, secondRun.getSummaryMatchesByTotalScore().size());
+    }
+
+    @Test
+    void createMatch_refusesStorageOfAnotherShardIndex() {
+        // GIVEN
+        MatchStorage storage = new ConcurrentInMemoryStorage();
+        new ShardedScoreBoard(shardKey -> storage, shardKey -> 1).createMatch(WORLD_CUP, "Mexico", "Canada", START_TIME);
+        ShardedScoreBoard restarted = new ShardedScoreBoard(shardKey -> storage, shardKey -> 2);
+
+        // WHEN
+        // THEN
+        assertThrows(IllegalStateException.class, () -> restarted.createMatch(WORLD_CUP, "Spain", "Brazil", START_TIME));
+    }
+
+    @Test
+    void createMatch_refusesSharedOrOutOfRangeShardIndex() {
+        // GIVEN
+        Map<String, Integer> shardIndexes = Map.of(WORLD_CUP, 5, QUALIFIERS, 5, "youth", ShardedScoreBoard.MAX_SHARDS);
+        ShardedScoreBoard board = new ShardedScoreBoard(shardKey -> new ConcurrentInMemoryStorage(), shardIndexes::get);
+        board.createMatch(WORLD_CUP, "Mexico", "Canada", START_TIME);
+
+        // WHEN
+        // THEN
+        assertThrows(IllegalStateException.class, () -> board.createMatch(QUALIFIERS, "Spain", "Brazil", START_TIME));
+        assertThrows(IllegalStateException.class, () -> board.createMatch("youth", "Germany", "France", START_TIME));
+        assertEquals(Set.of(WORLD_CUP), board.getShardKeys());
+    }
+}
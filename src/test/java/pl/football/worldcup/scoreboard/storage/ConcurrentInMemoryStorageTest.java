@@ -0,0 +1,328 @@
+package pl.football.worldcup.scoreboard.storage;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.football.worldcup.scoreboard.FootballMatchFactory;
+import pl.football.worldcup.scoreboard.MatchFactory;
+import pl.football.worldcup.scoreboard.exception.MatchStorageException;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchResult;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.model.UpdateStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentInMemoryStorageTest {
+
+    private static final String HOME_TEAM = "HomeTeam";
+    private static final String AWAY_TEAM = "AwayTeam";
+    private static final int THREADS = 8;
+    private static final int MATCHES_PER_THREAD = 2_000;
+
+    private MatchFactory footballMatchFactory;
+    private ConcurrentMap<Long, FootballMatch> storage;
+    private MatchStorage matchStorage;
+
+    @BeforeEach
+    void resetState() {
+        footballMatchFactory = new FootballMatchFactory();
+        storage = new ConcurrentHashMap<>();
+        matchStorage = new ConcurrentInMemoryStorage(storage);
+    }
+
+    @Test
+    void saveMatch_successfully() {
+        // GIVEN
+        FootballMatch match = footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.now());
+
+        // WHEN
+        match = matchStorage.saveMatch(match);
+
+        // THEN
+        assertEquals(1, storage.size());
+        assertEquals(match, storage.get(match.id()));
+    }
+
+    @Test
+    void saveMatch_alreadyExist() {
+        // GIVEN
+        FootballMatch match = footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.now());
+        final FootballMatch savedMatch = matchStorage.saveMatch(match);
+
+        // WHEN
+        MatchStorageException exception = assertThrows(MatchStorageException.class, () -> matchStorage.saveMatch(savedMatch));
+
+        // THEN
+        assertEquals("Match object already exist in storage", exception.getMessage());
+    }
+
+    @Test
+    void updateMatch_notExist() {
+        // GIVEN
+        FootballMatch match = footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.now());
+
+        // WHEN
+        MatchStorageException exception = assertThrows(MatchStorageException.class, () -> matchStorage.updateMatch(match));
+
+        // THEN
+        assertEquals("There is no match object in storage", exception.getMessage());
+        assertEquals(0, storage.size());
+    }
+
+    @Test
+    void getMatch_notExist() {
+        // WHEN
+        MatchStorageException exception = assertThrows(MatchStorageException.class, () -> matchStorage.getMatch(7L));
+
+        // THEN
+        assertEquals("There is no match with id=7", exception.getMessage());
+    }
+
+    @Test
+    void tryCompareAndSetMatch_rejectedWithoutException() {
+        // GIVEN
+        FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.now()));
+        matchStorage.updateScore(match.id(), 0, 1);
+        FootballMatch current = matchStorage.getMatch(match.id());
+        FootballMatch removed = matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", LocalDateTime.now()));
+        matchStorage.removeMatch(removed.id());
+
+        // WHEN
+        MatchResult result = matchStorage.tryCompareAndSetMatch(match, footballMatchFactory.updateMatchScore(match, new MatchScore(1, 0)));
+
+        // THEN
+        assertEquals(MatchResult.rejected(UpdateStatus.CONFLICT), result);
+        assertEquals(MatchResult.rejected(UpdateStatus.NOT_FOUND), matchStorage.tryCompareAndSetMatch(removed, removed));
+        assertEquals(MatchResult.success(current.toBuilder().version(current.version() + 1).build()),
+                matchStorage.tryCompareAndSetMatch(current, current));
+    }
+
+    @Test
+    void saveMatch_concurrentlyWithoutDuplicateIds() throws Exception {
+        // GIVEN
+        List<Long> ids = runConcurrently(thread -> {
+            List<Long> savedIds = new ArrayList<>();
+            for (int i = 0; i < MATCHES_PER_THREAD; i++) {
+                FootballMatch match = footballMatchFactory.createMatch(HOME_TEAM + thread, AWAY_TEAM + i, LocalDateTime.now());
+                savedIds.add(matchStorage.saveMatch(match).id());
+            }
+            return savedIds;
+        });
+
+        // THEN
+        assertEquals(THREADS * MATCHES_PER_THREAD, ids.size());
+        assertEquals(ids.size(), Set.copyOf(ids).size());
+        assertEquals(ids.size(), storage.size());
+    }
+
+    @Test
+    void saveMatch_rejectedDuplicateDoesNotConsumeIds() {
+        // GIVEN
+        FootballMatch match = footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.now()).toBuilder()
+                .id(5L)
+                .build();
+        storage.put(match.id(), match);
+
+        // WHEN
+        assertThrows(MatchStorageException.class, () -> matchStorage.saveMatch(match));
+
+        // THEN
+        assertEquals(1L, matchStorage.nextId());
+    }
+
+    @Test
+    void saveMatches_indexesBatchUpToDuplicate() {
+        // GIVEN
+        LocalDateTime startTime = LocalDateTime.now();
+        FootballMatch inProgress = footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, startTime).toBuilder()
+                .id(3L)
+                .build();
+        FootballMatch finished = footballMatchFactory.createMatch(HOME_TEAM, "OtherTeam", startTime).toBuilder()
+                .id(7L)
+                .endTime(startTime.plusMinutes(95))
+                .build();
+
+        // WHEN
+        matchStorage.saveMatches(List.of(inProgress, finished));
+        assertThrows(MatchStorageException.class, () -> matchStorage.saveMatches(List.of(finished.toBuilder()
+                .id(9L)
+                .build(), inProgress)));
+
+        // THEN
+        assertEquals(List.of(inProgress), matchStorage.getAllMatchesInProgress());
+        assertEquals(Set.of(7L, 9L), Set.copyOf(matchStorage.getAllFinishedMatches().stream().map(FootballMatch::id).toList()));
+        assertEquals(3, matchStorage.getAllMatchesOfTeam(HOME_TEAM).size());
+        assertEquals(10L, matchStorage.nextId());
+    }
+
+    @Test
+    void loader_storesAndIndexesOnCommitOnly() {
+        // GIVEN
+        LocalDateTime startTime = LocalDateTime.now();
+        FootballMatch stored = matchStorage.saveMatch(footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, startTime));
+        FootballMatch inProgress = footballMatchFactory.createMatch(HOME_TEAM, "OtherTeam", startTime).toBuilder()
+                .id(5L)
+                .build();
+        FootballMatch finished = footballMatchFactory.createMatch("ThirdTeam", AWAY_TEAM, startTime).toBuilder()
+                .id(8L)
+                .endTime(startTime.plusMinutes(95))
+                .build();
+        MatchLoader rejectedLoader = matchStorage.loader(2);
+        rejectedLoader.add(inProgress);
+        rejectedLoader.add(stored);
+        MatchLoader loader = matchStorage.loader(2);
+        loader.add(inProgress);
+        loader.add(finished);
+
+        // WHEN
+        assertThrows(MatchStorageException.class, rejectedLoader::commit);
+        assertEquals(List.of(stored), matchStorage.getAllMatches());
+        loader.commit();
+
+        // THEN
+        assertEquals(3, matchStorage.matchCount());
+        assertEquals(Set.of(stored.id(), inProgress.id()), Set.copyOf(matchStorage.getAllMatchesInProgress().stream().map(FootballMatch::id).toList()));
+        assertEquals(List.of(finished), matchStorage.getAllFinishedMatches());
+        assertEquals(2, matchStorage.getAllMatchesOfTeam(AWAY_TEAM).size());
+        assertEquals(9L, matchStorage.nextId());
+    }
+
+    @Test
+    void saveMatch_generatedIdSkipsTakenId() {
+        // GIVEN
+        FootballMatch match = footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.now());
+        storage.put(1L, match.toBuilder()
+                .id(1L)
+                .build());
+
+        // WHEN
+        FootballMatch savedMatch = matchStorage.saveMatch(match);
+
+        // THEN
+        assertEquals(2L, savedMatch.id());
+        assertEquals(2, storage.size());
+    }
+
+    @Test
+    void compareAndSetMatch_concurrentIncrementsWithoutLostUpdates() throws Exception {
+        // GIVEN
+        FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.now()));
+        int incrementsPerThread = 500;
+
+        // WHEN
+        List<Long> attempts = runConcurrently(thread -> {
+            long threadAttempts = 0;
+            for (int i = 0; i < incrementsPerThread; i++) {
+                boolean stored = false;
+                while (!stored) {
+                    FootballMatch current = matchStorage.getMatch(match.id());
+                    MatchScore incremented = new MatchScore(current.matchScore().homeScore() + 1, current.matchScore().awayScore());
+                    stored = matchStorage.compareAndSetMatch(current, footballMatchFactory.updateMatchScore(current, incremented)).isPresent();
+                    threadAttempts++;
+                }
+            }
+            return List.of(threadAttempts);
+        });
+
+        // THEN
+        FootballMatch storedMatch = matchStorage.getMatch(match.id());
+        int successfulUpdates = THREADS * incrementsPerThread;
+        assertEquals(successfulUpdates, storedMatch.matchScore().homeScore());
+        assertEquals(successfulUpdates, storedMatch.version());
+        assertTrue(attempts.stream().mapToLong(Long::longValue).sum() >= successfulUpdates);
+    }
+
+    @Test
+    void compareAndSetMatch_concurrentlyOnSameMatch() throws Exception {
+        // GIVEN
+        FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.now()));
+
+        // WHEN
+        List<Long> applied = runConcurrently(thread -> {
+            List<Long> appliedVersions = new ArrayList<>();
+            for (int i = 0; i < MATCHES_PER_THREAD; i++) {
+                FootballMatch current = matchStorage.getMatch(match.id());
+                matchStorage.compareAndSetMatch(current, footballMatchFactory.updateMatchScore(current, new MatchScore(thread, i)))
+                        .ifPresent(storedMatch -> appliedVersions.add(storedMatch.version()));
+            }
+            return appliedVersions;
+        });
+
+        // THEN
+        assertEquals(applied.size(), Set.copyOf(applied).size());
+        assertEquals(applied.size(), matchStorage.getMatch(match.id()).version());
+    }
+
+    private List<Long> runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int threadIndex = thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.run(threadIndex);
+                }));
+            }
+            start.countDown();
+            List<Long> results = new ArrayList<>();
+            for (Future<List<Long>> future : futures) {
+                results.addAll(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+
+        List<Long> run(int thread);
+    }
+
+    @Test
+    void updateMatch_teamChangeMovesTeamIndex() {
+        // GIVEN
+        LocalDateTime startTime = LocalDateTime.now();
+        FootballMatch spainBrazil = matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", startTime));
+
+        // WHEN
+        FootballMatch spainItaly = matchStorage.updateMatch(spainBrazil.toBuilder().awayTeam("Italy").build());
+
+        // THEN
+        assertEquals(List.of(), matchStorage.getAllMatchesOfTeam("Brazil"));
+        assertEquals(List.of(spainItaly), matchStorage.getAllMatchesOfTeam("Italy"));
+        assertEquals(List.of(spainItaly), matchStorage.getAllMatchesOfTeam("Spain"));
+    }
+
+    @Test
+    void compareAndSetMatch_resetEndTimeMovesMatchBackInProgress() {
+        // GIVEN
+        LocalDateTime startTime = LocalDateTime.now();
+        FootballMatch spainBrazil = matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", startTime));
+        FootballMatch finishedMatch = matchStorage.updateMatch(footballMatchFactory.finishMatch(spainBrazil, startTime.plusMinutes(90)));
+
+        // WHEN
+        FootballMatch reopenedMatch = matchStorage.compareAndSetMatch(finishedMatch,
+                finishedMatch.toBuilder().endTime(null).build()).orElseThrow();
+
+        // THEN
+        assertEquals(List.of(), matchStorage.getAllFinishedMatches());
+        assertEquals(List.of(reopenedMatch), matchStorage.getAllMatchesInProgress());
+    }
+}
@@ -4,6 +4,9 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,6 +18,7 @@ import pl.football.worldcup.scoreboard.model.MatchScore;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class InMemoryStorageTest {
 
@@ -112,6 +116,47 @@ class InMemoryStorageTest {
         assertEquals("There is no match object in storage", exception.getMessage());
     }
 
+    @Test
+    void compareAndSetMatch_successfully() {
+        // GIVEN
+        FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.now()));
+        FootballMatch updatedMatch = footballMatchFactory.updateMatchScore(match, new MatchScore(1, 0));
+
+        // WHEN
+        Optional<FootballMatch> storedMatch = matchStorage.compareAndSetMatch(match, updatedMatch);
+
+        // THEN
+        assertTrue(storedMatch.isPresent());
+        assertEquals(match.version() + 1, storedMatch.get().version());
+        assertEquals(storedMatch.get(), storage.get(match.id()));
+    }
+
+    @Test
+    void compareAndSetMatch_staleVersion() {
+        // GIVEN
+        FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.now()));
+        FootballMatch concurrentMatch = matchStorage.updateMatch(footballMatchFactory.updateMatchScore(match, new MatchScore(0, 1)));
+
+        // WHEN
+        Optional<FootballMatch> storedMatch = matchStorage.compareAndSetMatch(match, footballMatchFactory.updateMatchScore(match, new MatchScore(1, 0)));
+
+        // THEN
+        assertTrue(storedMatch.isEmpty());
+        assertEquals(concurrentMatch, storage.get(match.id()));
+    }
+
+    @Test
+    void getMatches_skipsUnknownIds() {
+        // GIVEN
+        FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.now()));
+
+        // WHEN
+        Map<Long, FootballMatch> matches = matchStorage.getMatches(List.of(match.id(), 1000L));
+
+        // THEN
+        assertEquals(Map.of(match.id(), match), matches);
+    }
+
     @Test
     void getAllMatches_oneMatch() {
         // GIVEN
@@ -157,4 +202,87 @@ class InMemoryStorageTest {
         assertEquals(0, storage.size());
         assertEquals(0, allMatchesInProgress.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void secondaryIndexes_inProgressFinishedAndTeam() {
+        // GIVEN
+        LocalDateTime startTime = LocalDateTime.now();
+        FootballMatch spainBrazil = matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", startTime));
+        FootballMatch brazilItaly = matchStorage.saveMatch(footballMatchFactory.createMatch("Brazil", "Italy", startTime));
+        FootballMatch mexicoCanada = matchStorage.saveMatch(footballMatchFactory.createMatch("Mexico", "Canada", startTime));
+
+        // WHEN
+        FootballMatch finishedMatch = matchStorage.compareAndSetMatch(spainBrazil,
+                footballMatchFactory.finishMatch(spainBrazil, startTime.plusMinutes(90))).orElseThrow();
+
+        // THEN
+        assertEquals(Set.of(brazilItaly.id(), mexicoCanada.id()), ids(matchStorage.getAllMatchesInProgress()));
+        assertEquals(List.of(finishedMatch), matchStorage.getAllFinishedMatches());
+        assertEquals(Set.of(spainBrazil.id(), brazilItaly.id()), ids(matchStorage.getAllMatchesOfTeam("Brazil")));
+        assertEquals(List.of(), matchStorage.getAllMatchesOfTeam("Germany"));
+    }
+
+    @Test
+    void updateMatch_teamChangeMovesTeamIndex() {
+        // GIVEN
+        LocalDateTime startTime = LocalDateTime.now();
+        FootballMatch spainBrazil = matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", startTime));
+
+        // WHEN
+        FootballMatch spainItaly = matchStorage.updateMatch(spainBrazil.toBuilder().awayTeam("Italy").build());
+
+        // THEN
+        assertEquals(List.of(), matchStorage.getAllMatchesOfTeam("Brazil"));
+        assertEquals(List.of(spainItaly), matchStorage.getAllMatchesOfTeam("Italy"));
+        assertEquals(List.of(spainItaly), matchStorage.getAllMatchesOfTeam("Spain"));
+    }
+
+    @Test
+    void compareAndSetMatch_resetEndTimeMovesMatchBackInProgress() {
+        // GIVEN
+        LocalDateTime startTime = LocalDateTime.now();
+        FootballMatch spainBrazil = matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", startTime));
+        FootballMatch finishedMatch = matchStorage.updateMatch(footballMatchFactory.finishMatch(spainBrazil, startTime.plusMinutes(90)));
+
+        // WHEN
+        FootballMatch reopenedMatch = matchStorage.compareAndSetMatch(finishedMatch,
+                finishedMatch.toBuilder().endTime(null).build()).orElseThrow();
+
+        // THEN
+        assertEquals(List.of(), matchStorage.getAllFinishedMatches());
+        assertEquals(List.of(reopenedMatch), matchStorage.getAllMatchesInProgress());
+    }
+
+    @Test
+    void streamMatches_pushesDownTeamStatusTimeAndScore() {
+        // GIVEN
+        LocalDateTime startTime = LocalDateTime.of(2024, 9, 1, 1, 1, 1);
+        FootballMatch spainBrazil = matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", startTime));
+        FootballMatch brazilItaly = matchStorage.saveMatch(footballMatchFactory.createMatch("Brazil", "Italy", startTime.plusHours(2)));
+        FootballMatch mexicoCanada = matchStorage.saveMatch(footballMatchFactory.createMatch("Mexico", "Canada", startTime.plusHours(4)));
+        matchStorage.updateScore(brazilItaly.id(), 3, 1);
+        matchStorage.compareAndSetMatch(spainBrazil, footballMatchFactory.finishMatch(spainBrazil, startTime.plusMinutes(90)));
+
+        // WHEN
+        Set<Long> brazilInProgress = ids(matchStorage.streamMatches(MatchQuery.all()
+                        .withTeam("Brazil")
+                        .withStatus(MatchQuery.Status.IN_PROGRESS))
+                .toList());
+
+        // THEN
+        assertEquals(Set.of(brazilItaly.id()), brazilInProgress);
+        assertEquals(Set.of(spainBrazil.id(), brazilItaly.id()), ids(matchStorage.streamMatches(MatchQuery.all()
+                .withStartTimeBetween(startTime, startTime.plusHours(4))).toList()));
+        assertEquals(Set.of(brazilItaly.id()), ids(matchStorage.streamMatches(MatchQuery.all().withTotalScoreBetween(1, 20)).toList()));
+        assertEquals(Set.of(spainBrazil.id()), ids(matchStorage.streamMatches(MatchQuery.all().withStatus(MatchQuery.Status.FINISHED)).toList()));
+        assertEquals(3, matchStorage.streamMatches(MatchQuery.all()).count());
+        assertEquals(0, matchStorage.streamMatches(MatchQuery.all().withTeam("Germany")).count());
+        assertTrue(matchStorage.streamMatches(MatchQuery.all().withTeam("Canada")).anyMatch(match -> match.id().equals(mexicoCanada.id())));
+    }
+
+    private Set<Long> ids(List<FootballMatch> matches) {
+        return matches.stream()
+                .map(FootballMatch::id)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,110 @@
+package pl.football.worldcup.scoreboard.storage;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.football.worldcup.scoreboard.FootballMatchFactory;
+import pl.football.worldcup.scoreboard.MatchFactory;
+import pl.football.worldcup.scoreboard.exception.MatchStorageException;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchResult;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.model.UpdateStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MatchStorageTest {
+
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2024, 9, 1, 1, 1, 1);
+
+    private MatchFactory footballMatchFactory;
+    private MatchStorage matchStorage;
+
+    @BeforeEach
+    void resetState() {
+        footballMatchFactory = new FootballMatchFactory();
+        matchStorage = new MinimalStorage();
+    }
+
+    @Test
+    void defaults_workOnStorageImplementingOnlyOriginalMethods() {
+        // GIVEN
+        FootballMatch spainBrazil = matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", START_TIME));
+        FootballMatch mexicoCanada = matchStorage.saveMatch(footballMatchFactory.createMatch("Mexico", "Canada", START_TIME));
+        matchStorage.updateMatch(footballMatchFactory.finishMatch(mexicoCanada, START_TIME.plusMinutes(95)));
+
+        // WHEN
+        boolean updated = matchStorage.updateScore(spainBrazil.id(), 2, 1);
+        boolean unknownUpdated = matchStorage.updateScore(99L, 1, 0);
+        Optional<FootballMatch> staleWrite = matchStorage.compareAndSetMatch(spainBrazil,
+                footballMatchFactory.updateMatchScore(spainBrazil, new MatchScore(3, 1)));
+
+        // THEN
+        assertTrue(updated);
+        assertFalse(unknownUpdated);
+        assertTrue(staleWrite.isEmpty());
+        assertEquals(new MatchScore(2, 1), matchStorage.getMatch(spainBrazil.id()).matchScore());
+        assertEquals(List.of(spainBrazil.id()), List.copyOf(matchStorage.getMatches(List.of(spainBrazil.id(), 99L)).keySet()));
+        assertEquals(MatchResult.rejected(UpdateStatus.NOT_FOUND), matchStorage.findMatch(99L));
+        assertEquals(List.of(mexicoCanada.id()), matchStorage.getAllFinishedMatches().stream().map(FootballMatch::id).toList());
+        assertEquals(List.of(spainBrazil.id()), matchStorage.getAllMatchesOfTeam("Brazil").stream().map(FootballMatch::id).toList());
+        assertThrows(UnsupportedOperationException.class, () -> matchStorage.removeMatch(spainBrazil.id()));
+    }
+
+    /**
+     * A storage written against the original interface.
+     */
+    private static final class MinimalStorage implements MatchStorage {
+
+        private final Map<Long, FootballMatch> matches = new HashMap<>();
+
+        @Override
+        public FootballMatch saveMatch(FootballMatch match) {
+            FootballMatch stored = match.toBuilder()
+                    .id(matches.size() + 1L)
+                    .build();
+            matches.put(stored.id(), stored);
+            return stored;
+        }
+
+        @Override
+        public FootballMatch updateMatch(FootballMatch match) {
+            FootballMatch previous = getMatch(match.id());
+            FootballMatch stored = match.toBuilder()
+                    .version(previous.version() + 1)
+                    .build();
+            matches.put(stored.id(), stored);
+            return stored;
+        }
+
+        @Override
+        public FootballMatch getMatch(Long id) {
+            FootballMatch match = matches.get(id);
+            if (match == null) {
+                throw new MatchStorageException("There is no match with id=" + id);
+            }
+            return match;
+        }
+
+        @Override
+        public List<FootballMatch> getAllMatches() {
+            return new ArrayList<>(matches.values());
+        }
+
+        @Override
+        public List<FootballMatch> getAllMatchesInProgress() {
+            return getAllMatches().stream()
+                    .filter(match -> match.endTime() == null)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package pl.football.worldcup.scoreboard.storage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.football.worldcup.scoreboard.FootballMatchFactory;
+import pl.football.worldcup.scoreboard.MatchFactory;
+import pl.football.worldcup.scoreboard.exception.MatchStorageException;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchResult;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.model.UpdateStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlotMatchStorageTest {
+
+    private static final String HOME_TEAM = "HomeTeam";
+    private static final String AWAY_TEAM = "AwayTeam";
+
+    private MatchFactory footballMatchFactory;
+    private MatchStorage matchStorage;
+
+    @BeforeEach
+    void resetState() {
+        footballMatchFactory = new FootballMatchFactory();
+        matchStorage = new SlotMatchStorage();
+    }
+
+    @Test
+    void saveMatch_successfully() {
+        // GIVEN
+        LocalDateTime startTime = LocalDateTime.now();
+        FootballMatch match = footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, startTime);
+
+        // WHEN
+        match = matchStorage.saveMatch(match);
+
+        // THEN
+        assertEquals(match, matchStorage.getMatch(match.id()));
+        assertEquals(List.of(match), matchStorage.getAllMatchesInProgress());
+    }
+
+    @Test
+    void updateScore_successfully() {
+        // GIVEN
+        FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.now()));
+
+        // WHEN
+        boolean updated = matchStorage.updateScore(match.id(), 3, 2);
+
+        // THEN
+        assertTrue(updated);
+        FootballMatch storedMatch = matchStorage.getMatch(match.id());
+        assertEquals(new MatchScore(3, 2), storedMatch.matchScore());
+        assertEquals(match.version() + 1, storedMatch.version());
+    }
+
+    @Test
+    void updateScore_notExistOrOutOfRange() {
+        // GIVEN
+        FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.now()));
+
+        // WHEN / THEN
+        assertFalse(matchStorage.updateScore(1000L, 1, 0));
+        assertFalse(matchStorage.updateScore(match.id(), MatchSlot.MAX_SCORE + 1, 0));
+        assertEquals(match, matchStorage.getMatch(match.id()));
+    }
+
+    @Test
+    void tryUpdateScore_returnsStoredMatch() {
+        // GIVEN
+        FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.now()));
+
+        // WHEN
+        MatchResult result = matchStorage.tryUpdateScore(match.id(), 2, 1);
+
+        // THEN
+        assertEquals(MatchResult.success(matchStorage.getMatch(match.id())), result);
+        assertEquals(MatchResult.rejected(UpdateStatus.NOT_FOUND), matchStorage.tryUpdateScore(1000L, 1, 0));
+        assertEquals(MatchResult.rejected(UpdateStatus.INVALID_SCORE), matchStorage.tryUpdateScore(match.id(), -1, 0));
+    }
+
+    @Test
+    void updateScore_rejectedAtMaximumVersion() {
+        // GIVEN
+        FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.now())
+                .toBuilder()
+                .id(7L)
+                .version(MatchSlot.MAX_VERSION - 1)
+                .build());
+
+        // WHEN
+        boolean lastUpdate = matchStorage.updateScore(match.id(), 1, 0);
+        boolean exhaustedUpdate = matchStorage.updateScore(match.id(), 2, 0);
+
+        // THEN
+        assertTrue(lastUpdate);
+        assertFalse(exhaustedUpdate);
+        FootballMatch storedMatch = matchStorage.getMatch(match.id());
+        assertEquals(MatchSlot.MAX_VERSION, storedMatch.version());
+        assertEquals(new MatchScore(1, 0), storedMatch.matchScore());
+        assertTrue(matchStorage.compareAndSetMatch(storedMatch, storedMatch).isEmpty());
+        assertThrows(MatchStorageException.class, () -> matchStorage.updateMatch(storedMatch));
+    }
+
+    @Test
+    void saveMatch_versionOutOfRange() {
+        // GIVEN
+        FootballMatch match = footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.now())
+                .toBuilder()
+                .version(MatchSlot.MAX_VERSION + 1)
+                .build();
+
+        // WHEN / THEN
+        assertThrows(MatchStorageException.class, () -> matchStorage.saveMatch(match));
+        assertEquals(1L, matchStorage.nextId());
+    }
+
+    @Test
+    void compareAndSetMatch_versionNotMasked() {
+        // GIVEN
+        FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.now()));
+        FootballMatch wrappedExpected = match.toBuilder()
+                .version(match.version() + MatchSlot.MAX_VERSION + 1)
+                .build();
+
+        // WHEN
+        Optional<FootballMatch> result = matchStorage.compareAndSetMatch(wrappedExpected, footballMatchFactory.updateMatchScore(match, new MatchScore(1, 0)));
+
+        // THEN
+        assertTrue(result.isEmpty());
+        assertEquals(match, matchStorage.getMatch(match.id()));
+    }
+
+    @Test
+    void updateMatch_rejectsNonScoreChanges() {
+        // GIVEN
+        FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.now()));
+        FootballMatch renamed = match.toBuilder()
+                .homeTeam("Brazil")
+                .build();
+        FootballMatch moved = match.toBuilder()
+                .startTime(match.startTime().minusHours(1))
+                .build();
+
+        // WHEN / THEN
+        assertThrows(MatchStorageException.class, () -> matchStorage.updateMatch(renamed));
+        assertThrows(MatchStorageException.class, () -> matchStorage.compareAndSetMatch(match, moved));
+        assertEquals(match, matchStorage.getMatch(match.id()));
+    }
+
+    @Test
+    void compareAndSetMatch_finishMatch() {
+        // GIVEN
+        LocalDateTime startTime = LocalDateTime.now();
+        FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, startTime));
+        matchStorage.updateScore(match.id(), 1, 1);
+        FootballMatch current = matchStorage.getMatch(match.id());
+
+        // WHEN
+        Optional<FootballMatch> finishedMatch = matchStorage.compareAndSetMatch(current, footballMatchFactory.finishMatch(current, startTime.plusMinutes(90)));
+
+        // THEN
+        assertTrue(finishedMatch.isPresent());
+        assertEquals(startTime.plusMinutes(90), matchStorage.getMatch(match.id()).endTime());
+        assertEquals(new MatchScore(1, 1), matchStorage.getMatch(match.id()).matchScore());
+        assertEquals(0, matchStorage.getAllMatchesInProgress().size());
+        assertEquals(1, matchStorage.getAllMatches().size());
+    }
+
+    @Test
+    void compareAndSetMatch_staleVersion() {
+        // GIVEN
+        FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.now()));
+        matchStorage.updateScore(match.id(), 0, 1);
+
+        // WHEN
+        Optional<FootballMatch> storedMatch = matchStorage.compareAndSetMatch(match, footballMatchFactory.updateMatchScore(match, new MatchScore(1, 0)));
+
+        // THEN
+        assertTrue(storedMatch.isEmpty());
+        assertEquals(new MatchScore(0, 1), matchStorage.getMatch(match.id()).matchScore());
+    }
+
+    @Test
+    void getMatch_notExist() {
+        // WHEN
+        MatchStorageException exception = assertThrows(MatchStorageException.class, () -> matchStorage.getMatch(7L));
+
+        // THEN
+        assertEquals("There is no match with id=7", exception.getMessage());
+    }
+
+    @Test
+    void tryCompareAndSetMatch_rejectedWithoutException() {
+        // GIVEN
+        FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.now()));
+        matchStorage.updateScore(match.id(), 0, 1);
+        FootballMatch unknownMatch = match.toBuilder().id(7L).build();
+
+        // WHEN
+        MatchResult result = matchStorage.tryCompareAndSetMatch(match, footballMatchFactory.updateMatchScore(match, new MatchScore(1, 0)));
+
+        // THEN
+        assertEquals(MatchResult.rejected(UpdateStatus.CONFLICT), result);
+        assertEquals(MatchResult.rejected(UpdateStatus.NOT_FOUND), matchStorage.tryCompareAndSetMatch(unknownMatch, unknownMatch));
+        assertEquals(MatchResult.rejected(UpdateStatus.NOT_FOUND), matchStorage.findMatch(7L));
+        assertEquals(MatchResult.success(matchStorage.getMatch(match.id())), matchStorage.findMatch(match.id()));
+    }
+
+    @Test
+    void removeMatch_successfully() {
+        // GIVEN
+        FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch(HOME_TEAM, AWAY_TEAM, LocalDateTime.now()));
+
+        // WHEN
+        FootballMatch removedMatch = matchStorage.removeMatch(match.id());
+
+        // THEN
+        assertEquals(match, removedMatch);
+        assertThrows(MatchStorageException.class, () -> matchStorage.getMatch(match.id()));
+        assertEquals(List.of(), matchStorage.getAllMatchesInProgress());
+        assertEquals(List.of(), matchStorage.getAllMatchesOfTeam(HOME_TEAM));
+        assertThrows(MatchStorageException.class, () -> matchStorage.removeMatch(match.id()));
+    }
+
+    @Test
+    void secondaryIndexes_inProgressFinishedAndTeam() {
+        // GIVEN
+        LocalDateTime startTime = LocalDateTime.now();
+        FootballMatch spainBrazil = matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", startTime));
+        FootballMatch brazilItaly = matchStorage.saveMatch(footballMatchFactory.createMatch("Brazil", "Italy", startTime));
+        FootballMatch mexicoCanada = matchStorage.saveMatch(footballMatchFactory.createMatch("Mexico", "Canada", startTime));
+
+        // WHEN
+        FootballMatch finishedMatch = matchStorage.compareAndSetMatch(spainBrazil,
+                footballMatchFactory.finishMatch(spainBrazil, startTime.plusMinutes(90))).orElseThrow();
+
+        // THEN
+        assertEquals(Set.of(brazilItaly.id(), mexicoCanada.id()), ids(matchStorage.getAllMatchesInProgress()));
+        assertEquals(List.of(finishedMatch), matchStorage.getAllFinishedMatches());
+        assertEquals(Set.of(spainBrazil.id(), brazilItaly.id()), ids(matchStorage.getAllMatchesOfTeam("Brazil")));
+        assertEquals(List.of(), matchStorage.getAllMatchesOfTeam("Germany"));
+    }
+
+    @Test
+    void streamMatches_parallelScanMatchesSequential() {
+        // GIVEN
+        LocalDateTime startTime = LocalDateTime.now();
+        for (int i = 0; i < 1_000; i++) {
+            FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch("Home" + i, "Away" + i, startTime));
+            matchStorage.updateScore(match.id(), i % 4, i % 3);
+        }
+        MatchQuery query = MatchQuery.all().withTotalScoreBetween(3, 3);
+
+        // WHEN
+        Set<Long> parallelIds = matchStorage.streamMatches(query)
+                .parallel()
+                .map(FootballMatch::id)
+                .collect(Collectors.toSet());
+
+        // THEN
+        assertEquals(ids(matchStorage.getAllMatches().stream().filter(query::matches).toList()), parallelIds);
+        assertEquals(5, matchStorage.streamMatches(MatchQuery.all()).limit(5).count());
+    }
+
+    private Set<Long> ids(List<FootballMatch> matches) {
+        return matches.stream()
+                .map(FootballMatch::id)
+                .collect(Collectors.toSet());
+    }
+}
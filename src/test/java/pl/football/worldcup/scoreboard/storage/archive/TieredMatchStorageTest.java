@@ -0,0 +1,167 @@
+package pl.football.worldcup.scoreboard.storage.archive;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pl.football.worldcup.scoreboard.FootballMatchFactory;
+import pl.football.worldcup.scoreboard.MatchFactory;
+import pl.football.worldcup.scoreboard.exception.MatchStorageException;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchResult;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.model.UpdateStatus;
+import pl.football.worldcup.scoreboard.storage.ConcurrentInMemoryStorage;
+import pl.football.worldcup.scoreboard.storage.MatchQuery;
+import pl.football.worldcup.scoreboard.storage.MatchStorage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TieredMatchStorageTest {
+
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2024, 9, 1, 1, 1, 1, 123_000_000);
+
+    @TempDir
+    Path directory;
+
+    private MatchFactory footballMatchFactory;
+
+    @BeforeEach
+    void resetState() {
+        footballMatchFactory = new FootballMatchFactory();
+    }
+
+    @Test
+    void finishMatch_movesMatchToArchive() {
+        // GIVEN
+        MatchStorage liveStorage = new ConcurrentInMemoryStorage();
+        try (TieredMatchStorage matchStorage = new TieredMatchStorage(liveStorage, new MatchArchive(directory))) {
+            FootballMatch spainBrazil = matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", START_TIME));
+            FootballMatch mexicoCanada = matchStorage.saveMatch(footballMatchFactory.createMatch("Mexico", "Canada", START_TIME));
+            matchStorage.updateScore(spainBrazil.id(), 10, 2);
+            spainBrazil = matchStorage.getMatch(spainBrazil.id());
+
+            // WHEN
+            FootballMatch finishedMatch = matchStorage.compareAndSetMatch(spainBrazil,
+                    footballMatchFactory.finishMatch(spainBrazil, START_TIME.plusMinutes(90))).orElseThrow();
+
+            // THEN
+            assertEquals(List.of(mexicoCanada), liveStorage.getAllMatches());
+            assertEquals(finishedMatch, matchStorage.getMatch(spainBrazil.id()));
+            assertEquals(List.of(mexicoCanada), matchStorage.getAllMatchesInProgress());
+            assertEquals(List.of(finishedMatch), matchStorage.getAllFinishedMatches());
+            assertEquals(List.of(mexicoCanada, finishedMatch), matchStorage.getAllMatches());
+            assertEquals(List.of(finishedMatch), matchStorage.getAllMatchesOfTeam("Brazil"));
+            assertEquals(Set.of(spainBrazil.id(), mexicoCanada.id()), matchStorage.getMatches(List.of(spainBrazil.id(), mexicoCanada.id(), 7L)).keySet());
+        }
+    }
+
+    @Test
+    void updateMatch_archivedMatchIsReadOnly() {
+        // GIVEN
+        try (TieredMatchStorage matchStorage = new TieredMatchStorage(new ConcurrentInMemoryStorage(), new MatchArchive(directory))) {
+            FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", START_TIME));
+            FootballMatch finishedMatch = matchStorage.updateMatch(footballMatchFactory.finishMatch(match, START_TIME.plusMinutes(90)));
+
+            // WHEN
+            MatchStorageException exception = assertThrows(MatchStorageException.class,
+                    () -> matchStorage.updateMatch(footballMatchFactory.updateMatchScore(finishedMatch, new MatchScore(1, 1))));
+
+            // THEN
+            assertEquals("Match with id=1 is archived and can not be changed", exception.getMessage());
+            assertFalse(matchStorage.updateScore(finishedMatch.id(), 1, 1));
+            assertEquals(finishedMatch, matchStorage.getMatch(finishedMatch.id()));
+        }
+    }
+
+    @Test
+    void tryCompareAndSetMatch_archivedMatchIsRejectedWithoutThrowing() {
+        // GIVEN
+        try (TieredMatchStorage matchStorage = new TieredMatchStorage(new ConcurrentInMemoryStorage(), new MatchArchive(directory))) {
+            FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", START_TIME));
+            FootballMatch finishedMatch = matchStorage.updateMatch(footballMatchFactory.finishMatch(match, START_TIME.plusMinutes(90)));
+
+            // WHEN
+            MatchResult result = matchStorage.tryCompareAndSetMatch(finishedMatch,
+                    footballMatchFactory.updateMatchScore(finishedMatch, new MatchScore(1, 1)));
+
+            // THEN
+            assertEquals(MatchResult.rejected(UpdateStatus.ALREADY_FINISHED), result);
+            assertEquals(MatchResult.rejected(UpdateStatus.ALREADY_FINISHED), matchStorage.tryUpdateScore(finishedMatch.id(), 1, 1));
+            assertEquals(MatchResult.success(finishedMatch), matchStorage.findMatch(finishedMatch.id()));
+            assertEquals(MatchResult.rejected(UpdateStatus.NOT_FOUND), matchStorage.findMatch(7L));
+        }
+    }
+
+    @Test
+    void reopen_keepsArchivedMatchesAndIdSequence() {
+        // GIVEN
+        List<FootballMatch> finishedMatches;
+        try (TieredMatchStorage matchStorage = new TieredMatchStorage(new ConcurrentInMemoryStorage(), new MatchArchive(directory))) {
+            for (int i = 0; i < 100; i++) {
+                FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch("Home" + i % 8, "Away" + i % 5, START_TIME.plusSeconds(i)));
+                matchStorage.updateMatch(footballMatchFactory.finishMatch(footballMatchFactory.updateMatchScore(match, new MatchScore(i, 1)),
+                        START_TIME.plusMinutes(90)));
+            }
+            finishedMatches = List.copyOf(matchStorage.getAllFinishedMatches());
+        }
+
+        // WHEN
+        try (TieredMatchStorage matchStorage = new TieredMatchStorage(new ConcurrentInMemoryStorage(), new MatchArchive(directory))) {
+
+            // THEN
+            assertEquals(finishedMatches, matchStorage.getAllMatches());
+            assertEquals(20, matchStorage.getAllMatchesOfTeam("Away3").size());
+            FootballMatch newMatch = matchStorage.saveMatch(footballMatchFactory.createMatch("Germany", "France", START_TIME));
+            assertEquals(101L, newMatch.id());
+        }
+    }
+
+    @Test
+    void saveMatch_finishedMatchGoesStraightToArchive() {
+        // GIVEN
+        MatchStorage liveStorage = new ConcurrentInMemoryStorage();
+        FootballMatch match = footballMatchFactory.createMatch("Spain", "Brazil", START_TIME);
+        try (TieredMatchStorage matchStorage = new TieredMatchStorage(liveStorage, new MatchArchive(directory))) {
+
+            // WHEN
+            FootballMatch storedMatch = matchStorage.saveMatch(footballMatchFactory.finishMatch(match, START_TIME.plusMinutes(90)));
+
+            // THEN
+            assertEquals(List.of(), liveStorage.getAllMatches());
+            assertEquals(storedMatch, matchStorage.getMatch(storedMatch.id()));
+            assertThrows(MatchStorageException.class, () -> matchStorage.saveMatch(storedMatch));
+        }
+    }
+
+    @Test
+    void streamMatches_coversBothTiers() {
+        // GIVEN
+        MatchStorage liveStorage = new ConcurrentInMemoryStorage();
+        try (TieredMatchStorage matchStorage = new TieredMatchStorage(liveStorage, new MatchArchive(directory))) {
+            FootballMatch spainBrazil = matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", START_TIME));
+            FootballMatch brazilItaly = matchStorage.saveMatch(footballMatchFactory.createMatch("Brazil", "Italy", START_TIME.plusHours(3)));
+            matchStorage.updateScore(spainBrazil.id(), 2, 1);
+            spainBrazil = matchStorage.getMatch(spainBrazil.id());
+            FootballMatch finishedMatch = matchStorage.compareAndSetMatch(spainBrazil,
+                    footballMatchFactory.finishMatch(spainBrazil, START_TIME.plusMinutes(90))).orElseThrow();
+
+            // WHEN
+            List<FootballMatch> brazilMatches = matchStorage.streamMatches(MatchQuery.all().withTeam("Brazil")).toList();
+
+            // THEN
+            assertEquals(List.of(brazilItaly, finishedMatch), brazilMatches);
+            assertEquals(List.of(finishedMatch), matchStorage.streamMatches(MatchQuery.all().withTotalScoreBetween(3, 3)).toList());
+            assertEquals(List.of(finishedMatch), matchStorage.streamMatches(MatchQuery.all()
+                    .withStartTimeBetween(START_TIME, START_TIME.plusHours(1))).toList());
+            assertEquals(List.of(brazilItaly), matchStorage.streamMatches(MatchQuery.all().withStatus(MatchQuery.Status.IN_PROGRESS)).toList());
+            assertEquals(List.of(), matchStorage.streamMatches(MatchQuery.all().withTeam("Germany")).toList());
+        }
+    }
+}
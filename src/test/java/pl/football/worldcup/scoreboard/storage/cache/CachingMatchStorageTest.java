@@ -0,0 +1,275 @@
+package pl.football.worldcup.scoreboard.storage.cache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.football.worldcup.scoreboard.FootballMatchFactory;
+import pl.football.worldcup.scoreboard.FootballWorldCupScoreBoard;
+import pl.football.worldcup.scoreboard.MatchFactory;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchResult;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.model.UpdateStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachingMatchStorageTest {
+
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2024, 9, 1, 1, 1, 1);
+    private static final Duration LATENCY = Duration.ofMillis(1);
+
+    private MatchFactory footballMatchFactory;
+    private LatencyInjectingMatchStorage remoteStorage;
+
+    @BeforeEach
+    void resetState() {
+        footballMatchFactory = new FootballMatchFactory();
+        remoteStorage = new LatencyInjectingMatchStorage(LATENCY);
+    }
+
+    @Test
+    void getMatch_writeThroughThenServedFromCache() {
+        // GIVEN
+        CachingMatchStorage matchStorage = new CachingMatchStorage(remoteStorage);
+        FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", START_TIME));
+
+        // WHEN
+        for (int i = 0; i < 3; i++) {
+            assertEquals(match, matchStorage.getMatch(match.id()));
+        }
+
+        // THEN
+        assertEquals(1, remoteStorage.calls());
+        assertEquals(new CacheStats(3, 0, 0, 1), matchStorage.getStats());
+    }
+
+    @Test
+    void saveMatch_evictsLeastRecentlyUsed() {
+        // GIVEN
+        CachingMatchStorage matchStorage = new CachingMatchStorage(remoteStorage, CacheOptions.of(2));
+        FootballMatch spainBrazil = matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", START_TIME));
+        FootballMatch mexicoCanada = matchStorage.saveMatch(footballMatchFactory.createMatch("Mexico", "Canada", START_TIME));
+        matchStorage.getMatch(spainBrazil.id());
+
+        // WHEN
+        matchStorage.saveMatch(footballMatchFactory.createMatch("Germany", "France", START_TIME));
+
+        // THEN
+        int callsBefore = remoteStorage.calls();
+        assertEquals(spainBrazil, matchStorage.getMatch(spainBrazil.id()));
+        assertEquals(callsBefore, remoteStorage.calls());
+        assertEquals(mexicoCanada, matchStorage.getMatch(mexicoCanada.id()));
+        assertEquals(callsBefore + 1, remoteStorage.calls());
+        assertEquals(2, matchStorage.getStats().evictions());
+        assertEquals(2, matchStorage.getStats().size());
+    }
+
+    @Test
+    void getMatch_reloadsExpiredMatch() {
+        // GIVEN
+        AtomicLong clock = new AtomicLong();
+        CachingMatchStorage matchStorage = new CachingMatchStorage(remoteStorage,
+                CacheOptions.defaults().withExpireAfterWrite(Duration.ofSeconds(10)), clock::get);
+        FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", START_TIME));
+        matchStorage.getMatch(match.id());
+
+        // WHEN
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+        matchStorage.getMatch(match.id());
+        matchStorage.getMatch(match.id());
+
+        // THEN
+        assertEquals(new CacheStats(2, 1, 0, 1), matchStorage.getStats());
+        assertEquals(2, remoteStorage.calls());
+    }
+
+    @Test
+    void compareAndSetMatch_staleVersionDropsCachedMatch() {
+        // GIVEN
+        CachingMatchStorage matchStorage = new CachingMatchStorage(remoteStorage);
+        FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", START_TIME));
+        matchStorage.updateScore(match.id(), 1, 0);
+
+        // WHEN
+        boolean stored = matchStorage.compareAndSetMatch(match, footballMatchFactory.updateMatchScore(match, new MatchScore(2, 0))).isPresent();
+
+        // THEN
+        FootballMatch current = matchStorage.getMatch(match.id());
+        assertFalse(stored);
+        assertEquals(new MatchScore(1, 0), current.matchScore());
+        assertEquals(current, matchStorage.getMatches(List.of(match.id(), 99L)).get(match.id()));
+    }
+
+    @Test
+    void tryCompareAndSetMatch_matchRemovedBeforeWriteIsNotFound() {
+        // GIVEN
+        LatencyInjectingMatchStorage racingStorage = new LatencyInjectingMatchStorage(Duration.ZERO) {
+            @Override
+            public Optional<FootballMatch> compareAndSetMatch(FootballMatch expected, FootballMatch updated) {
+                removeMatch(expected.id());
+                return super.compareAndSetMatch(expected, updated);
+            }
+        };
+        CachingMatchStorage matchStorage = new CachingMatchStorage(racingStorage);
+        FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", START_TIME));
+
+        // WHEN
+        MatchResult result = matchStorage.tryCompareAndSetMatch(match, footballMatchFactory.updateMatchScore(match, new MatchScore(1, 0)));
+
+        // THEN
+        assertEquals(MatchResult.rejected(UpdateStatus.NOT_FOUND), result);
+        assertEquals(MatchResult.rejected(UpdateStatus.NOT_FOUND), matchStorage.findMatch(match.id()));
+    }
+
+    @Test
+    void scoreBoard_updatesCallRemoteStorageLessOften() {
+        // GIVEN
+        LatencyInjectingMatchStorage uncachedStorage = new LatencyInjectingMatchStorage(LATENCY);
+        FootballWorldCupScoreBoard uncachedBoard = new FootballWorldCupScoreBoard(uncachedStorage);
+        FootballWorldCupScoreBoard cachedBoard = new FootballWorldCupScoreBoard(new CachingMatchStorage(remoteStorage));
+        Long uncachedId = uncachedBoard.createMatch("Spain", "Brazil", START_TIME);
+        Long cachedId = cachedBoard.createMatch("Spain", "Brazil", START_TIME);
+        int uncachedCallsBefore = uncachedStorage.calls();
+        int cachedCallsBefore = remoteStorage.calls();
+
+        // WHEN
+        for (int goal = 1; goal <= 10; goal++) {
+            uncachedBoard.updateMatch(uncachedId, new MatchScore(goal, 0));
+            cachedBoard.updateMatch(cachedId, new MatchScore(goal, 0));
+        }
+
+        // THEN
+        int uncachedCalls = uncachedStorage.calls() - uncachedCallsBefore;
+        int cachedCalls = remoteStorage.calls() - cachedCallsBefore;
+        assertTrue(cachedCalls < uncachedCalls, cachedCalls + " remote calls with cache, " + uncachedCalls + " without");
+        assertEquals(new MatchScore(10, 0), cachedBoard.getTopMatches(1).get(0).matchScore());
+    }
+
+    @Test
+    void getMatch_loadRacingWithScoreUpdateDoesNotCacheStaleMatch() throws Exception {
+        // GIVEN
+        SlowFirstReadStorage racingStorage = new SlowFirstReadStorage();
+        CachingMatchStorage matchStorage = new CachingMatchStorage(racingStorage);
+        FootballMatch match = racingStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", START_TIME));
+        CompletableFuture<FootballMatch> load = CompletableFuture.supplyAsync(() -> matchStorage.getMatch(match.id()));
+        racingStorage.loaded.await();
+
+        // WHEN
+        boolean updated = matchStorage.updateScore(match.id(), 1, 0);
+        racingStorage.release.countDown();
+        FootballMatch loaded = load.get();
+
+        // THEN
+        assertTrue(updated);
+        assertEquals(new MatchScore(0, 0), loaded.matchScore());
+        assertEquals(new MatchScore(1, 0), matchStorage.getMatch(match.id()).matchScore());
+    }
+
+    @Test
+    void findMatch_loadRacingWithRemovalDoesNotCacheRemovedMatch() throws Exception {
+        // GIVEN
+        SlowFirstReadStorage racingStorage = new SlowFirstReadStorage();
+        CachingMatchStorage matchStorage = new CachingMatchStorage(racingStorage);
+        FootballMatch match = racingStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", START_TIME));
+        CompletableFuture<MatchResult> load = CompletableFuture.supplyAsync(() -> matchStorage.findMatch(match.id()));
+        racingStorage.loaded.await();
+
+        // WHEN
+        matchStorage.removeMatch(match.id());
+        racingStorage.release.countDown();
+        load.get();
+
+        // THEN
+        assertEquals(MatchResult.rejected(UpdateStatus.NOT_FOUND), matchStorage.findMatch(match.id()));
+        assertTrue(matchStorage.getMatches(List.of(match.id())).isEmpty());
+    }
+
+    @Test
+    void getMatch_evictionOfOtherMatchDoesNotFenceLoad() throws Exception {
+        // GIVEN
+        SlowFirstReadStorage racingStorage = new SlowFirstReadStorage();
+        CachingMatchStorage matchStorage = new CachingMatchStorage(racingStorage, CacheOptions.of(1));
+        matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", START_TIME));
+        FootballMatch mexicoCanada = racingStorage.saveMatch(footballMatchFactory.createMatch("Mexico", "Canada", START_TIME));
+        CompletableFuture<FootballMatch> load = CompletableFuture.supplyAsync(() -> matchStorage.getMatch(mexicoCanada.id()));
+        racingStorage.loaded.await();
+
+        // WHEN
+        matchStorage.saveMatch(footballMatchFactory.createMatch("Germany", "France", START_TIME));
+        racingStorage.release.countDown();
+        load.get();
+
+        // THEN
+        int callsBefore = racingStorage.calls();
+        assertEquals(mexicoCanada, matchStorage.getMatch(mexicoCanada.id()));
+        assertEquals(callsBefore, racingStorage.calls());
+        assertEquals(2, matchStorage.getStats().evictions());
+    }
+
+    @Test
+    void tryUpdateScore_cachesStoredMatch() {
+        // GIVEN
+        CachingMatchStorage matchStorage = new CachingMatchStorage(remoteStorage);
+        FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", START_TIME));
+
+        // WHEN
+        MatchResult result = matchStorage.tryUpdateScore(match.id(), 2, 1);
+        int callsAfterUpdate = remoteStorage.calls();
+        FootballMatch current = matchStorage.getMatch(match.id());
+
+        // THEN
+        assertEquals(result, MatchResult.success(current));
+        assertEquals(new MatchScore(2, 1), current.matchScore());
+        assertEquals(callsAfterUpdate, remoteStorage.calls());
+    }
+
+    /**
+     * Holds its first single-match read after loading the match, until the test releases it.
+     */
+    private static final class SlowFirstReadStorage extends LatencyInjectingMatchStorage {
+
+        private final CountDownLatch loaded = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicBoolean first = new AtomicBoolean(true);
+
+        private SlowFirstReadStorage() {
+            super(Duration.ZERO);
+        }
+
+        @Override
+        public FootballMatch getMatch(Long id) {
+            return hold(super.getMatch(id));
+        }
+
+        @Override
+        public Map<Long, FootballMatch> getMatches(Collection<Long> ids) {
+            Map<Long, FootballMatch> matches = super.getMatches(ids);
+            hold(null);
+            return matches;
+        }
+
+        private FootballMatch hold(FootballMatch match) {
+            if (first.compareAndSet(true, false)) {
+                loaded.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return match;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package pl.football.worldcup.scoreboard.storage.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.storage.ConcurrentInMemoryStorage;
+import pl.football.worldcup.scoreboard.storage.MatchStorage;
+
+/**
+ * In-process stand-in for a remote storage: every call is delayed by a fixed latency and counted.
+ */
+class LatencyInjectingMatchStorage implements MatchStorage {
+
+    private final MatchStorage delegate = new ConcurrentInMemoryStorage();
+    private final long latencyNanos;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    LatencyInjectingMatchStorage(Duration latency) {
+        this.latencyNanos = latency.toNanos();
+    }
+
+    int calls() {
+        return calls.get();
+    }
+
+    @Override
+    public FootballMatch saveMatch(FootballMatch match) {
+        delay();
+        return delegate.saveMatch(match);
+    }
+
+    @Override
+    public FootballMatch updateMatch(FootballMatch match) {
+        delay();
+        return delegate.updateMatch(match);
+    }
+
+    @Override
+    public Optional<FootballMatch> compareAndSetMatch(FootballMatch expected, FootballMatch updated) {
+        delay();
+        return delegate.compareAndSetMatch(expected, updated);
+    }
+
+    @Override
+    public boolean updateScore(long id, int homeScore, int awayScore) {
+        delay();
+        return delegate.updateScore(id, homeScore, awayScore);
+    }
+
+    @Override
+    public FootballMatch getMatch(Long id) {
+        delay();
+        return delegate.getMatch(id);
+    }
+
+    @Override
+    public FootballMatch removeMatch(Long id) {
+        delay();
+        return delegate.removeMatch(id);
+    }
+
+    @Override
+    public Map<Long, FootballMatch> getMatches(Collection<Long> ids) {
+        delay();
+        return delegate.getMatches(ids);
+    }
+
+    @Override
+    public List<FootballMatch> getAllMatches() {
+        delay();
+        return delegate.getAllMatches();
+    }
+
+    @Override
+    public List<FootballMatch> getAllMatchesInProgress() {
+        delay();
+        return delegate.getAllMatchesInProgress();
+    }
+
+    @Override
+    public List<FootballMatch> getAllFinishedMatches() {
+        delay();
+        return delegate.getAllFinishedMatches();
+    }
+
+    @Override
+    public List<FootballMatch> getAllMatchesOfTeam(String teamName) {
+        delay();
+        return delegate.getAllMatchesOfTeam(teamName);
+    }
+
+    private void delay() {
+        calls.incrementAndGet();
+        long deadline = System.nanoTime() + latencyNanos;
+        for (long remaining = latencyNanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(1)));
+        }
+    }
+}
@@ -0,0 +1,415 @@
+package pl.football.worldcup.scoreboard.storage.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pl.football.worldcup.scoreboard.FootballMatchFactory;
+import pl.football.worldcup.scoreboard.MatchFactory;
+import pl.football.worldcup.scoreboard.exception.MatchStorageException;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+import pl.football.worldcup.scoreboard.storage.ConcurrentInMemoryStorage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JournaledMatchStorageTest {
+
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2024, 9, 1, 1, 1, 1, 123_000_000);
+
+    @TempDir
+    Path directory;
+
+    private MatchFactory footballMatchFactory;
+
+    @BeforeEach
+    void resetState() {
+        footballMatchFactory = new FootballMatchFactory();
+    }
+
+    @Test
+    void recover_restoresMatchesVersionsAndIdSequence() {
+        // GIVEN
+        List<FootballMatch> storedMatches;
+        try (JournaledMatchStorage matchStorage = open(FsyncPolicy.EVERY_WRITE)) {
+            FootballMatch mexico = matchStorage.saveMatch(footballMatchFactory.createMatch("Mexico", "Canada", START_TIME));
+            FootballMatch spain = matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", START_TIME.plusSeconds(1)));
+            matchStorage.updateScore(mexico.id(), 0, 5);
+            FootballMatch current = matchStorage.getMatch(spain.id());
+            matchStorage.compareAndSetMatch(current, footballMatchFactory.updateMatchScore(current, new MatchScore(10, 2)));
+            current = matchStorage.getMatch(spain.id());
+            matchStorage.compareAndSetMatch(current, footballMatchFactory.finishMatch(current, START_TIME.plusMinutes(90)));
+            storedMatches = sorted(matchStorage.getAllMatches());
+        }
+
+        // WHEN
+        try (JournaledMatchStorage recoveredStorage = open(FsyncPolicy.EVERY_WRITE)) {
+
+            // THEN
+            assertEquals(storedMatches, sorted(recoveredStorage.getAllMatches()));
+            assertEquals(1, recoveredStorage.getAllMatchesInProgress().size());
+            FootballMatch newMatch = recoveredStorage.saveMatch(footballMatchFactory.createMatch("Germany", "France", START_TIME));
+            assertEquals(3L, newMatch.id());
+        }
+    }
+
+    @Test
+    void recover_replaysRemovedMatch() {
+        // GIVEN
+        FootballMatch mexico;
+        try (JournaledMatchStorage matchStorage = open(FsyncPolicy.EVERY_WRITE)) {
+            mexico = matchStorage.saveMatch(footballMatchFactory.createMatch("Mexico", "Canada", START_TIME));
+            FootballMatch spain = matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", START_TIME));
+            matchStorage.removeMatch(spain.id());
+        }
+
+        // WHEN
+        try (JournaledMatchStorage recoveredStorage = open(FsyncPolicy.EVERY_WRITE)) {
+
+            // THEN
+            assertEquals(List.of(mexico), recoveredStorage.getAllMatches());
+        }
+    }
+
+    @Test
+    void recover_fromSnapshotAndNewerJournal() throws IOException {
+        // GIVEN
+        List<FootballMatch> storedMatches;
+        try (JournaledMatchStorage matchStorage = new JournaledMatchStorage(new ConcurrentInMemoryStorage(),
+                JournalOptions.of(directory, FsyncPolicy.NEVER).withSnapshotEvery(10))) {
+            for (int i = 0; i < 25; i++) {
+                FootballMatch match = matchStorage.saveMatch(footballMatchFactory.createMatch("Home" + i, "Away" + i, START_TIME.plusSeconds(i)));
+                matchStorage.updateScore(match.id(), i, 1);
+            }
+            storedMatches = sorted(matchStorage.getAllMatches());
+        }
+
+        // WHEN
+        try (JournaledMatchStorage recoveredStorage = open(FsyncPolicy.NEVER)) {
+
+            // THEN
+            assertEquals(storedMatches, sorted(recoveredStorage.getAllMatches()));
+            assertEquals(1, countFiles("snapshot-"));
+            assertEquals(1, countFiles("journal-"));
+        }
+    }
+
+    @Test
+    void recover_truncatesTornTail() throws IOException {
+        // GIVEN
+        try (JournaledMatchStorage matchStorage = open(FsyncPolicy.GROUP_COMMIT)) {
+            matchStorage.saveMatch(footballMatchFactory.createMatch("Mexico", "Canada", START_TIME));
+        }
+        Path journalFile;
+        try (Stream<Path> files = Files.list(directory)) {
+            journalFile = files.filter(file -> file.getFileName().toString().startsWith("journal-")).findFirst().orElseThrow();
+        }
+        Files.write(journalFile, new byte[]{0, 0, 0, 42, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        // WHEN
+        try (JournaledMatchStorage recoveredStorage = open(FsyncPolicy.GROUP_COMMIT)) {
+            recoveredStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", START_TIME));
+        }
+
+        // THEN
+        try (JournaledMatchStorage recoveredStorage = open(FsyncPolicy.GROUP_COMMIT)) {
+            assertEquals(2, recoveredStorage.getAllMatches().size());
+        }
+    }
+
+    @Test
+    void recover_keepsIdSequenceOfRemovedMatchesInSnapshot() {
+        // GIVEN
+        try (JournaledMatchStorage matchStorage = open(FsyncPolicy.EVERY_WRITE)) {
+            matchStorage.saveMatch(footballMatchFactory.createMatch("Mexico", "Canada", START_TIME));
+            FootballMatch spain = matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", START_TIME));
+            matchStorage.removeMatch(spain.id());
+            matchStorage.snapshot();
+        }
+
+        // WHEN
+        try (JournaledMatchStorage recoveredStorage = open(FsyncPolicy.EVERY_WRITE)) {
+
+            // THEN
+            assertEquals(3L, recoveredStorage.nextId());
+            assertEquals(3L, recoveredStorage.saveMatch(footballMatchFactory.createMatch("Germany", "France", START_TIME)).id());
+        }
+    }
+
+    @Test
+    void recover_keepsEveryFieldOfUpdatedMatch() {
+        // GIVEN
+        FootballMatch renamed;
+        try (JournaledMatchStorage matchStorage = open(FsyncPolicy.EVERY_WRITE)) {
+            FootballMatch mexico = matchStorage.saveMatch(footballMatchFactory.createMatch("Mexico", "Canada", START_TIME));
+            matchStorage.updateMatch(mexico.toBuilder()
+                    .awayTeam("Brazil")
+                    .startTime(START_TIME.plusHours(1))
+                    .build());
+            FootballMatch current = matchStorage.getMatch(mexico.id());
+            renamed = matchStorage.compareAndSetMatch(current, current.toBuilder()
+                    .homeTeam("Spain")
+                    .build()).orElseThrow();
+        }
+
+        // WHEN
+        try (JournaledMatchStorage recoveredStorage = open(FsyncPolicy.EVERY_WRITE)) {
+
+            // THEN
+            assertEquals(List.of(renamed), recoveredStorage.getAllMatches());
+        }
+    }
+
+    @Test
+    void write_failedAppendLeavesMemoryUnchanged() {
+        // GIVEN
+        String tooLongName = "A".repeat(0x10000);
+        try (JournaledMatchStorage matchStorage = open(FsyncPolicy.EVERY_WRITE)) {
+            FootballMatch mexico = matchStorage.saveMatch(footballMatchFactory.createMatch("Mexico", "Canada", START_TIME));
+            FootballMatch renamed = mexico.toBuilder()
+                    .homeTeam(tooLongName)
+                    .build();
+
+            // WHEN
+            assertThrows(MatchStorageException.class, () -> matchStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", START_TIME)
+                    .toBuilder()
+                    .homeTeam(tooLongName)
+                    .build()));
+            assertThrows(MatchStorageException.class, () -> matchStorage.updateMatch(renamed));
+
+            // THEN
+            assertEquals(List.of(mexico), matchStorage.getAllMatches());
+            assertEquals(List.of(mexico), matchStorage.getAllMatchesOfTeam("Mexico"));
+        }
+    }
+
+    @Test
+    void write_failedWriteAndForceAreCutFromJournal() {
+        // GIVEN
+        FaultyChannels channels = new FaultyChannels();
+        FootballMatch mexico;
+        FootballMatch storedMatch;
+        try (JournaledMatchStorage matchStorage = new JournaledMatchStorage(new ConcurrentInMemoryStorage(),
+                JournalOptions.of(directory, FsyncPolicy.EVERY_WRITE), channels)) {
+            mexico = matchStorage.saveMatch(footballMatchFactory.createMatch("Mexico", "Canada", START_TIME));
+
+            // WHEN
+            channels.failWrite = true;
+            assertThrows(MatchStorageException.class, () -> matchStorage.updateScore(mexico.id(), 1, 0));
+            channels.failWrite = false;
+            matchStorage.updateScore(mexico.id(), 2, 0);
+            channels.failForce = true;
+            assertThrows(MatchStorageException.class, () -> matchStorage.updateScore(mexico.id(), 3, 0));
+            channels.failForce = false;
+            matchStorage.updateScore(mexico.id(), 4, 0);
+            storedMatch = matchStorage.getMatch(mexico.id());
+        }
+
+        // THEN
+        assertEquals(new MatchScore(4, 0), storedMatch.matchScore());
+        try (JournaledMatchStorage recoveredStorage = open(FsyncPolicy.EVERY_WRITE)) {
+            assertEquals(List.of(storedMatch), recoveredStorage.getAllMatches());
+        }
+    }
+
+    @Test
+    void write_afterCloseLeavesMemoryUnchanged() {
+        // GIVEN
+        JournaledMatchStorage matchStorage = open(FsyncPolicy.EVERY_WRITE);
+        FootballMatch mexico = matchStorage.saveMatch(footballMatchFactory.createMatch("Mexico", "Canada", START_TIME));
+        matchStorage.close();
+
+        // WHEN
+        assertThrows(MatchStorageException.class, () -> matchStorage.updateScore(mexico.id(), 1, 0));
+        assertThrows(MatchStorageException.class, () -> matchStorage.removeMatch(mexico.id()));
+
+        // THEN
+        assertEquals(List.of(mexico), matchStorage.getAllMatches());
+    }
+
+    @Test
+    void groupCommit_concurrentWriters() throws Exception {
+        // GIVEN
+        int threads = 8;
+        int matchesPerThread = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // WHEN
+        try (JournaledMatchStorage matchStorage = open(FsyncPolicy.GROUP_COMMIT)) {
+            for (int thread = 0; thread < threads; thread++) {
+                int threadIndex = thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < matchesPerThread; i++) {
+                        matchStorage.saveMatch(footballMatchFactory.createMatch("Home" + threadIndex, "Away" + i, START_TIME));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // THEN
+        try (JournaledMatchStorage recoveredStorage = open(FsyncPolicy.GROUP_COMMIT)) {
+            assertEquals(threads * matchesPerThread, recoveredStorage.getAllMatches().size());
+            assertTrue(recoveredStorage.getAllMatches().stream().allMatch(match -> match.id() <= threads * matchesPerThread));
+        }
+    }
+
+    private JournaledMatchStorage open(FsyncPolicy fsyncPolicy) {
+        return new JournaledMatchStorage(new ConcurrentInMemoryStorage(), JournalOptions.of(directory, fsyncPolicy));
+    }
+
+    private long countFiles(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(prefix)).count();
+        }
+    }
+
+    private List<FootballMatch> sorted(List<FootballMatch> matches) {
+        return matches.stream()
+                .sorted(Comparator.comparing(FootballMatch::id))
+                .toList();
+    }
+
+    /**
+     * Opens journal channels which, on demand, write half of a record and fail, or fail to force the file.
+     */
+    private static final class FaultyChannels implements JournalWriter.ChannelOpener {
+
+        volatile boolean failWrite;
+        volatile boolean failForce;
+
+        @Override
+        public FileChannel open(Path file) throws IOException {
+            return new FaultyChannel(JournalWriter.FILE_CHANNELS.open(file));
+        }
+
+        private final class FaultyChannel extends FileChannel {
+
+            private final FileChannel channel;
+
+            private FaultyChannel(FileChannel channel) {
+                this.channel = channel;
+            }
+
+            @Override
+            public int write(ByteBuffer source) throws IOException {
+                if (failWrite) {
+                    source.limit(source.position() + source.remaining() / 2);
+                    channel.write(source);
+                    throw new IOException("Simulated write failure");
+                }
+                return channel.write(source);
+            }
+
+            @Override
+            public void force(boolean metaData) throws IOException {
+                if (failForce) {
+                    throw new IOException("Simulated fsync failure");
+                }
+                channel.force(metaData);
+            }
+
+            @Override
+            public int read(ByteBuffer destination) throws IOException {
+                return channel.read(destination);
+            }
+
+            @Override
+            public long read(ByteBuffer[] destinations, int offset, int length) throws IOException {
+                return channel.read(destinations, offset, length);
+            }
+
+            @Override
+            public long write(ByteBuffer[] sources, int offset, int length) throws IOException {
+                return channel.write(sources, offset, length);
+            }
+
+            @Override
+            public long position() throws IOException {
+                return channel.position();
+            }
+
+            @Override
+            public FileChannel position(long newPosition) throws IOException {
+                channel.position(newPosition);
+                return this;
+            }
+
+            @Override
+            public long size() throws IOException {
+                return channel.size();
+            }
+
+            @Override
+            public FileChannel truncate(long size) throws IOException {
+                channel.truncate(size);
+                return this;
+            }
+
+            @Override
+            public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+                return channel.transferTo(position, count, target);
+            }
+
+            @Override
+            public long transferFrom(ReadableByteChannel source, long position, long count) throws IOException {
+                return channel.transferFrom(source, position, count);
+            }
+
+            @Override
+            public int read(ByteBuffer destination, long position) throws IOException {
+                return channel.read(destination, position);
+            }
+
+            @Override
+            public int write(ByteBuffer source, long position) throws IOException {
+                return channel.write(source, position);
+            }
+
+            @Override
+            public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+                return channel.map(mode, position, size);
+            }
+
+            @Override
+            public FileLock lock(long position, long size, boolean shared) throws IOException {
+                return channel.lock(position, size, shared);
+            }
+
+            @Override
+            public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+                return channel.tryLock(position, size, shared);
+            }
+
+            @Override
+            protected void implCloseChannel() throws IOException {
+                channel.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package pl.football.worldcup.scoreboard.storage.snapshot;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.football.worldcup.scoreboard.FootballMatchFactory;
+import pl.football.worldcup.scoreboard.MatchFactory;
+import pl.football.worldcup.scoreboard.exception.MatchStorageException;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.storage.ConcurrentInMemoryStorage;
+import pl.football.worldcup.scoreboard.storage.InMemoryStorage;
+import pl.football.worldcup.scoreboard.storage.MatchStorage;
+import pl.football.worldcup.scoreboard.storage.SlotMatchStorage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StorageSnapshotTest {
+
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2024, 9, 1, 1, 1, 1, 123_456_789);
+
+    private MatchFactory footballMatchFactory;
+    private MatchStorage sourceStorage;
+
+    @BeforeEach
+    void resetState() {
+        footballMatchFactory = new FootballMatchFactory();
+        sourceStorage = new ConcurrentInMemoryStorage();
+    }
+
+    @Test
+    void read_restoresMatchesIdsAndIdCounter() throws IOException {
+        // GIVEN
+        FootballMatch spainBrazil = sourceStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", START_TIME));
+        FootballMatch brazilItaly = sourceStorage.saveMatch(footballMatchFactory.createMatch("Brazil", "Italy", START_TIME.plusHours(2)));
+        sourceStorage.saveMatch(footballMatchFactory.createMatch("England", "Germany", LocalDateTime.of(1966, 7, 30, 15, 0)));
+        FootballMatch mexicoCanada = sourceStorage.saveMatch(footballMatchFactory.createMatch("Mexico", "Canada", START_TIME));
+        sourceStorage.updateScore(brazilItaly.id(), 3, 1);
+        sourceStorage.compareAndSetMatch(spainBrazil, footballMatchFactory.finishMatch(spainBrazil, START_TIME.plusMinutes(95)));
+        sourceStorage.removeMatch(mexicoCanada.id());
+        byte[] snapshot = write(sourceStorage);
+        MatchStorage targetStorage = new InMemoryStorage();
+
+        // WHEN
+        long count = StorageSnapshot.read(Channels.newChannel(new ByteArrayInputStream(snapshot)), targetStorage);
+
+        // THEN
+        assertEquals(3, count);
+        assertEquals(sorted(sourceStorage.getAllMatches()), sorted(targetStorage.getAllMatches()));
+        assertEquals(List.of(sourceStorage.getMatch(spainBrazil.id())), targetStorage.getAllFinishedMatches());
+        assertEquals(mexicoCanada.id() + 1, targetStorage.nextId());
+        assertEquals(mexicoCanada.id() + 1, targetStorage.saveMatch(footballMatchFactory.createMatch("Germany", "France", START_TIME)).id());
+    }
+
+    @Test
+    void read_largeSnapshotSpanningBuffers() throws IOException {
+        // GIVEN
+        for (int i = 0; i < 50_000; i++) {
+            sourceStorage.saveMatch(footballMatchFactory.createMatch("Home" + i % 500, "Away" + i, START_TIME.plusSeconds(i)));
+        }
+        byte[] snapshot = write(sourceStorage);
+        MatchStorage targetStorage = new SlotMatchStorage();
+
+        // WHEN
+        long count = StorageSnapshot.read(Channels.newChannel(new ByteArrayInputStream(snapshot)), targetStorage);
+
+        // THEN
+        assertEquals(50_000, count);
+        assertEquals(sorted(sourceStorage.getAllMatches()), sorted(targetStorage.getAllMatches()));
+    }
+
+    @Test
+    void read_corruptedSnapshot() throws IOException {
+        // GIVEN
+        sourceStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", START_TIME));
+        byte[] snapshot = write(sourceStorage);
+        byte[] corrupted = snapshot.clone();
+        corrupted[20] ^= 1;
+        byte[] unsupported = snapshot.clone();
+        unsupported[7] = 9;
+
+        MatchStorage target = new InMemoryStorage();
+
+        // WHEN
+        MatchStorageException exception = assertThrows(MatchStorageException.class,
+                () -> StorageSnapshot.read(Channels.newChannel(new ByteArrayInputStream(corrupted)), target));
+
+        // THEN
+        assertEquals("Snapshot is corrupted", exception.getMessage());
+        assertTrue(target.getAllMatches().isEmpty());
+        assertThrows(MatchStorageException.class,
+                () -> StorageSnapshot.read(Channels.newChannel(new ByteArrayInputStream(unsupported)), new InMemoryStorage()));
+        assertThrows(MatchStorageException.class,
+                () -> StorageSnapshot.read(Channels.newChannel(new ByteArrayInputStream(snapshot, 0, snapshot.length - 3)), new InMemoryStorage()));
+    }
+
+    @Test
+    void read_negativeLengthsAreCorruption() throws IOException {
+        // GIVEN
+        sourceStorage.saveMatch(footballMatchFactory.createMatch("Spain", "Brazil", START_TIME));
+        byte[] snapshot = write(sourceStorage);
+        byte[] negativeCount = snapshot.clone();
+        negativeCount[16] = (byte) 0x80;
+        byte[] negativeNameLength = snapshot.clone();
+        negativeNameLength[65] = (byte) 0x80;
+        MatchStorage target = new InMemoryStorage();
+
+        // WHEN
+        MatchStorageException countException = assertThrows(MatchStorageException.class,
+                () -> StorageSnapshot.read(Channels.newChannel(new ByteArrayInputStream(negativeCount)), target));
+        MatchStorageException nameException = assertThrows(MatchStorageException.class,
+                () -> StorageSnapshot.read(Channels.newChannel(new ByteArrayInputStream(negativeNameLength)), target));
+
+        // THEN
+        assertEquals("Snapshot is corrupted", countException.getMessage());
+        assertEquals("Snapshot is corrupted", nameException.getMessage());
+        assertTrue(target.getAllMatches().isEmpty());
+    }
+
+    private static byte[] write(MatchStorage storage) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        StorageSnapshot.write(storage, Channels.newChannel(output));
+        return output.toByteArray();
+    }
+
+    private static List<FootballMatch> sorted(List<FootballMatch> matches) {
+        return matches.stream()
+                .sorted(Comparator.comparing(FootballMatch::id))
+                .toList();
+    }
+}
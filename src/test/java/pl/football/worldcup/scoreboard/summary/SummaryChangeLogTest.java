@@ -0,0 +1,89 @@
+package pl.football.worldcup.scoreboard.summary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SummaryChangeLogTest {
+
+    private SummaryChangeLog changeLog;
+
+    @BeforeEach
+    void resetState() {
+        changeLog = new SummaryChangeLog(3);
+    }
+
+    @Test
+    void append_assignsIncreasingVersions() {
+        // WHEN
+        long first = changeLog.append(1L, true);
+        long second = changeLog.append(1L, false);
+
+        // THEN
+        assertEquals(1, first);
+        assertEquals(2, second);
+        assertEquals(2, changeLog.currentVersion());
+    }
+
+    @Test
+    void changesSince_retainedVersion() {
+        // GIVEN
+        changeLog.append(1L, true);
+        changeLog.append(2L, true);
+        changeLog.append(1L, false);
+
+        // WHEN
+        Optional<List<SummaryChange>> changes = changeLog.changesSince(1);
+
+        // THEN
+        assertEquals(Optional.of(List.of(new SummaryChange(2, 2L, true), new SummaryChange(3, 1L, false))), changes);
+        assertEquals(Optional.of(List.of()), changeLog.changesSince(3));
+    }
+
+    @Test
+    void changesSince_versionTooOldOrUnknown() {
+        // GIVEN
+        for (long id = 1; id <= 5; id++) {
+            changeLog.append(id, true);
+        }
+
+        // WHEN / THEN
+        assertTrue(changeLog.changesSince(1).isEmpty());
+        assertTrue(changeLog.changesSince(6).isEmpty());
+        assertEquals(3, changeLog.changesSince(2).orElseThrow().size());
+    }
+
+    @Test
+    void delta_waitsForWriterBetweenSummaryChangeAndAppend() throws Exception {
+        // GIVEN
+        FootballMatch match = new FootballMatch(1L, "HomeTeam", "AwayTeam", LocalDateTime.now(), null, new MatchScore(0, 0));
+        List<FootballMatch> summary = List.of(match);
+        Lock changeLock = changeLog.changeLock();
+        changeLock.lock();
+
+        // WHEN
+        CompletableFuture<SummaryDelta> delta = CompletableFuture.supplyAsync(() -> changeLog.delta(0, () -> summary));
+        Thread.sleep(50);
+        boolean doneBeforeAppend = delta.isDone();
+        changeLog.append(1L, true);
+        changeLock.unlock();
+
+        // THEN
+        assertFalse(doneBeforeAppend);
+        SummaryDelta summaryDelta = delta.get(5, TimeUnit.SECONDS);
+        assertEquals(1, summaryDelta.toVersion());
+        assertEquals(List.of(new RankChange(RankChange.Type.INSERTED, 1L, 0, match)), summaryDelta.changes());
+    }
+}
@@ -0,0 +1,267 @@
+package pl.football.worldcup.scoreboard.summary;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SummaryIndexTest {
+
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2024, 9, 1, 1, 1, 1, 0);
+
+    private SummaryIndex summaryIndex;
+
+    @BeforeEach
+    void resetState() {
+        summaryIndex = new SummaryIndex();
+    }
+
+    @Test
+    void put_orderedByTotalScoreThenStartTime() {
+        // GIVEN
+        FootballMatch first = match(1L, START_TIME, 1, 1);
+        FootballMatch second = match(2L, START_TIME.plusSeconds(1), 2, 0);
+        FootballMatch third = match(3L, START_TIME.plusSeconds(2), 0, 1);
+
+        // WHEN
+        summaryIndex.put(first);
+        summaryIndex.put(third);
+        summaryIndex.put(second);
+
+        // THEN
+        assertEquals(List.of(second, first, third), summaryIndex.toList());
+    }
+
+    @Test
+    void put_sameStartTimeOrderedByMostRecentId() {
+        // GIVEN
+        FootballMatch first = match(1L, START_TIME, 1, 1);
+        FootballMatch second = match(2L, START_TIME, 1, 1);
+
+        // WHEN
+        summaryIndex.put(first);
+        summaryIndex.put(second);
+
+        // THEN
+        assertEquals(List.of(second, first), summaryIndex.toList());
+    }
+
+    @Test
+    void put_replacesPreviousScore() {
+        // GIVEN
+        FootballMatch first = match(1L, START_TIME, 0, 0);
+        FootballMatch second = match(2L, START_TIME.plusSeconds(1), 1, 0);
+        summaryIndex.put(first);
+        summaryIndex.put(second);
+        FootballMatch updatedFirst = first.toBuilder()
+                .matchScore(new MatchScore(2, 0))
+                .build();
+
+        // WHEN
+        summaryIndex.put(updatedFirst);
+
+        // THEN
+        assertEquals(2, summaryIndex.size());
+        assertEquals(List.of(updatedFirst, second), summaryIndex.toList());
+    }
+
+    @Test
+    void put_finishedMatchIsRemoved() {
+        // GIVEN
+        FootballMatch match = match(1L, START_TIME, 0, 0);
+        summaryIndex.put(match);
+
+        // WHEN
+        summaryIndex.put(match.toBuilder()
+                .endTime(START_TIME.plusMinutes(90))
+                .build());
+
+        // THEN
+        assertEquals(0, summaryIndex.size());
+        assertEquals(List.of(), summaryIndex.toList());
+    }
+
+    @Test
+    void put_lateStaleVersionDoesNotReviveFinishedMatch() {
+        // GIVEN
+        FootballMatch match = match(1L, START_TIME, 0, 0);
+        FootballMatch scored = match.toBuilder()
+                .matchScore(new MatchScore(1, 0))
+                .version(1L)
+                .build();
+        summaryIndex.put(match);
+        summaryIndex.put(scored.toBuilder()
+                .endTime(START_TIME.plusMinutes(90))
+                .version(2L)
+                .build());
+
+        // WHEN
+        summaryIndex.put(scored);
+
+        // THEN
+        assertEquals(List.of(), summaryIndex.toList());
+        assertEquals(1, summaryIndex.entryCount());
+    }
+
+    @Test
+    void put_finishedMatchTombstonesExpire() {
+        // GIVEN
+        int finishedMatches = SummaryIndex.TOMBSTONE_CAPACITY * 2;
+        FootballMatch live = match(0L, START_TIME, 1, 0);
+        summaryIndex.put(live);
+
+        // WHEN
+        for (long id = 1; id <= finishedMatches; id++) {
+            FootballMatch match = match(id, START_TIME, 0, 0);
+            summaryIndex.put(match);
+            summaryIndex.put(match.toBuilder()
+                    .endTime(START_TIME.plusMinutes(90))
+                    .version(1L)
+                    .build());
+        }
+
+        // THEN
+        assertEquals(List.of(live), summaryIndex.toList());
+        assertEquals(SummaryIndex.TOMBSTONE_CAPACITY + 1, summaryIndex.entryCount());
+    }
+
+    @Test
+    void remove_successfully() {
+        // GIVEN
+        FootballMatch first = match(1L, START_TIME, 0, 0);
+        FootballMatch second = match(2L, START_TIME.plusSeconds(1), 0, 0);
+        summaryIndex.put(first);
+        summaryIndex.put(second);
+
+        // WHEN
+        summaryIndex.remove(second.id());
+
+        // THEN
+        assertEquals(List.of(first), summaryIndex.toList());
+    }
+
+    @Test
+    void toList_cachedSnapshotUntilNextWrite() {
+        // GIVEN
+        FootballMatch first = match(1L, START_TIME, 0, 0);
+        summaryIndex.put(first);
+        List<FootballMatch> snapshot = summaryIndex.toList();
+
+        // WHEN
+        List<FootballMatch> cachedSnapshot = summaryIndex.toList();
+        summaryIndex.put(match(2L, START_TIME.plusSeconds(1), 0, 0));
+        List<FootballMatch> rebuiltSnapshot = summaryIndex.toList();
+
+        // THEN
+        assertSame(snapshot, cachedSnapshot);
+        assertNotSame(snapshot, rebuiltSnapshot);
+        assertEquals(List.of(first), snapshot);
+        assertEquals(2, rebuiltSnapshot.size());
+        assertThrows(UnsupportedOperationException.class, () -> rebuiltSnapshot.add(first));
+    }
+
+    @Test
+    void put_publishesSnapshotBeforeAnyRead() throws Exception {
+        // GIVEN
+        int threads = 4;
+        int matchesPerThread = 250;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // WHEN
+        for (int thread = 0; thread < threads; thread++) {
+            long firstId = thread * (long) matchesPerThread + 1;
+            futures.add(executor.submit(() -> {
+                for (long id = firstId; id < firstId + matchesPerThread; id++) {
+                    summaryIndex.put(match(id, START_TIME, (int) (id % 5), 0));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // THEN
+        List<FootballMatch> published = summaryIndex.publishedSnapshot();
+        assertEquals(threads * matchesPerThread, published.size());
+        assertSame(published, summaryIndex.toList());
+        assertEquals(published.subList(0, 10), summaryIndex.page(0, 10));
+    }
+
+    @Test
+    void page_successfully() {
+        // GIVEN
+        List<FootballMatch> matches = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            matches.add(match((long) i + 1, START_TIME.plusSeconds(i), i, 0));
+            summaryIndex.put(matches.get(i));
+        }
+
+        // WHEN / THEN
+        assertEquals(List.of(matches.get(4), matches.get(3)), summaryIndex.page(0, 2));
+        assertEquals(List.of(matches.get(2), matches.get(1)), summaryIndex.page(2, 2));
+        assertEquals(List.of(matches.get(0)), summaryIndex.page(4, 2));
+        assertEquals(List.of(), summaryIndex.page(10, 2));
+        assertEquals(List.of(), summaryIndex.page(0, 0));
+
+        summaryIndex.toList();
+        assertEquals(List.of(matches.get(2), matches.get(1)), summaryIndex.page(2, 2));
+        assertEquals(List.of(), summaryIndex.page(10, 2));
+        assertEquals(List.of(matches.get(4)), summaryIndex.page(0, 1));
+    }
+
+    @Test
+    void page_negativeArguments() {
+        // WHEN
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> summaryIndex.page(-1, 2));
+
+        // THEN
+        assertEquals("Offset and limit can not be negative", exception.getMessage());
+    }
+
+    @Test
+    void put_goalMovesMatchBetweenBucketsAndOverflowKeepsOrder() {
+        // GIVEN
+        FootballMatch first = match(1L, START_TIME, 1, 0);
+        FootballMatch second = match(2L, START_TIME.plusSeconds(1), 1, 0);
+        FootballMatch highScore = match(3L, START_TIME, 40, 30);
+        FootballMatch higherScore = match(4L, START_TIME.plusSeconds(1), 35, 30);
+        summaryIndex.putAll(List.of(first, second, highScore, higherScore));
+
+        // WHEN
+        FootballMatch scored = first.toBuilder()
+                .matchScore(new MatchScore(2, 0))
+                .version(1L)
+                .build();
+        summaryIndex.put(scored);
+
+        // THEN
+        assertEquals(List.of(highScore, higherScore, scored, second), summaryIndex.toList());
+        assertEquals(List.of(scored, second), summaryIndex.page(2, 5));
+        assertEquals(4, summaryIndex.size());
+    }
+
+    private FootballMatch match(Long id, LocalDateTime startTime, int homeScore, int awayScore) {
+        return FootballMatch.builder()
+                .id(id)
+                .homeTeam("HomeTeam")
+                .awayTeam("AwayTeam")
+                .startTime(startTime)
+                .matchScore(new MatchScore(homeScore, awayScore))
+                .build();
+    }
+}
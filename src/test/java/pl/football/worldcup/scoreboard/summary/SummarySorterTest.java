@@ -0,0 +1,103 @@
+package pl.football.worldcup.scoreboard.summary;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.football.worldcup.scoreboard.model.FootballMatch;
+import pl.football.worldcup.scoreboard.model.MatchScore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SummarySorterTest {
+
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2024, 9, 1, 1, 1, 1);
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void initBeforeTest() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void sortParallel_sameOrderAsSequentialSort() {
+        // GIVEN
+        List<FootballMatch> matches = randomMatches(SummarySorter.PARALLEL_THRESHOLD * 5 + 17);
+        List<FootballMatch> expected = new ArrayList<>(matches);
+        expected.sort(SummaryIndex.SUMMARY_ORDER);
+
+        // WHEN
+        List<FootballMatch> sorted = SummarySorter.sortParallel(matches, pool);
+
+        // THEN
+        assertEquals(expected, sorted);
+        assertEquals(expected, SummarySorter.sort(matches, pool));
+        assertEquals(expected, SummarySorter.sortSequential(matches));
+    }
+
+    @Test
+    void sort_customThresholdSplitsDownToSmallPartitions() {
+        // GIVEN
+        List<FootballMatch> matches = randomMatches(1_001);
+        List<FootballMatch> expected = new ArrayList<>(matches);
+        expected.sort(SummaryIndex.SUMMARY_ORDER);
+
+        // WHEN
+        // THEN
+        assertEquals(expected, SummarySorter.sort(matches, pool, 1));
+        assertEquals(expected, SummarySorter.sortParallel(matches, pool, 3));
+    }
+
+    @Test
+    void sort_rejectsNonPositiveThreshold() {
+        // GIVEN
+        List<FootballMatch> matches = randomMatches(10);
+
+        // WHEN
+        // THEN
+        assertThrows(IllegalArgumentException.class, () -> SummarySorter.sort(matches, pool, 0));
+        assertThrows(IllegalArgumentException.class, () -> SummarySorter.sortParallel(matches, pool, -1));
+    }
+
+    @Test
+    void summaryIndex_bulkLoadPublishesSortedSnapshot() {
+        // GIVEN
+        List<FootballMatch> matches = randomMatches(1_000);
+        List<FootballMatch> expected = new ArrayList<>(matches);
+        expected.sort(SummaryIndex.SUMMARY_ORDER);
+
+        // WHEN
+        SummaryIndex summaryIndex = new SummaryIndex(matches);
+
+        // THEN
+        assertEquals(expected, summaryIndex.toList());
+        assertEquals(expected.subList(10, 20), summaryIndex.page(10, 10));
+    }
+
+    private static List<FootballMatch> randomMatches(int count) {
+        Random random = new Random(7);
+        List<FootballMatch> matches = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            matches.add(FootballMatch.builder()
+                    .id(i + 1L)
+                    .homeTeam("Home" + i)
+                    .awayTeam("Away" + i)
+                    .startTime(START_TIME.plusSeconds(random.nextInt(100)))
+                    .matchScore(new MatchScore(random.nextInt(6), random.nextInt(6)))
+                    .build());
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,81 @@
+package pl.football.worldcup.scoreboard.team;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TeamRegistryTest {
+
+    private TeamRegistry teamRegistry;
+
+    @BeforeEach
+    void resetState() {
+        teamRegistry = new TeamRegistry(2);
+    }
+
+    @Test
+    void resolve_registersTeamOnce() {
+        // GIVEN
+        String spain = teamRegistry.resolve("Spain");
+
+        // WHEN
+        String team = teamRegistry.resolve(new String("Spain"));
+
+        // THEN
+        assertSame(spain, team);
+        assertEquals(1, teamRegistry.size());
+    }
+
+    @Test
+    void resolve_incorrectNameIsNotRegistered() {
+        // WHEN
+        String team = teamRegistry.resolve("Ab");
+
+        // THEN
+        assertNull(team);
+        assertNull(teamRegistry.resolve(null));
+        assertEquals(0, teamRegistry.size());
+    }
+
+    @Test
+    void resolve_fullRegistryOnlyValidates() {
+        // GIVEN
+        teamRegistry.resolve("Spain");
+        teamRegistry.resolve("Brazil");
+        String mexico = new String("Mexico");
+
+        // WHEN
+        String team = teamRegistry.resolve(mexico);
+
+        // THEN
+        assertSame(mexico, team);
+        assertNotSame(team, teamRegistry.resolve(new String("Mexico")));
+        assertNull(teamRegistry.resolve("Me"));
+        assertEquals(2, teamRegistry.size());
+    }
+
+    @Test
+    void idOf_assignsCompactIdsInRegistrationOrder() {
+        // GIVEN
+        String spain = teamRegistry.resolve("Spain");
+
+        // WHEN
+        int spainId = teamRegistry.idOf(new String("Spain"));
+        int brazilId = teamRegistry.idOf("Brazil");
+        int mexicoId = teamRegistry.idOf("Mexico");
+
+        // THEN
+        assertEquals(0, spainId);
+        assertEquals(1, brazilId);
+        assertEquals(TeamRegistry.UNREGISTERED_ID, mexicoId);
+        assertSame(spain, teamRegistry.name(spainId));
+        assertEquals(brazilId, teamRegistry.find("Brazil"));
+        assertEquals(TeamRegistry.UNREGISTERED_ID, teamRegistry.find("Mexico"));
+        assertNull(teamRegistry.name(2));
+        assertNull(teamRegistry.name(TeamRegistry.UNREGISTERED_ID));
+    }
+}
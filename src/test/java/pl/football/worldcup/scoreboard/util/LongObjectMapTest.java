@@ -0,0 +1,110 @@
+package pl.football.worldcup.scoreboard.util;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LongObjectMapTest {
+
+    private LongObjectMap<String> map;
+
+    @BeforeEach
+    void resetState() {
+        map = new LongObjectMap<>();
+    }
+
+    @Test
+    void putIfAbsent_successfully() {
+        // WHEN
+        String previous = map.putIfAbsent(1L, "first");
+
+        // THEN
+        assertNull(previous);
+        assertEquals("first", map.get(1L));
+        assertNull(map.get(2L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void putIfAbsent_alreadyExist() {
+        // GIVEN
+        map.putIfAbsent(1L, "first");
+
+        // WHEN
+        String previous = map.putIfAbsent(1L, "second");
+
+        // THEN
+        assertEquals("first", previous);
+        assertEquals("first", map.get(1L));
+    }
+
+    @Test
+    void putIfAbsent_growsTable() {
+        // GIVEN
+        int entries = 10_000;
+
+        // WHEN
+        for (long key = 1; key <= entries; key++) {
+            map.putIfAbsent(key * 31, String.valueOf(key));
+        }
+
+        // THEN
+        assertEquals(entries, map.size());
+        for (long key = 1; key <= entries; key++) {
+            assertEquals(String.valueOf(key), map.get(key * 31));
+        }
+        List<String> values = map.values();
+        assertEquals(entries, values.size());
+        assertEquals(entries, new HashSet<>(values).size());
+    }
+
+    @Test
+    void remove_successfully() {
+        // GIVEN
+        for (long key = 1; key <= 100; key++) {
+            map.putIfAbsent(key, String.valueOf(key));
+        }
+
+        // WHEN
+        String removed = map.remove(50L);
+
+        // THEN
+        assertEquals("50", removed);
+        assertNull(map.get(50L));
+        assertNull(map.remove(50L));
+        assertEquals(99, map.size());
+        assertEquals(99, map.values().size());
+        assertEquals("51", map.get(51L));
+        assertNull(map.putIfAbsent(50L, "again"));
+        assertEquals("again", map.get(50L));
+    }
+
+    @Test
+    void remove_tombstonesDroppedOnResize() {
+        // WHEN
+        for (long key = 1; key <= 10_000; key++) {
+            map.putIfAbsent(key, String.valueOf(key));
+            map.remove(key);
+        }
+
+        // THEN
+        assertEquals(0, map.size());
+        assertEquals(List.of(), map.values());
+        assertNull(map.get(10_000L));
+    }
+
+    @Test
+    void putIfAbsent_reservedKey() {
+        // WHEN
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> map.putIfAbsent(0L, "zero"));
+
+        // THEN
+        assertEquals("Key 0 is reserved", exception.getMessage());
+    }
+}